@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2007 XStream Committers.
+ * Copyright (C) 2007, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -10,7 +10,15 @@
  */
 package com.thoughtworks.xstream;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+
 /**
+ * An immutable facade for a configured XStream instance. The configuration of the wrapped instance
+ * cannot be changed anymore, therefore the facade can be shared by concurrent threads.
+ *
  * @author Guilherme Silveira
  * @since upcoming 
  */
@@ -29,4 +37,32 @@ public class ReadOnlyXStream {
     public String toXML(Object obj) {
         return xstream.toXML(obj);
     }
+
+    /**
+     * @since upcoming
+     */
+    public Object fromXML(Reader xml) {
+        return xstream.fromXML(xml);
+    }
+
+    /**
+     * @since upcoming
+     */
+    public Object fromXML(InputStream xml) {
+        return xstream.fromXML(xml);
+    }
+
+    /**
+     * @since upcoming
+     */
+    public void toXML(Object obj, Writer out) {
+        xstream.toXML(obj, out);
+    }
+
+    /**
+     * @since upcoming
+     */
+    public void toXML(Object obj, OutputStream out) {
+        xstream.toXML(obj, out);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2007 XStream Committers.
+ * Copyright (C) 2007, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -15,6 +15,7 @@ import java.util.List;
 
 import com.thoughtworks.xstream.XStream;
 import com.thoughtworks.xstream.builder.processor.ConfigProcessor;
+import com.thoughtworks.xstream.builder.processor.ImplementedByProcessor;
 import com.thoughtworks.xstream.builder.processor.TypeConfigProcessor;
 
 /**
@@ -52,4 +53,20 @@ public class TypeConfig implements ConfigProcessor {
         this.childrenNodes.add(processor);
     }
 
+    /**
+     * Collects the configured type and its default implementations.
+     *
+     * @param types the list to add the types to
+     * @since upcoming
+     */
+    public void collectTypes(List types) {
+        types.add(type);
+        for (int i = 0; i < childrenNodes.size(); i++) {
+            Object node = childrenNodes.get(i);
+            if (node instanceof ImplementedByProcessor) {
+                types.add(((ImplementedByProcessor) node).getDefaultImplementation());
+            }
+        }
+    }
+
 }
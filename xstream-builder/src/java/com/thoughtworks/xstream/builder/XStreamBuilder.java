@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2007 XStream Committers.
+ * Copyright (C) 2007, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -10,11 +10,16 @@
  */
 package com.thoughtworks.xstream.builder;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.thoughtworks.xstream.ReadOnlyXStream;
 import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.XStreamException;
 import com.thoughtworks.xstream.builder.processor.AbsoluteReferencesProcessor;
 import com.thoughtworks.xstream.builder.processor.AliasFieldProcessor;
 import com.thoughtworks.xstream.builder.processor.AliasTypeProcessor;
@@ -28,10 +33,18 @@ import com.thoughtworks.xstream.builder.processor.NoReferencesProcessor;
 import com.thoughtworks.xstream.builder.processor.TypeConfigProcessor;
 import com.thoughtworks.xstream.builder.processor.annotations.AnnotatedTypeProcessor;
 import com.thoughtworks.xstream.converters.Converter;
+import com.thoughtworks.xstream.converters.reflection.AbstractReflectionConverter;
+import com.thoughtworks.xstream.mapper.Mapper;
 
 /**
  * The base xstream builder. This is xstream's new entrypoint. Instantiate a builder, configure it
  * and invoke buildXStream at the end.
+ * <p>
+ * Since the builder knows all handled types in advance, the configured instance is compiled for
+ * these types before it is wrapped: the types are allowed explicitly and the caches for aliases,
+ * converters and fields are filled for them and for the types of their fields. The instance itself
+ * is never exposed, the returned facade is immutable and thread-safe.
+ * </p>
  *
  * @author Guilherme Silveira
  * @since upcoming
@@ -48,13 +61,72 @@ public class XStreamBuilder {
 
     public ReadOnlyXStream buildXStream() {
         XStream instance = createBasicInstance();
+        List types = new ArrayList();
         for(int i=0;i<childrenNodes.size();i++) {
             ConfigProcessor node = (ConfigProcessor) childrenNodes.get(i);
             node.process(instance);
+            if (node instanceof TypeConfig) {
+                ((TypeConfig) node).collectTypes(types);
+            }
         }
+        compile(instance, (Class[]) types.toArray(new Class[types.size()]));
         return new ReadOnlyXStream(instance);
     }
 
+    /**
+     * Extension point to optimize the configured instance for the handled types. The default
+     * implementation allows the handled types and fills the caches of the instance for them.
+     * @param instance the configured instance
+     * @param types the handled types and their default implementations
+     * @since upcoming
+     */
+    protected void compile(XStream instance, Class[] types) {
+        instance.allowTypes(types);
+        Set visited = new HashSet();
+        for (int i = 0; i < types.length; i++) {
+            prime(instance, types[i], true, visited);
+        }
+    }
+
+    private void prime(XStream instance, Class type, boolean handled, Set visited) {
+        if (type == null || type.isPrimitive() || !visited.add(type)) {
+            return;
+        }
+        Mapper mapper = instance.getMapper();
+        try {
+            String name = mapper.serializedClass(type);
+            if (handled) {
+                mapper.realClass(name);
+            }
+            mapper.defaultImplementationOf(type);
+            mapper.isImmutableValueType(type);
+            mapper.isReferenceable(type);
+            Converter converter = instance.getConverterLookup().lookupConverterForType(type);
+            if (!(converter instanceof AbstractReflectionConverter)) {
+                return;
+            }
+        } catch (XStreamException e) {
+            // type is not handled by this configuration
+            return;
+        }
+        for (Class cls = type; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            Field[] fields = cls.getDeclaredFields();
+            for (int i = 0; i < fields.length; i++) {
+                Field field = fields[i];
+                if ((field.getModifiers() & (Modifier.STATIC | Modifier.TRANSIENT)) != 0) {
+                    continue;
+                }
+                try {
+                    instance.getReflectionProvider().getFieldOrNull(cls, field.getName());
+                    mapper.realMember(cls, mapper.serializedMember(cls, field.getName()));
+                } catch (XStreamException e) {
+                    continue;
+                }
+                prime(instance, field.getType(), false, visited);
+            }
+        }
+    }
+
     /**
      * Extension point to allow lower-level programmers to create their own xstream instance.
      * @return the xstream instance to configure and wrap
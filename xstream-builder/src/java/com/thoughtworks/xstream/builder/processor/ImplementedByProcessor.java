@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2007 XStream Committers.
+ * Copyright (C) 2007, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -24,4 +24,11 @@ public class ImplementedByProcessor implements TypeConfigProcessor {
 		instance.addDefaultImplementation(defaultImplementation, type);
 	}
 
+	/**
+	 * @since upcoming
+	 */
+	public Class getDefaultImplementation() {
+		return defaultImplementation;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2007 XStream Committers.
+ * Copyright (C) 2007, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -15,6 +15,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 
+import com.thoughtworks.xstream.ReadOnlyXStream;
 import com.thoughtworks.xstream.builder.XStreamBuilder;
 import com.thoughtworks.xstream.builder.processor.TypeConfigProcessor;
 import com.thoughtworks.xstream.converters.Converter;
@@ -22,6 +23,7 @@ import com.thoughtworks.xstream.converters.MarshallingContext;
 import com.thoughtworks.xstream.converters.UnmarshallingContext;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+import com.thoughtworks.xstream.security.ForbiddenClassException;
 
 /**
  * @author Guilherme Silveira
@@ -205,5 +207,24 @@ public class XStreamBuilderTest extends AbstractBuilderAcceptanceTest {
         assertBothWays(builder.buildXStream(), root, expected);
 
     }
-    
+
+    public void testAllowsHandledTypesOnly() {
+
+        XStreamBuilder builder = new XStreamBuilder() {
+            {
+                handle(Office.class).with(alias("office"));
+            }
+        };
+
+        ReadOnlyXStream xstream = builder.buildXStream();
+        Office office = (Office) xstream.fromXML("<office>\n  <address>Rua Vergueiro</address>\n</office>");
+        assertEquals("Rua Vergueiro", office.address);
+        try {
+            xstream.fromXML("<" + Home.class.getName().replaceAll("\\$", "_-") + "/>");
+            fail("Thrown " + ForbiddenClassException.class.getName() + " expected");
+        } catch (ForbiddenClassException e) {
+            // ok
+        }
+    }
+
 }
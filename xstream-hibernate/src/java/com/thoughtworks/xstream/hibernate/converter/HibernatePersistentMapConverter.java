@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011, 2012, 2013, 2014 XStream Committers.
+ * Copyright (C) 2011, 2012, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,22 +11,30 @@
 package com.thoughtworks.xstream.hibernate.converter;
 
 import com.thoughtworks.xstream.converters.ConversionException;
+import com.thoughtworks.xstream.converters.MarshallingContext;
 import com.thoughtworks.xstream.converters.UnmarshallingContext;
 import com.thoughtworks.xstream.converters.collections.MapConverter;
 import com.thoughtworks.xstream.hibernate.util.Hibernate;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
 import com.thoughtworks.xstream.mapper.Mapper;
 
 
 /**
  * A converter for Hibernate's PersistentMap and for the MapProxy from Hibernate's Envers add-on. The converter will
  * drop any reference to the Hibernate collection and emit at serialization time an equivalent JDK collection instead.
+ * <p>
+ * The converter can be configured to keep an uninitialized collection untouched. It writes then an empty element marked
+ * with the system attribute <em>lazy</em> instead of loading the collection from the database.
+ * </p>
  *
  * @author J&ouml;rg Schaible
  * @since 1.4
  */
 public class HibernatePersistentMapConverter extends MapConverter {
 
+    private final boolean initialize;
+
     /**
      * Construct a HibernatePersistentMapConverter.
      *
@@ -34,7 +42,19 @@ public class HibernatePersistentMapConverter extends MapConverter {
      * @since 1.4
      */
     public HibernatePersistentMapConverter(final Mapper mapper) {
+        this(mapper, true);
+    }
+
+    /**
+     * Construct a HibernatePersistentMapConverter that may leave uninitialized collections untouched.
+     *
+     * @param mapper the mapper
+     * @param initialize <code>false</code> to mark an uninitialized collection as lazy instead of loading it
+     * @since upcoming
+     */
+    public HibernatePersistentMapConverter(final Mapper mapper, final boolean initialize) {
         super(mapper);
+        this.initialize = initialize;
     }
 
     @Override
@@ -42,6 +62,15 @@ public class HibernatePersistentMapConverter extends MapConverter {
         return type != null && (type == Hibernate.PersistentMap || type == Hibernate.EnversMap);
     }
 
+    @Override
+    public void marshal(final Object source, final HierarchicalStreamWriter writer, final MarshallingContext context) {
+        if (!initialize && Hibernate.isUninitialized(source)) {
+            Hibernate.markUninitialized(writer, mapper());
+        } else {
+            super.marshal(source, writer, context);
+        }
+    }
+
     @Override
     public Object unmarshal(final HierarchicalStreamReader reader, final UnmarshallingContext context) {
         throw new ConversionException("Cannot deserialize Hibernate collection");
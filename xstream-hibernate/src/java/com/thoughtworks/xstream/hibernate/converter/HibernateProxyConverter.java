@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2007, 2011, 2014, 2018 XStream Committers.
+ * Copyright (C) 2007, 2011, 2014, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,22 +11,53 @@
 package com.thoughtworks.xstream.hibernate.converter;
 
 import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 
 import com.thoughtworks.xstream.converters.ConversionException;
 import com.thoughtworks.xstream.converters.Converter;
 import com.thoughtworks.xstream.converters.MarshallingContext;
 import com.thoughtworks.xstream.converters.UnmarshallingContext;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
+import com.thoughtworks.xstream.hibernate.util.Hibernate;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+import com.thoughtworks.xstream.mapper.Mapper;
 
 
 /**
  * Converter for Hibernate proxy instances. The converter will effectively remove any trace of the proxy.
+ * <p>
+ * The converter can be configured to keep an uninitialized proxy untouched. It writes then only the identifier of the
+ * entity into an element marked with the system attribute <em>lazy</em> instead of loading the entity from the
+ * database.
+ * </p>
  *
  * @author Konstantin Pribluda
  * @author J&ouml;rg Schaible
  */
 public class HibernateProxyConverter implements Converter {
+
+    private final Mapper mapper;
+    private final boolean initialize;
+
+    /**
+     * Construct a HibernateProxyConverter that initializes any proxy.
+     */
+    public HibernateProxyConverter() {
+        this(null, true);
+    }
+
+    /**
+     * Construct a HibernateProxyConverter that may leave uninitialized proxies untouched.
+     *
+     * @param mapper the mapper
+     * @param initialize <code>false</code> to write only the identifier of an uninitialized proxy
+     * @since upcoming
+     */
+    public HibernateProxyConverter(final Mapper mapper, final boolean initialize) {
+        this.mapper = mapper;
+        this.initialize = initialize;
+    }
+
     @Override
     public boolean canConvert(final Class<?> clazz) {
         // be responsible for Hibernate proxy.
@@ -35,8 +66,13 @@ public class HibernateProxyConverter implements Converter {
 
     @Override
     public void marshal(final Object object, final HierarchicalStreamWriter writer, final MarshallingContext context) {
-        final Object item = ((HibernateProxy)object).getHibernateLazyInitializer().getImplementation();
-        context.convertAnother(item);
+        final LazyInitializer initializer = ((HibernateProxy)object).getHibernateLazyInitializer();
+        if (!initialize && initializer.isUninitialized()) {
+            Hibernate.markUninitialized(writer, mapper);
+            context.convertAnother(initializer.getIdentifier());
+        } else {
+            context.convertAnother(initializer.getImplementation());
+        }
     }
 
     @Override
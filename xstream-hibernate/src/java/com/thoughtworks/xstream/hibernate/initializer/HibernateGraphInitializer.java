@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.hibernate.initializer;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.criterion.Restrictions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metadata.ClassMetadata;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.reflection.ReflectionProvider;
+import com.thoughtworks.xstream.mapper.Mapper;
+
+
+/**
+ * Initializer for the lazy associations of a Hibernate object graph.
+ * <p>
+ * The converters for the Hibernate proxies and collections initialize every lazy association on its own while the
+ * graph is marshalled, i.e. each uninitialized proxy and collection costs a separate database round trip. The
+ * initializer walks the graph in advance with the reflection provider of the XStream instance, skipping any field that
+ * is omitted by its mapper. It collects the uninitialized proxies grouped by their entity name and the uninitialized
+ * collections grouped by their role and loads each group with a single query per batch. The walk continues with the
+ * loaded objects until the complete graph is initialized. Call the initializer within an open session and marshal the
+ * graph afterwards:
+ * </p>
+ *
+ * <pre>
+ * new HibernateGraphInitializer(session, xstream).initialize(division);
+ * String xml = xstream.toXML(division);
+ * </pre>
+ * <p>
+ * Types of the JDK are not walked except collections, maps and arrays. Proxies of entities with composite identifiers
+ * and collections that are not keyed by the primary key of their owner are initialized individually.
+ * </p>
+ *
+ * @since upcoming
+ */
+public class HibernateGraphInitializer {
+
+    /**
+     * The default number of proxies or collections that are loaded with a single query.
+     *
+     * @since upcoming
+     */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    private final Session session;
+    private final ReflectionProvider reflectionProvider;
+    private final Mapper mapper;
+    private final int batchSize;
+
+    /**
+     * Construct a HibernateGraphInitializer with the default batch size.
+     *
+     * @param session the open Hibernate session of the graph
+     * @param xstream the XStream instance used to marshal the graph
+     * @since upcoming
+     */
+    public HibernateGraphInitializer(final Session session, final XStream xstream) {
+        this(session, xstream, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Construct a HibernateGraphInitializer.
+     *
+     * @param session the open Hibernate session of the graph
+     * @param xstream the XStream instance used to marshal the graph
+     * @param batchSize the maximum number of proxies or collections loaded with a single query
+     * @throws IllegalArgumentException if the batch size is not positive
+     * @since upcoming
+     */
+    public HibernateGraphInitializer(final Session session, final XStream xstream, final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.session = session;
+        reflectionProvider = xstream.getReflectionProvider();
+        mapper = xstream.getMapper();
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Initialize all lazy associations reachable from the root object.
+     *
+     * @param root the root of the graph
+     * @throws HibernateException if the associations cannot be loaded
+     * @since upcoming
+     */
+    public void initialize(final Object root) {
+        final Walk walk = new Walk();
+        walk.push(root);
+        while (!walk.pending.isEmpty()) {
+            while (!walk.pending.isEmpty()) {
+                walk.visit(walk.pending.poll());
+            }
+            loadProxies(walk);
+            loadCollections(walk);
+        }
+    }
+
+    private void loadProxies(final Walk walk) {
+        final Map<String, List<LazyInitializer>> proxies = new LinkedHashMap<>(walk.proxies);
+        walk.proxies.clear();
+        for (final Map.Entry<String, List<LazyInitializer>> entry : proxies.entrySet()) {
+            final String entityName = entry.getKey();
+            final List<LazyInitializer> initializers = entry.getValue();
+            final ClassMetadata metadata = session.getSessionFactory().getClassMetadata(entityName);
+            final String idName = metadata != null ? metadata.getIdentifierPropertyName() : null;
+            if (idName != null) {
+                for (int i = 0; i < initializers.size(); i += batchSize) {
+                    final List<Serializable> ids = new ArrayList<>();
+                    for (final LazyInitializer initializer : initializers.subList(i, Math.min(i + batchSize,
+                        initializers.size()))) {
+                        if (initializer.isUninitialized()) {
+                            ids.add(initializer.getIdentifier());
+                        }
+                    }
+                    if (!ids.isEmpty()) {
+                        // loads the entities into the session, the proxies are resolved from there
+                        session.createCriteria(entityName).add(Restrictions.in(idName, ids)).list();
+                    }
+                }
+            }
+            for (final LazyInitializer initializer : initializers) {
+                walk.push(initializer.getImplementation());
+            }
+        }
+    }
+
+    private void loadCollections(final Walk walk) {
+        final Map<String, List<PersistentCollection>> collections = new LinkedHashMap<>(walk.collections);
+        walk.collections.clear();
+        for (final Map.Entry<String, List<PersistentCollection>> entry : collections.entrySet()) {
+            final List<PersistentCollection> list = entry.getValue();
+            final String hql = fetchQuery(entry.getKey());
+            if (hql != null) {
+                for (int i = 0; i < list.size(); i += batchSize) {
+                    final List<Serializable> keys = new ArrayList<>();
+                    for (final PersistentCollection collection : list.subList(i, Math.min(i + batchSize, list
+                        .size()))) {
+                        if (!collection.wasInitialized()) {
+                            keys.add(collection.getKey());
+                        }
+                    }
+                    if (!keys.isEmpty()) {
+                        // the fetch join initializes the collections of the owners in the session
+                        session.createQuery(hql).setParameterList("keys", keys).list();
+                    }
+                }
+            }
+            for (final PersistentCollection collection : list) {
+                collection.forceInitialization();
+                walk.visitContent(collection);
+            }
+        }
+    }
+
+    private String fetchQuery(final String role) {
+        final SessionFactoryImplementor factory = (SessionFactoryImplementor)session.getSessionFactory();
+        try {
+            final CollectionPersister persister = factory.getCollectionPersister(role);
+            final EntityPersister owner = persister.getOwnerEntityPersister();
+            final String idName = owner.getIdentifierPropertyName();
+            final String ownerName = owner.getEntityName();
+            if (idName == null || !persister.getCollectionType().useLHSPrimaryKey() || !role.startsWith(ownerName
+                + '.')) {
+                return null;
+            }
+            final String path = role.substring(ownerName.length() + 1);
+            if (!owner.getPropertyType(path).isCollectionType()) {
+                return null;
+            }
+            return "select distinct o from "
+                + ownerName
+                + " o left join fetch o."
+                + path
+                + " where o."
+                + idName
+                + " in (:keys)";
+        } catch (final HibernateException e) {
+            // not a path of the owner
+            return null;
+        }
+    }
+
+    private class Walk {
+        private final Map<Object, Object> visited = new IdentityHashMap<>();
+        private final Deque<Object> pending = new ArrayDeque<>();
+        private final Map<String, List<LazyInitializer>> proxies = new LinkedHashMap<>();
+        private final Map<String, List<PersistentCollection>> collections = new LinkedHashMap<>();
+
+        void visit(final Object object) {
+            if (visited.put(object, object) != null) {
+                return;
+            }
+            if (object instanceof HibernateProxy) {
+                final LazyInitializer initializer = ((HibernateProxy)object).getHibernateLazyInitializer();
+                if (initializer.isUninitialized()) {
+                    add(proxies, initializer.getEntityName(), initializer);
+                } else {
+                    push(initializer.getImplementation());
+                }
+            } else if (object instanceof PersistentCollection && !((PersistentCollection)object).wasInitialized()) {
+                final PersistentCollection collection = (PersistentCollection)object;
+                add(collections, collection.getRole(), collection);
+            } else {
+                visitContent(object);
+            }
+        }
+
+        void visitContent(final Object object) {
+            final Class<?> type = object.getClass();
+            if (object instanceof Collection) {
+                for (final Object element : (Collection<?>)object) {
+                    push(element);
+                }
+            } else if (object instanceof Map) {
+                for (final Map.Entry<?, ?> entry : ((Map<?, ?>)object).entrySet()) {
+                    push(entry.getKey());
+                    push(entry.getValue());
+                }
+            } else if (type.isArray()) {
+                if (!type.getComponentType().isPrimitive()) {
+                    for (final Object element : (Object[])object) {
+                        push(element);
+                    }
+                }
+            } else if (!type.isEnum() && !isJdkType(type)) {
+                reflectionProvider.visitSerializableFields(object, new ReflectionProvider.Visitor() {
+                    @Override
+                    public void visit(final String name, final Class<?> fieldType, final Class<?> definedIn,
+                            final Object value) {
+                        if (!fieldType.isPrimitive() && mapper.shouldSerializeMember(definedIn, name)) {
+                            push(value);
+                        }
+                    }
+                });
+            }
+        }
+
+        void push(final Object object) {
+            if (object != null) {
+                pending.add(object);
+            }
+        }
+
+        private <T> void add(final Map<String, List<T>> groups, final String name, final T element) {
+            List<T> list = groups.get(name);
+            if (list == null) {
+                list = new ArrayList<>();
+                groups.put(name, list);
+            }
+            list.add(element);
+        }
+    }
+
+    private static boolean isJdkType(final Class<?> type) {
+        final String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("sun.");
+    }
+}
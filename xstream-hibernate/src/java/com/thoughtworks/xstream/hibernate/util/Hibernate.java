@@ -1,13 +1,17 @@
 /*
- * Copyright (C) 2012, 2013, 2014, 2018 XStream Committers.
+ * Copyright (C) 2012, 2013, 2014, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * Created on 08.06.2012 by Joerg Schaible
  */
 package com.thoughtworks.xstream.hibernate.util;
 
+import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.proxy.HibernateProxy;
 
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+import com.thoughtworks.xstream.mapper.Mapper;
+
 
 /**
  * Utility class for Hibernate support.
@@ -39,6 +43,34 @@ public class Hibernate {
     /** <code>EnversSortedSet</code> contains the SortedSetProxy class type for Hibernate Envers. */
     public final static Class<?> EnversSortedSet = loadHibernateEnversType("org.hibernate.envers.entities.mapper.relation.lazy.proxy.SortedSetProxy");
 
+    /**
+     * Check whether an object is an uninitialized Hibernate proxy or collection.
+     *
+     * @param object the object to check
+     * @return <code>true</code> if the object has not been loaded yet
+     * @since upcoming
+     */
+    public static boolean isUninitialized(final Object object) {
+        if (object instanceof HibernateProxy) {
+            return ((HibernateProxy)object).getHibernateLazyInitializer().isUninitialized();
+        }
+        return object instanceof PersistentCollection && !((PersistentCollection)object).wasInitialized();
+    }
+
+    /**
+     * Mark the current element as uninitialized association with the system attribute <em>lazy</em>.
+     *
+     * @param writer the writer positioned at the element
+     * @param mapper the mapper to look up the alias of the attribute
+     * @since upcoming
+     */
+    public static void markUninitialized(final HierarchicalStreamWriter writer, final Mapper mapper) {
+        final String attributeName = mapper.aliasForSystemAttribute("lazy");
+        if (attributeName != null) {
+            writer.addAttribute(attributeName, "true");
+        }
+    }
+
     private static Class<?> loadHibernateType(final String name) {
         Class<?> type = null;
         try {
@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package acceptance.hibernate;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.stat.Statistics;
+
+import acceptance.hibernate.reference.BaseDomainObject;
+import acceptance.hibernate.reference.Department;
+import acceptance.hibernate.reference.Division;
+import acceptance.hibernate.reference.Person;
+import acceptance.hibernate.reference.Site;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.hibernate.converter.HibernatePersistentCollectionConverter;
+import com.thoughtworks.xstream.hibernate.converter.HibernatePersistentMapConverter;
+import com.thoughtworks.xstream.hibernate.converter.HibernatePersistentSortedMapConverter;
+import com.thoughtworks.xstream.hibernate.converter.HibernatePersistentSortedSetConverter;
+import com.thoughtworks.xstream.hibernate.converter.HibernateProxyConverter;
+import com.thoughtworks.xstream.hibernate.initializer.HibernateGraphInitializer;
+
+
+public class HibernateGraphInitializerTest extends AbstractHibernateAcceptanceTest {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        xstream.alias("department", Department.class);
+        xstream.alias("division", Division.class);
+        xstream.alias("person", Person.class);
+        xstream.alias("site", Site.class);
+        setupPersistentDivision();
+    }
+
+    @Override
+    protected void tearDown() {
+        try {
+            final Session session = getSessionFactory().getCurrentSession();
+            session.beginTransaction();
+            session.delete(session.createQuery("from Division").uniqueResult());
+            for (final Object site : session.createQuery("from Site").list()) {
+                session.delete(site);
+            }
+            session.getTransaction().commit();
+        } catch (final RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    public void testLoadsLazyAssociationsInBatches() {
+        final Statistics statistics = getSessionFactory().getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            Session session = getSessionFactory().getCurrentSession();
+            session.beginTransaction();
+            statistics.clear();
+            Division division = (Division)session.createQuery("from Division").uniqueResult();
+            xstream.toXML(division);
+            final long singleLoads = statistics.getPrepareStatementCount();
+            session.getTransaction().commit();
+
+            session = getSessionFactory().getCurrentSession();
+            session.beginTransaction();
+            statistics.clear();
+            division = (Division)session.createQuery("from Division").uniqueResult();
+            new HibernateGraphInitializer(session, xstream).initialize(division);
+            final long batchLoads = statistics.getPrepareStatementCount();
+            session.getTransaction().commit();
+
+            // the session is closed, any lazy association would fail now
+            final String loadedXml = xstream.toXML(division);
+            for (final String name : new String[]{"Tom", "Dick", "Harry", "Sally", "Site1", "Site2", "Site3"}) {
+                assertTrue(loadedXml.contains("<name>" + name + "</name>"));
+            }
+            // division, departments, people, sites, people of the sites
+            assertEquals(5, batchLoads);
+            assertTrue(batchLoads < singleLoads);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    public void testLoadsWithSmallBatches() {
+        final Session session = getSessionFactory().getCurrentSession();
+        session.beginTransaction();
+        final Division division = (Division)session.createQuery("from Division").uniqueResult();
+        new HibernateGraphInitializer(session, xstream, 1).initialize(division);
+        session.getTransaction().commit();
+
+        final String loadedXml = xstream.toXML(division);
+        assertTrue(loadedXml.contains("<name>Site3</name>"));
+    }
+
+    public void testSkipsOmittedFields() {
+        xstream.omitField(Person.class, "site");
+        final Session session = getSessionFactory().getCurrentSession();
+        session.beginTransaction();
+        @SuppressWarnings("unchecked")
+        final List<Person> people = session.createQuery("from Person").list();
+        new HibernateGraphInitializer(session, xstream).initialize(people);
+        for (final Person person : people) {
+            assertTrue(org.hibernate.Hibernate.isInitialized(person.getDepartment()));
+            assertFalse(org.hibernate.Hibernate.isInitialized(person.getSite()));
+        }
+        session.getTransaction().commit();
+    }
+
+    public void testWritesIdentifierOfUninitializedProxy() {
+        final XStream xstream = createLazyXStream();
+        final Session session = getSessionFactory().getCurrentSession();
+        session.beginTransaction();
+        final Person person = (Person)session.createQuery("from Person where name = 'Tom'").uniqueResult();
+        assertTrue(person.getSite() instanceof HibernateProxy);
+        final String loadedXml = xstream.toXML(person);
+        final Object departmentId = ((HibernateProxy)person.getDepartment())
+            .getHibernateLazyInitializer()
+            .getIdentifier();
+        final Object siteId = ((HibernateProxy)person.getSite()).getHibernateLazyInitializer().getIdentifier();
+        assertFalse(org.hibernate.Hibernate.isInitialized(person.getDepartment()));
+        assertFalse(org.hibernate.Hibernate.isInitialized(person.getSite()));
+        session.getTransaction().commit();
+
+        final String expectedXml = ""
+            + "<person>\n"
+            + "  <name>Tom</name>\n"
+            + "  <department lazy=\"true\">" + departmentId + "</department>\n"
+            + "  <site lazy=\"true\">" + siteId + "</site>\n"
+            + "</person>";
+        assertEquals(expectedXml, loadedXml);
+    }
+
+    public void testMarksUninitializedCollection() {
+        final XStream xstream = createLazyXStream();
+        final Session session = getSessionFactory().getCurrentSession();
+        session.beginTransaction();
+        final Division division = (Division)session.createQuery("from Division").uniqueResult();
+        final String loadedXml = xstream.toXML(division);
+        assertFalse(org.hibernate.Hibernate.isInitialized(division.getDepartments()));
+        session.getTransaction().commit();
+
+        final String expectedXml = ""
+            + "<division>\n"
+            + "  <name>Div1</name>\n"
+            + "  <departments lazy=\"true\"/>\n"
+            + "</division>";
+        assertEquals(expectedXml, loadedXml);
+    }
+
+    private XStream createLazyXStream() {
+        final XStream xstream = super.createXStream();
+        xstream.registerConverter(new HibernateProxyConverter(xstream.getMapper(), false));
+        xstream.registerConverter(new HibernatePersistentCollectionConverter(xstream.getMapper(), false));
+        xstream.registerConverter(new HibernatePersistentMapConverter(xstream.getMapper(), false));
+        xstream.registerConverter(new HibernatePersistentSortedMapConverter(xstream.getMapper(), false));
+        xstream.registerConverter(new HibernatePersistentSortedSetConverter(xstream.getMapper(), false));
+        xstream.omitField(BaseDomainObject.class, "id");
+        xstream.alias("department", Department.class);
+        xstream.alias("division", Division.class);
+        xstream.alias("person", Person.class);
+        xstream.alias("site", Site.class);
+        return xstream;
+    }
+
+    private void setupPersistentDivision() {
+        final Session session = getSessionFactory().getCurrentSession();
+        session.beginTransaction();
+        final Division div = new Division("Div1");
+        final Department dep1 = new Department("Dep1", div);
+        final Department dep2 = new Department("Dep2", div);
+        final Site site1 = new Site("Site1");
+        final Site site2 = new Site("Site2");
+        final Site site3 = new Site("Site3");
+        session.save(site1);
+        session.save(site2);
+        session.save(site3);
+        new Person("Tom", dep1, site1);
+        new Person("Dick", dep1, site2);
+        new Person("Harry", dep2, site3);
+        new Person("Sally", dep2, site1);
+        session.save(div);
+        session.flush();
+        session.getTransaction().commit();
+    }
+}
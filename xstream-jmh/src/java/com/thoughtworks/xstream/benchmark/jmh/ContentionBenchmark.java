@@ -0,0 +1,318 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.benchmark.jmh;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.SingleValueConverter;
+import com.thoughtworks.xstream.core.ClassLoaderReference;
+import com.thoughtworks.xstream.core.DefaultConverterLookup;
+import com.thoughtworks.xstream.io.xml.Xpp3Driver;
+import com.thoughtworks.xstream.mapper.CachingMapper;
+import com.thoughtworks.xstream.security.AnyTypePermission;
+import com.thoughtworks.xstream.tools.benchmark.model.Five;
+import com.thoughtworks.xstream.tools.benchmark.model.SerializableFive;
+
+
+/**
+ * Benchmark for a single XStream instance shared by concurrent threads.
+ * <p>
+ * The benchmark covers the steady state of marshalling and unmarshalling, the caches filled cold by concurrent
+ * threads, the caches flushed while under load and the shared converters for strings and dates. Use the
+ * {@link #main(String[])} method to run the benchmark with an increasing number of threads, it reports the scores
+ * for each thread count as scalability curve:
+ * </p>
+ *
+ * <pre>
+ * java -cp ... com.thoughtworks.xstream.benchmark.jmh.ContentionBenchmark [JMH options]
+ * </pre>
+ *
+ * @since upcoming
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 1)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+@Warmup(iterations = 5)
+@SuppressWarnings("deprecation")
+public class ContentionBenchmark {
+
+    private XStream xstream;
+    private DefaultConverterLookup converterLookup;
+    private String xml;
+    private String serializableXml;
+    private SingleValueConverter stringConverter;
+    private SingleValueConverter dateConverter;
+    private String[] strings;
+    private String[] dates;
+    private List<Object> graph;
+
+    /**
+     * The state with a new XStream instance for each iteration.
+     *
+     * @since upcoming
+     */
+    @State(Scope.Benchmark)
+    public static class ColdState {
+        private XStream xstream;
+
+        /**
+         * Create the new XStream instance with empty caches.
+         *
+         * @since upcoming
+         */
+        @Setup(Level.Iteration)
+        public void setUp() {
+            xstream = createXStream(new DefaultConverterLookup());
+        }
+    }
+
+    /**
+     * The state of a single benchmark thread.
+     *
+     * @since upcoming
+     */
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private int index;
+
+        int next(final int length) {
+            if (++index == length) {
+                index = 0;
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Initialize the shared XStream instance and the data.
+     *
+     * @since upcoming
+     */
+    @Setup
+    public void init() {
+        converterLookup = new DefaultConverterLookup();
+        xstream = createXStream(converterLookup);
+        graph = new ArrayList<>();
+        final List<SerializableFive> serializables = new ArrayList<>();
+        strings = new String[1000];
+        dates = new String[1000];
+        stringConverter = (SingleValueConverter)xstream.getConverterLookup().lookupConverterForType(String.class);
+        dateConverter = (SingleValueConverter)xstream.getConverterLookup().lookupConverterForType(Date.class);
+        for (int i = 0; i < strings.length; ++i) {
+            strings[i] = "String " + i;
+            final Date date = new Date(1234567890123L + i * 3600001L);
+            dates[i] = dateConverter.toString(date);
+            if (i % 10 == 0) {
+                final Map<String, Object> map = new LinkedHashMap<>();
+                map.put("five", new Five(strings[i], i, i % 2 == 0, (char)('a' + i % 26), new StringBuffer(dates[i])));
+                map.put("date", date);
+                graph.add(map);
+                serializables.add(new SerializableFive(strings[i], i, i % 2 == 0, (char)('a' + i % 26),
+                    new StringBuffer(dates[i])));
+            }
+        }
+        xml = xstream.toXML(graph);
+        serializableXml = xstream.toXML(serializables);
+    }
+
+    /**
+     * Marshal the object graph with the shared instance.
+     *
+     * @return the XML
+     * @since upcoming
+     */
+    @Benchmark
+    public String marshal() {
+        return xstream.toXML(graph);
+    }
+
+    /**
+     * Unmarshal the object graph with the shared instance.
+     *
+     * @return the unmarshalled graph
+     * @since upcoming
+     */
+    @Benchmark
+    public Object unmarshal() {
+        return xstream.fromXML(xml);
+    }
+
+    /**
+     * Unmarshal objects with custom serialization with the shared instance.
+     *
+     * @return the unmarshalled objects
+     * @since upcoming
+     */
+    @Benchmark
+    public Object unmarshalSerializable() {
+        return xstream.fromXML(serializableXml);
+    }
+
+    /**
+     * Unmarshal the object graph with an XStream instance that is new for each iteration. The single shot of all the
+     * threads measures the time to fill the caches concurrently.
+     *
+     * @param state the state with the new instance
+     * @return the unmarshalled graph
+     * @since upcoming
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Measurement(iterations = 50)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    public Object unmarshalCold(final ColdState state) {
+        return state.xstream.fromXML(xml);
+    }
+
+    /**
+     * Unmarshal the object graph while another thread flushes the caches.
+     *
+     * @return the unmarshalled graph
+     * @since upcoming
+     */
+    @Benchmark
+    @Group("flush")
+    @GroupThreads(3)
+    public Object unmarshalWhileFlushing() {
+        return xstream.fromXML(xml);
+    }
+
+    /**
+     * Flush the caches of the shared instance periodically.
+     *
+     * @since upcoming
+     */
+    @Benchmark
+    @Group("flush")
+    @GroupThreads(1)
+    public void flushCaches() {
+        Blackhole.consumeCPU(100000);
+        converterLookup.flushCache();
+        final CachingMapper mapper = xstream.getMapper().lookupMapperOfType(CachingMapper.class);
+        if (mapper != null) {
+            mapper.flushCache();
+        }
+    }
+
+    /**
+     * Convert strings with the shared {@link com.thoughtworks.xstream.converters.basic.StringConverter}.
+     *
+     * @param state the thread state
+     * @return the string
+     * @since upcoming
+     */
+    @Benchmark
+    public Object stringConverter(final ThreadState state) {
+        return stringConverter.fromString(strings[state.next(strings.length)]);
+    }
+
+    /**
+     * Convert dates with the shared {@link com.thoughtworks.xstream.converters.basic.DateConverter}.
+     *
+     * @param state the thread state
+     * @return the date
+     * @since upcoming
+     */
+    @Benchmark
+    public Object dateConverter(final ThreadState state) {
+        return dateConverter.fromString(dates[state.next(dates.length)]);
+    }
+
+    private static XStream createXStream(final DefaultConverterLookup converterLookup) {
+        final XStream xstream = new XStream(null, new Xpp3Driver(), new ClassLoaderReference(XStream.class
+            .getClassLoader()), null, converterLookup, converterLookup);
+        xstream.addPermission(AnyTypePermission.ANY);
+        return xstream;
+    }
+
+    /**
+     * Run the benchmark with 1, 2, 4, ... threads up to twice the number of available processors and report the
+     * scores for each thread count. The group for flushing the caches is run separately, it uses the thread count for
+     * the unmarshalling threads and runs always one additional thread to flush the caches.
+     *
+     * @param args the JMH command line options
+     * @throws RunnerException if the benchmark fails
+     * @throws CommandLineOptionException if the options are invalid
+     * @since upcoming
+     */
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        final CommandLineOptions options = new CommandLineOptions(args);
+        final int maxThreads = 2 * Runtime.getRuntime().availableProcessors();
+        final Map<String, StringBuilder> curves = new LinkedHashMap<>();
+        final String flush = ContentionBenchmark.class.getName() + ".flush";
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            addScores(curves, threads, new Runner(new OptionsBuilder()
+                .parent(options)
+                .include(ContentionBenchmark.class.getName() + ".*")
+                .exclude(flush + "$")
+                .threads(threads)
+                .build()).run());
+            addScores(curves, threads, new Runner(new OptionsBuilder()
+                .parent(options)
+                .include(flush + "$")
+                .threads(threads + 1)
+                .threadGroups(1, threads) // flushCaches, unmarshalWhileFlushing
+                .build()).run());
+        }
+        for (final StringBuilder curve : curves.values()) {
+            System.out.println(curve);
+        }
+    }
+
+    private static void addScores(final Map<String, StringBuilder> curves, final int threads,
+            final Collection<RunResult> results) {
+        for (final RunResult result : results) {
+            final String benchmark = result.getParams().getBenchmark();
+            StringBuilder curve = curves.get(benchmark);
+            if (curve == null) {
+                curve = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.') + 1)).append(" [").append(
+                    result.getPrimaryResult().getScoreUnit()).append(']');
+                curves.put(benchmark, curve);
+            }
+            curve.append(String.format("%n  %3d threads: %.3f", Integer.valueOf(threads), Double.valueOf(result
+                .getPrimaryResult()
+                .getScore())));
+        }
+    }
+}
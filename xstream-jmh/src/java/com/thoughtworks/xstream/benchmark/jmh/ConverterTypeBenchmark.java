@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2015, 2017 XStream Committers.
+ * Copyright (C) 2015, 2017, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -34,6 +34,7 @@ import com.thoughtworks.xstream.converters.Converter;
 import com.thoughtworks.xstream.converters.MarshallingContext;
 import com.thoughtworks.xstream.converters.UnmarshallingContext;
 import com.thoughtworks.xstream.converters.javabean.JavaBeanConverter;
+import com.thoughtworks.xstream.converters.javabean.MethodHandleBeanProvider;
 import com.thoughtworks.xstream.converters.reflection.ReflectionConverter;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
@@ -254,6 +255,10 @@ public class ConverterTypeBenchmark {
         case "javaBean":
             xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), Model.class));
             break;
+        case "javaBeanMethodHandles":
+            xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), new MethodHandleBeanProvider(),
+                Model.class));
+            break;
         case "custom":
             xstream.registerConverter(new ModelConverter());
             break;
@@ -284,6 +289,16 @@ public class ConverterTypeBenchmark {
         run();
     }
 
+    /**
+     * Use JavaBeanConverter with MethodHandleBeanProvider.
+     *
+     * @since upcoming
+     */
+    @Benchmark
+    public void javaBeanMethodHandles() {
+        run();
+    }
+
     /**
      * Use custom converter.
      *
@@ -0,0 +1,332 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.benchmark.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.benchmark.jmh.ParserBenchmark.DriverFactory;
+import com.thoughtworks.xstream.io.HierarchicalStreamDriver;
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+import com.thoughtworks.xstream.security.AnyTypePermission;
+import com.thoughtworks.xstream.tools.benchmark.model.Five;
+import com.thoughtworks.xstream.tools.benchmark.model.One;
+import com.thoughtworks.xstream.tools.benchmark.model.SerializableFive;
+
+
+/**
+ * Benchmark for the complete marshalling and unmarshalling process.
+ * <p>
+ * The benchmark processes realistic object graphs with every {@link HierarchicalStreamDriver} in every reference mode.
+ * The graphs are built from the model classes of the XStream benchmark module and contain deep and wide structures,
+ * maps, enums and dates. Run the benchmark with the GC profiler to report the allocation rate in addition to the
+ * throughput:
+ * </p>
+ *
+ * <pre>
+ * xstream-jmh.sh EndToEndBenchmark -prof gc
+ * </pre>
+ *
+ * @since upcoming
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 1)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(1)
+@Warmup(iterations = 5)
+@SuppressWarnings("deprecation")
+public class EndToEndBenchmark {
+
+    /**
+     * Reference mode. Enum values used as parameter for the benchmark.
+     *
+     * @since upcoming
+     */
+    public enum ReferenceMode {
+        /**
+         * Mode {@link XStream#NO_REFERENCES}.
+         *
+         * @since upcoming
+         */
+        NoReferences(XStream.NO_REFERENCES), //
+        /**
+         * Mode {@link XStream#ID_REFERENCES}.
+         *
+         * @since upcoming
+         */
+        IdReferences(XStream.ID_REFERENCES), //
+        /**
+         * Mode {@link XStream#XPATH_RELATIVE_REFERENCES}.
+         *
+         * @since upcoming
+         */
+        XPathRelative(XStream.XPATH_RELATIVE_REFERENCES), //
+        /**
+         * Mode {@link XStream#XPATH_ABSOLUTE_REFERENCES}.
+         *
+         * @since upcoming
+         */
+        XPathAbsolute(XStream.XPATH_ABSOLUTE_REFERENCES), //
+        /**
+         * Mode {@link XStream#SINGLE_NODE_XPATH_RELATIVE_REFERENCES}.
+         *
+         * @since upcoming
+         */
+        SingleNodeXPathRelative(XStream.SINGLE_NODE_XPATH_RELATIVE_REFERENCES), //
+        /**
+         * Mode {@link XStream#SINGLE_NODE_XPATH_ABSOLUTE_REFERENCES}.
+         *
+         * @since upcoming
+         */
+        SingleNodeXPathAbsolute(XStream.SINGLE_NODE_XPATH_ABSOLUTE_REFERENCES);
+
+        private final int mode;
+
+        private ReferenceMode(final int mode) {
+            this.mode = mode;
+        }
+
+        /**
+         * Request the XStream mode.
+         *
+         * @return the mode
+         * @since upcoming
+         */
+        public int getMode() {
+            return mode;
+        }
+    }
+
+    /**
+     * Graph factory. Enum values used as parameter for the benchmark.
+     *
+     * @since upcoming
+     */
+    public enum GraphFactory {
+        /**
+         * A single object with five fields.
+         *
+         * @since upcoming
+         */
+        Single {
+            @Override
+            public Object createGraph() {
+                return createFive(42);
+            }
+        },
+        /**
+         * A list of 1000 objects, every tenth object is contained twice.
+         *
+         * @since upcoming
+         */
+        WideCollection {
+            @Override
+            public Object createGraph() {
+                final List<One> list = new ArrayList<>();
+                for (int i = 0; i < 1000; ++i) {
+                    final Five five = createFive(i);
+                    list.add(five);
+                    if (i % 10 == 0) {
+                        list.add(five);
+                    }
+                }
+                return list;
+            }
+        },
+        /**
+         * A chain of 200 nested nodes.
+         *
+         * @since upcoming
+         */
+        DeepGraph {
+            @Override
+            public Object createGraph() {
+                Node node = null;
+                for (int i = 0; i < 200; ++i) {
+                    final Node parent = new Node();
+                    parent.value = new One("node " + i);
+                    parent.next = node;
+                    node = parent;
+                }
+                return node;
+            }
+        },
+        /**
+         * A map with 500 entries.
+         *
+         * @since upcoming
+         */
+        Map {
+            @Override
+            public Object createGraph() {
+                final Map<String, Five> map = new HashMap<>();
+                for (int i = 0; i < 500; ++i) {
+                    map.put("key" + i, createFive(i));
+                }
+                return map;
+            }
+        },
+        /**
+         * A list of 100 objects with custom serialization.
+         *
+         * @since upcoming
+         */
+        Serializable {
+            @Override
+            public Object createGraph() {
+                final List<SerializableFive> list = new ArrayList<>();
+                for (int i = 0; i < 100; ++i) {
+                    list.add(new SerializableFive("one " + i, i, i % 2 == 0, (char)('a' + i % 26), new StringBuffer(
+                        "five " + i)));
+                }
+                return list;
+            }
+        },
+        /**
+         * A list of 1000 enum values, enum sets and enum maps.
+         *
+         * @since upcoming
+         */
+        Enums {
+            @Override
+            public Object createGraph() {
+                final TimeUnit[] units = TimeUnit.values();
+                final List<Object> list = new ArrayList<>();
+                for (int i = 0; i < 1000; ++i) {
+                    list.add(units[i % units.length]);
+                }
+                for (int i = 0; i < 50; ++i) {
+                    list.add(EnumSet.range(units[0], units[i % units.length]));
+                    final Map<TimeUnit, String> map = new EnumMap<>(TimeUnit.class);
+                    map.put(units[i % units.length], "value " + i);
+                    list.add(map);
+                }
+                return list;
+            }
+        },
+        /**
+         * A list of 1000 dates.
+         *
+         * @since upcoming
+         */
+        Dates {
+            @Override
+            public Object createGraph() {
+                final List<Date> list = new ArrayList<>();
+                for (int i = 0; i < 1000; ++i) {
+                    list.add(new Date(1234567890123L + i * 86400001L));
+                }
+                return list;
+            }
+        };
+
+        /**
+         * Create the object graph.
+         *
+         * @return the graph
+         * @since upcoming
+         */
+        public abstract Object createGraph();
+
+        private static Five createFive(final int i) {
+            return new Five("one " + i, i, i % 2 == 0, (char)('a' + i % 26), new StringBuffer("five " + i));
+        }
+    }
+
+    /**
+     * A node of the deep graph.
+     *
+     * @since upcoming
+     */
+    public static class Node {
+        Node next;
+        One value;
+    }
+
+    @Param
+    private DriverFactory driverFactory;
+    @Param
+    private ReferenceMode referenceMode;
+    @Param
+    private GraphFactory graphFactory;
+    private XStream xstream;
+    private HierarchicalStreamDriver driver;
+    private Object graph;
+    private byte[] data;
+    private ByteArrayOutputStream buffer;
+
+    /**
+     * Initialize the XStream instance, the graph and its marshalled data.
+     *
+     * @since upcoming
+     */
+    @Setup
+    public void init() {
+        driver = driverFactory.getDriver();
+        xstream = new XStream(driver);
+        xstream.addPermission(AnyTypePermission.ANY);
+        xstream.setMode(referenceMode.getMode());
+        graph = graphFactory.createGraph();
+        buffer = new ByteArrayOutputStream(1024 * 1024);
+        marshal();
+        data = buffer.toByteArray();
+    }
+
+    /**
+     * Marshal the object graph.
+     *
+     * @return the number of written bytes
+     * @since upcoming
+     */
+    @Benchmark
+    public int marshal() {
+        buffer.reset();
+        final HierarchicalStreamWriter writer = driver.createWriter(buffer);
+        xstream.marshal(graph, writer);
+        writer.close();
+        return buffer.size();
+    }
+
+    /**
+     * Unmarshal the object graph.
+     *
+     * @return the unmarshalled graph
+     * @since upcoming
+     */
+    @Benchmark
+    public Object unmarshal() {
+        return xstream.unmarshal(driver.createReader(new ByteArrayInputStream(data)));
+    }
+}
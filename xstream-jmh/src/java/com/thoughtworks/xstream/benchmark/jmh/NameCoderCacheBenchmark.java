@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.benchmark.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.thoughtworks.xstream.io.xml.XmlFriendlyNameCoder;
+
+
+/**
+ * Benchmark for the caches of the {@link XmlFriendlyNameCoder} used concurrently.
+ * <p>
+ * The benchmark compares a coder instance shared by all threads with an own instance per thread. The number of
+ * different names is either small enough for the caches of the coder or exceeds their capacity.
+ * </p>
+ *
+ * @since upcoming
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 1)
+@Measurement(iterations = 15)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+@Warmup(iterations = 5)
+public class NameCoderCacheBenchmark {
+
+    /**
+     * The number of different names.
+     *
+     * @since upcoming
+     */
+    @Param({"64", "4096"})
+    public int names;
+
+    private String[] decoded;
+    private String[] encoded;
+    private XmlFriendlyNameCoder sharedCoder;
+
+    /**
+     * The state of a single benchmark thread.
+     *
+     * @since upcoming
+     */
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private final XmlFriendlyNameCoder coder = new XmlFriendlyNameCoder();
+        private int index;
+
+        int next(final int length) {
+            if (++index == length) {
+                index = 0;
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Initialize the names and the shared coder.
+     *
+     * @since upcoming
+     */
+    @Setup
+    public void setUp() {
+        final XmlFriendlyNameCoder coder = new XmlFriendlyNameCoder();
+        decoded = new String[names];
+        encoded = new String[names];
+        for (int i = 0; i < names; ++i) {
+            decoded[i] = "com.example.Outer$Inner_" + i;
+            encoded[i] = coder.encodeNode(decoded[i]);
+        }
+        sharedCoder = new XmlFriendlyNameCoder();
+    }
+
+    /**
+     * Encode names with the shared coder.
+     *
+     * @param state the thread state
+     * @return the encoded name
+     * @since upcoming
+     */
+    @Benchmark
+    public String sharedEncode(final ThreadState state) {
+        return sharedCoder.encodeNode(decoded[state.next(names)]);
+    }
+
+    /**
+     * Decode names with the shared coder.
+     *
+     * @param state the thread state
+     * @return the decoded name
+     * @since upcoming
+     */
+    @Benchmark
+    public String sharedDecode(final ThreadState state) {
+        return sharedCoder.decodeNode(encoded[state.next(names)]);
+    }
+
+    /**
+     * Encode names with a coder per thread.
+     *
+     * @param state the thread state
+     * @return the encoded name
+     * @since upcoming
+     */
+    @Benchmark
+    public String perThreadEncode(final ThreadState state) {
+        return state.coder.encodeNode(decoded[state.next(names)]);
+    }
+
+    /**
+     * Decode names with a coder per thread.
+     *
+     * @param state the thread state
+     * @return the decoded name
+     * @since upcoming
+     */
+    @Benchmark
+    public String perThreadDecode(final ThreadState state) {
+        return state.coder.decodeNode(encoded[state.next(names)]);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.benchmark.jmh;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.io.xml.Xpp3Driver;
+import com.thoughtworks.xstream.security.AnyTypePermission;
+import com.thoughtworks.xstream.tools.benchmark.model.Five;
+
+
+/**
+ * Benchmark for the parallel unmarshalling of a big collection.
+ * <p>
+ * The benchmark compares the sequential unmarshalling of a list of records with
+ * {@link XStream#fromXMLParallel(java.io.Reader, java.util.concurrent.Executor, int, int)} for an increasing number of
+ * workers.
+ * </p>
+ *
+ * @since upcoming
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 1)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(1)
+@Warmup(iterations = 5)
+public class ParallelUnmarshallingBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    private int workers;
+    private XStream xstream;
+    private ForkJoinPool pool;
+    private String xml;
+
+    /**
+     * Initialize the XStream instance and the document with 20000 records.
+     *
+     * @since upcoming
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        xstream = new XStream(new Xpp3Driver());
+        xstream.addPermission(AnyTypePermission.ANY);
+        xstream.setMode(XStream.NO_REFERENCES);
+        xstream.alias("five", Five.class);
+        final List<Five> list = new ArrayList<>();
+        for (int i = 0; i < 20000; ++i) {
+            list.add(new Five("one " + i, i, i % 2 == 0, (char)('a' + i % 26), new StringBuffer("five " + i)));
+        }
+        xml = xstream.toXML(list);
+        pool = new ForkJoinPool(workers);
+    }
+
+    /**
+     * Shut down the pool of the workers.
+     *
+     * @since upcoming
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Unmarshal the records sequentially.
+     *
+     * @since upcoming
+     */
+    @Benchmark
+    public Object sequential() {
+        return xstream.fromXML(new StringReader(xml));
+    }
+
+    /**
+     * Unmarshal the records in parallel.
+     *
+     * @since upcoming
+     */
+    @Benchmark
+    public Object parallel() {
+        return xstream.fromXMLParallel(new StringReader(xml), pool, 256, workers * 4);
+    }
+}
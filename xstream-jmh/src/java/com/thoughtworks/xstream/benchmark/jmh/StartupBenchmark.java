@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.benchmark.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.security.AnyTypePermission;
+import com.thoughtworks.xstream.tools.benchmark.model.Five;
+
+
+/**
+ * Benchmark for the startup costs of XStream.
+ * <p>
+ * Each measurement runs in a new JVM, therefore the benchmark reports the time of the very first construction, the
+ * first marshalling and the first unmarshalling including class loading and initialization. Run the benchmark with the
+ * class loader profiler to report the number of loaded classes and with the GC profiler to report the allocations:
+ * </p>
+ *
+ * <pre>
+ * xstream-jmh.sh StartupBenchmark -prof cl -prof gc
+ * </pre>
+ *
+ * @since upcoming
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Fork(value = 20)
+@Measurement(iterations = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(1)
+@Warmup(iterations = 0)
+public class StartupBenchmark {
+
+    private static final String XML = ""
+        + "<com.thoughtworks.xstream.tools.benchmark.model.Five>\n"
+        + "  <one>one</one>\n"
+        + "  <two>2</two>\n"
+        + "  <three>true</three>\n"
+        + "  <four>4</four>\n"
+        + "  <five>five</five>\n"
+        + "</com.thoughtworks.xstream.tools.benchmark.model.Five>";
+
+    /**
+     * Construct the first XStream instance.
+     *
+     * @return the instance
+     * @since upcoming
+     */
+    @Benchmark
+    public XStream construct() {
+        return new XStream();
+    }
+
+    /**
+     * Construct the first XStream instance and marshal a simple object.
+     *
+     * @return the XML
+     * @since upcoming
+     */
+    @Benchmark
+    public String firstMarshal() {
+        return new XStream().toXML(new Five("one", 2, true, '4', new StringBuffer("five")));
+    }
+
+    /**
+     * Construct the first XStream instance and unmarshal a simple object.
+     *
+     * @return the unmarshalled object
+     * @since upcoming
+     */
+    @Benchmark
+    public Object firstUnmarshal() {
+        final XStream xstream = new XStream();
+        xstream.addPermission(AnyTypePermission.ANY);
+        return xstream.fromXML(XML);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.benchmark.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.io.xml.AbstractXppDriver;
+import com.thoughtworks.xstream.io.xml.KXml2Driver;
+import com.thoughtworks.xstream.io.xml.Xpp3Driver;
+import com.thoughtworks.xstream.io.xml.XppDriver;
+import com.thoughtworks.xstream.security.NoTypePermission;
+
+
+/**
+ * Benchmark for parsing tiny documents with and without recycled parser instances.
+ * <p>
+ * For small documents the creation of the parser is a significant part of the overall cost. The benchmark parses a
+ * document of a few hundred bytes with the XPP based drivers, either with a new parser for each document or with a
+ * parser taken from the pool of the driver.
+ * </p>
+ *
+ * @since upcoming
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1)
+@Measurement(iterations = 15)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+@Warmup(iterations = 5)
+public class TinyDocumentParserBenchmark {
+
+    /**
+     * Driver factory. Enum values used as parameter for the benchmark.
+     *
+     * @since upcoming
+     */
+    public enum DriverFactory {
+        /**
+         * Factory for the {@link XppDriver}.
+         *
+         * @since upcoming
+         */
+        XPP {
+            @Override
+            public AbstractXppDriver createDriver() {
+                return new XppDriver();
+            }
+        },
+        /**
+         * Factory for the {@link Xpp3Driver}.
+         *
+         * @since upcoming
+         */
+        Xpp3 {
+            @Override
+            public AbstractXppDriver createDriver() {
+                return new Xpp3Driver();
+            }
+        },
+        /**
+         * Factory for the {@link KXml2Driver}.
+         *
+         * @since upcoming
+         */
+        kXML2 {
+            @Override
+            public AbstractXppDriver createDriver() {
+                return new KXml2Driver();
+            }
+        };
+
+        /**
+         * Create a new driver instance.
+         *
+         * @return the driver
+         * @since upcoming
+         */
+        public abstract AbstractXppDriver createDriver();
+    }
+
+    @Param
+    private DriverFactory driverFactory;
+    @Param({"0", "8"})
+    private int poolSize;
+    private AbstractXppDriver driver;
+    private XStream xstream;
+    private String xml;
+
+    /**
+     * Initialize the XStream instance, the driver and the document.
+     *
+     * @since upcoming
+     */
+    @Setup
+    public void init() {
+        driver = driverFactory.createDriver();
+        driver.setParserPoolSize(poolSize);
+        xstream = new XStream(driver);
+        xstream.addPermission(NoTypePermission.NONE);
+        xstream.allowTypes(ArrayList.class, String.class);
+        xstream.setMode(XStream.NO_REFERENCES);
+        final List<String> list = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            list.add("Item " + i);
+        }
+        xml = xstream.toXML(list);
+    }
+
+    /**
+     * Parse a tiny document with {@link XStream#fromXML(String)}, that does not close the reader.
+     *
+     * @return the deserialized object
+     * @since upcoming
+     */
+    @Benchmark
+    public Object parseTinyDocument() {
+        return xstream.fromXML(xml);
+    }
+}
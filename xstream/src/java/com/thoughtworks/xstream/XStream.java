@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2003, 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2012, 2013, 2014, 2015, 2016, 2017, 2018, 2019, 2020 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2012, 2013, 2014, 2015, 2016, 2017, 2018, 2019, 2020, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -50,22 +50,34 @@ import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Properties;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TimeZone;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.UUID;
 import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.thoughtworks.xstream.converters.ConversionException;
 import com.thoughtworks.xstream.converters.Converter;
@@ -106,25 +118,18 @@ import com.thoughtworks.xstream.converters.enums.EnumConverter;
 import com.thoughtworks.xstream.converters.enums.EnumMapConverter;
 import com.thoughtworks.xstream.converters.enums.EnumSetConverter;
 import com.thoughtworks.xstream.converters.extended.CharsetConverter;
-import com.thoughtworks.xstream.converters.extended.ColorConverter;
 import com.thoughtworks.xstream.converters.extended.CurrencyConverter;
 import com.thoughtworks.xstream.converters.extended.DynamicProxyConverter;
 import com.thoughtworks.xstream.converters.extended.EncodedByteArrayConverter;
 import com.thoughtworks.xstream.converters.extended.FileConverter;
-import com.thoughtworks.xstream.converters.extended.FontConverter;
 import com.thoughtworks.xstream.converters.extended.GregorianCalendarConverter;
 import com.thoughtworks.xstream.converters.extended.JavaClassConverter;
 import com.thoughtworks.xstream.converters.extended.JavaFieldConverter;
 import com.thoughtworks.xstream.converters.extended.JavaMethodConverter;
 import com.thoughtworks.xstream.converters.extended.LocaleConverter;
-import com.thoughtworks.xstream.converters.extended.LookAndFeelConverter;
 import com.thoughtworks.xstream.converters.extended.PathConverter;
 import com.thoughtworks.xstream.converters.extended.RegexPatternConverter;
-import com.thoughtworks.xstream.converters.extended.SqlDateConverter;
-import com.thoughtworks.xstream.converters.extended.SqlTimeConverter;
-import com.thoughtworks.xstream.converters.extended.SqlTimestampConverter;
 import com.thoughtworks.xstream.converters.extended.StackTraceElementConverter;
-import com.thoughtworks.xstream.converters.extended.TextAttributeConverter;
 import com.thoughtworks.xstream.converters.extended.ThrowableConverter;
 import com.thoughtworks.xstream.converters.reflection.ExternalizableConverter;
 import com.thoughtworks.xstream.converters.reflection.ReflectionConverter;
@@ -141,7 +146,11 @@ import com.thoughtworks.xstream.core.util.CompositeClassLoader;
 import com.thoughtworks.xstream.core.util.CustomObjectInputStream;
 import com.thoughtworks.xstream.core.util.CustomObjectOutputStream;
 import com.thoughtworks.xstream.core.util.DefaultDriver;
+import com.thoughtworks.xstream.core.util.HierarchicalStreams;
+import com.thoughtworks.xstream.core.util.LazyConverter;
 import com.thoughtworks.xstream.core.util.SelfStreamingInstanceChecker;
+import com.thoughtworks.xstream.core.util.XmlFragmentSplitter;
+import com.thoughtworks.xstream.io.ChunkedInputStream;
 import com.thoughtworks.xstream.io.HierarchicalStreamDriver;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
@@ -335,6 +344,7 @@ public class XStream {
     private LocalConversionMapper localConversionMapper;
     private SecurityMapper securityMapper;
     private AnnotationMapper annotationMapper;
+    private CachingMapper cachingMapper;
 
     public static final int NO_REFERENCES = 1001;
     public static final int ID_REFERENCES = 1002;
@@ -628,6 +638,13 @@ public class XStream {
         localConversionMapper = mapper.lookupMapperOfType(LocalConversionMapper.class);
         securityMapper = mapper.lookupMapperOfType(SecurityMapper.class);
         annotationMapper = mapper.lookupMapperOfType(AnnotationMapper.class);
+        cachingMapper = mapper.lookupMapperOfType(CachingMapper.class);
+    }
+
+    private void flushMapperCache() {
+        if (cachingMapper != null) {
+            cachingMapper.flushCache();
+        }
     }
 
     protected void setupSecurity() {
@@ -657,39 +674,28 @@ public class XStream {
                     DecimalFormatSymbols.class, File.class, Locale.class, Object.class, Pattern.class,
                     StackTraceElement.class, String.class, StringBuffer.class, StringBuilder.class, URL.class,
                     URI.class, UUID.class));
+        allowTypes(types.toArray(new Class[types.size()]));
+
+        // the optional types are registered by name, they are not loaded before use
+        final List<String> names = new ArrayList<>();
         if (JVM.isSQLAvailable()) {
-            types.add(JVM.loadClassForName("java.sql.Timestamp"));
-            types.add(JVM.loadClassForName("java.sql.Time"));
-            types.add(JVM.loadClassForName("java.sql.Date"));
+            names.addAll(Arrays.asList("java.sql.Timestamp", "java.sql.Time", "java.sql.Date"));
         }
         if (JVM.isVersion(8)) {
-            allowTypeHierarchy(JVM.loadClassForName("java.time.Clock"));
-            types.add(JVM.loadClassForName("java.time.Duration"));
-            types.add(JVM.loadClassForName("java.time.Instant"));
-            types.add(JVM.loadClassForName("java.time.LocalDate"));
-            types.add(JVM.loadClassForName("java.time.LocalDateTime"));
-            types.add(JVM.loadClassForName("java.time.LocalTime"));
-            types.add(JVM.loadClassForName("java.time.MonthDay"));
-            types.add(JVM.loadClassForName("java.time.OffsetDateTime"));
-            types.add(JVM.loadClassForName("java.time.OffsetTime"));
-            types.add(JVM.loadClassForName("java.time.Period"));
-            types.add(JVM.loadClassForName("java.time.Ser"));
-            types.add(JVM.loadClassForName("java.time.Year"));
-            types.add(JVM.loadClassForName("java.time.YearMonth"));
-            types.add(JVM.loadClassForName("java.time.ZonedDateTime"));
-            allowTypeHierarchy(JVM.loadClassForName("java.time.ZoneId"));
-            types.add(JVM.loadClassForName("java.time.chrono.HijrahDate"));
-            types.add(JVM.loadClassForName("java.time.chrono.JapaneseDate"));
-            types.add(JVM.loadClassForName("java.time.chrono.JapaneseEra"));
-            types.add(JVM.loadClassForName("java.time.chrono.MinguoDate"));
-            types.add(JVM.loadClassForName("java.time.chrono.ThaiBuddhistDate"));
-            types.add(JVM.loadClassForName("java.time.chrono.Ser"));
-            allowTypeHierarchy(JVM.loadClassForName("java.time.chrono.Chronology"));
-            types.add(JVM.loadClassForName("java.time.temporal.ValueRange"));
-            types.add(JVM.loadClassForName("java.time.temporal.WeekFields"));
+            addPermission(TypeHierarchyPermission.forName("java.time.Clock"));
+            addPermission(TypeHierarchyPermission.forName("java.time.ZoneId"));
+            addPermission(TypeHierarchyPermission.forName("java.time.chrono.Chronology"));
+            names
+                .addAll(Arrays
+                    .asList("java.time.Duration", "java.time.Instant", "java.time.LocalDate", "java.time.LocalDateTime",
+                        "java.time.LocalTime", "java.time.MonthDay", "java.time.OffsetDateTime",
+                        "java.time.OffsetTime", "java.time.Period", "java.time.Ser", "java.time.Year",
+                        "java.time.YearMonth", "java.time.ZonedDateTime", "java.time.chrono.HijrahDate",
+                        "java.time.chrono.JapaneseDate", "java.time.chrono.JapaneseEra", "java.time.chrono.MinguoDate",
+                        "java.time.chrono.ThaiBuddhistDate", "java.time.chrono.Ser", "java.time.temporal.ValueRange",
+                        "java.time.temporal.WeekFields"));
         }
-        types.remove(null);
-        allowTypes(types.toArray(new Class[types.size()]));
+        allowTypes(names.toArray(new String[names.size()]));
     }
 
     /**
@@ -773,82 +779,75 @@ public class XStream {
 
         if (JVM.isAWTAvailable()) {
             // Instantiating these two classes starts the AWT system, which is undesirable.
-            // Calling loadClass ensures a reference to the class is found but they are not
-            // instantiated.
-            alias("awt-color", JVM.loadClassForName("java.awt.Color", false));
-            alias("awt-font", JVM.loadClassForName("java.awt.Font", false));
-            alias("awt-text-attribute", JVM.loadClassForName("java.awt.font.TextAttribute"));
+            // Aliasing the names ensures the classes are not even loaded.
+            aliasDynamically("awt-color", "java.awt.Color");
+            aliasDynamically("awt-font", "java.awt.Font");
+            aliasDynamically("awt-text-attribute", "java.awt.font.TextAttribute");
         }
 
-        final Class<?> type = JVM.loadClassForName("javax.activation.ActivationDataFlavor");
-        if (type != null) {
-            alias("activation-data-flavor", type);
-        }
+        aliasDynamically("activation-data-flavor", "javax.activation.ActivationDataFlavor");
 
         if (JVM.isSQLAvailable()) {
-            alias("sql-timestamp", JVM.loadClassForName("java.sql.Timestamp"));
-            alias("sql-time", JVM.loadClassForName("java.sql.Time"));
-            alias("sql-date", JVM.loadClassForName("java.sql.Date"));
+            aliasDynamically("sql-timestamp", "java.sql.Timestamp");
+            aliasDynamically("sql-time", "java.sql.Time");
+            aliasDynamically("sql-date", "java.sql.Date");
         }
 
         if (JVM.isVersion(8)) {
-            alias("fixed-clock", JVM.loadClassForName("java.time.Clock$FixedClock"));
-            alias("offset-clock", JVM.loadClassForName("java.time.Clock$OffsetClock"));
-            alias("system-clock", JVM.loadClassForName("java.time.Clock$SystemClock"));
-            alias("tick-clock", JVM.loadClassForName("java.time.Clock$TickClock"));
-            alias("day-of-week", JVM.loadClassForName("java.time.DayOfWeek"));
-            alias("duration", JVM.loadClassForName("java.time.Duration"));
-            alias("instant", JVM.loadClassForName("java.time.Instant"));
-            alias("local-date", JVM.loadClassForName("java.time.LocalDate"));
-            alias("local-date-time", JVM.loadClassForName("java.time.LocalDateTime"));
-            alias("local-time", JVM.loadClassForName("java.time.LocalTime"));
-            alias("month", JVM.loadClassForName("java.time.Month"));
-            alias("month-day", JVM.loadClassForName("java.time.MonthDay"));
-            alias("offset-date-time", JVM.loadClassForName("java.time.OffsetDateTime"));
-            alias("offset-time", JVM.loadClassForName("java.time.OffsetTime"));
-            alias("period", JVM.loadClassForName("java.time.Period"));
-            alias("year", JVM.loadClassForName("java.time.Year"));
-            alias("year-month", JVM.loadClassForName("java.time.YearMonth"));
-            alias("zoned-date-time", JVM.loadClassForName("java.time.ZonedDateTime"));
-            aliasType("zone-id", JVM.loadClassForName("java.time.ZoneId"));
-            aliasType("chronology", JVM.loadClassForName("java.time.chrono.Chronology"));
-            alias("hijrah-date", JVM.loadClassForName("java.time.chrono.HijrahDate"));
-            alias("hijrah-era", JVM.loadClassForName("java.time.chrono.HijrahEra"));
-            alias("japanese-date", JVM.loadClassForName("java.time.chrono.JapaneseDate"));
-            alias("japanese-era", JVM.loadClassForName("java.time.chrono.JapaneseEra"));
-            alias("minguo-date", JVM.loadClassForName("java.time.chrono.MinguoDate"));
-            alias("minguo-era", JVM.loadClassForName("java.time.chrono.MinguoEra"));
-            alias("thai-buddhist-date", JVM.loadClassForName("java.time.chrono.ThaiBuddhistDate"));
-            alias("thai-buddhist-era", JVM.loadClassForName("java.time.chrono.ThaiBuddhistEra"));
-            alias("chrono-field", JVM.loadClassForName("java.time.temporal.ChronoField"));
-            alias("chrono-unit", JVM.loadClassForName("java.time.temporal.ChronoUnit"));
-            alias("iso-field", JVM.loadClassForName("java.time.temporal.IsoFields$Field"));
-            alias("iso-unit", JVM.loadClassForName("java.time.temporal.IsoFields$Unit"));
-            alias("julian-field", JVM.loadClassForName("java.time.temporal.JulianFields$Field"));
-            alias("temporal-value-range", JVM.loadClassForName("java.time.temporal.ValueRange"));
-            alias("week-fields", JVM.loadClassForName("java.time.temporal.WeekFields"));
+            aliasDynamically("fixed-clock", "java.time.Clock$FixedClock");
+            aliasDynamically("offset-clock", "java.time.Clock$OffsetClock");
+            aliasDynamically("system-clock", "java.time.Clock$SystemClock");
+            aliasDynamically("tick-clock", "java.time.Clock$TickClock");
+            aliasDynamically("day-of-week", "java.time.DayOfWeek");
+            aliasDynamically("duration", "java.time.Duration");
+            aliasDynamically("instant", "java.time.Instant");
+            aliasDynamically("local-date", "java.time.LocalDate");
+            aliasDynamically("local-date-time", "java.time.LocalDateTime");
+            aliasDynamically("local-time", "java.time.LocalTime");
+            aliasDynamically("month", "java.time.Month");
+            aliasDynamically("month-day", "java.time.MonthDay");
+            aliasDynamically("offset-date-time", "java.time.OffsetDateTime");
+            aliasDynamically("offset-time", "java.time.OffsetTime");
+            aliasDynamically("period", "java.time.Period");
+            aliasDynamically("year", "java.time.Year");
+            aliasDynamically("year-month", "java.time.YearMonth");
+            aliasDynamically("zoned-date-time", "java.time.ZonedDateTime");
+            aliasTypeDynamically("zone-id", "java.time.ZoneId");
+            aliasTypeDynamically("chronology", "java.time.chrono.Chronology");
+            aliasDynamically("hijrah-date", "java.time.chrono.HijrahDate");
+            aliasDynamically("hijrah-era", "java.time.chrono.HijrahEra");
+            aliasDynamically("japanese-date", "java.time.chrono.JapaneseDate");
+            aliasDynamically("japanese-era", "java.time.chrono.JapaneseEra");
+            aliasDynamically("minguo-date", "java.time.chrono.MinguoDate");
+            aliasDynamically("minguo-era", "java.time.chrono.MinguoEra");
+            aliasDynamically("thai-buddhist-date", "java.time.chrono.ThaiBuddhistDate");
+            aliasDynamically("thai-buddhist-era", "java.time.chrono.ThaiBuddhistEra");
+            aliasDynamically("chrono-field", "java.time.temporal.ChronoField");
+            aliasDynamically("chrono-unit", "java.time.temporal.ChronoUnit");
+            aliasDynamically("iso-field", "java.time.temporal.IsoFields$Field");
+            aliasDynamically("iso-unit", "java.time.temporal.IsoFields$Unit");
+            aliasDynamically("julian-field", "java.time.temporal.JulianFields$Field");
+            aliasDynamically("temporal-value-range", "java.time.temporal.ValueRange");
+            aliasDynamically("week-fields", "java.time.temporal.WeekFields");
         }
 
         aliasType("charset", Charset.class);
         aliasType("path", Path.class);
 
-        if (JVM.loadClassForName("javax.security.auth.Subject") != null) {
-            aliasDynamically("auth-subject", "javax.security.auth.Subject");
-        }
-        if (JVM.loadClassForName("javax.xml.datatype.Duration") != null) {
-            aliasDynamically("xml-duration", "javax.xml.datatype.Duration");
-        }
-
-        if (JVM.loadClassForName("java.lang.invoke.SerializedLambda") != null) {
-            aliasDynamically("serialized-lambda", "java.lang.invoke.SerializedLambda");
-        }
+        // an alias for an unavailable type is never used
+        aliasDynamically("auth-subject", "javax.security.auth.Subject");
+        aliasDynamically("xml-duration", "javax.xml.datatype.Duration");
+        aliasDynamically("serialized-lambda", "java.lang.invoke.SerializedLambda");
     }
 
     private void aliasDynamically(final String alias, final String className) {
-        final Class<?> type = JVM.loadClassForName(className);
-        if (type != null) {
-            alias(alias, type);
-        }
+        classAliasingMapper.addClassAlias(alias, className);
+        flushMapperCache();
+    }
+
+    private void aliasTypeDynamically(final String alias, final String className) {
+        classAliasingMapper.addTypeAlias(alias, className);
+        flushMapperCache();
     }
 
     protected void setupDefaultImplementations() {
@@ -913,55 +912,60 @@ public class XStream {
 
         registerConverter(new FileConverter(), PRIORITY_NORMAL);
         if (JVM.isSQLAvailable()) {
-            registerConverter(new SqlTimestampConverter(), PRIORITY_NORMAL);
-            registerConverter(new SqlTimeConverter(), PRIORITY_NORMAL);
-            registerConverter(new SqlDateConverter(), PRIORITY_NORMAL);
+            registerConverterLazily("com.thoughtworks.xstream.converters.extended.SqlTimestampConverter",
+                PRIORITY_NORMAL, null, null, "java.sql.Timestamp", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.extended.SqlTimeConverter", PRIORITY_NORMAL,
+                null, null, "java.sql.Time", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.extended.SqlDateConverter", PRIORITY_NORMAL,
+                null, null, "java.sql.Date", false);
         }
         if (JVM.isVersion(8)) {
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.ChronologyConverter",
-                PRIORITY_NORMAL, null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.DurationConverter", PRIORITY_NORMAL,
-                null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.HijrahDateConverter",
-                PRIORITY_NORMAL, null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.JapaneseDateConverter",
-                PRIORITY_NORMAL, null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.JapaneseEraConverter",
-                PRIORITY_NORMAL, null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.InstantConverter", PRIORITY_NORMAL,
-                null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.LocalDateConverter", PRIORITY_NORMAL,
-                null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.LocalDateTimeConverter",
-                PRIORITY_NORMAL, null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.LocalTimeConverter", PRIORITY_NORMAL,
-                null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.MinguoDateConverter",
-                PRIORITY_NORMAL, null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.MonthDayConverter", PRIORITY_NORMAL,
-                null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.OffsetDateTimeConverter",
-                PRIORITY_NORMAL, null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.OffsetTimeConverter",
-                PRIORITY_NORMAL, null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.PeriodConverter", PRIORITY_NORMAL,
-                null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.SystemClockConverter",
-                PRIORITY_NORMAL, new Class[]{Mapper.class}, new Object[]{mapper});
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.ThaiBuddhistDateConverter",
-                PRIORITY_NORMAL, null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.ValueRangeConverter",
-                PRIORITY_NORMAL, new Class[]{Mapper.class}, new Object[]{mapper});
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.WeekFieldsConverter",
-                PRIORITY_NORMAL, new Class[]{Mapper.class}, new Object[]{mapper});
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.YearConverter", PRIORITY_NORMAL,
-                null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.YearMonthConverter", PRIORITY_NORMAL,
-                null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.ZonedDateTimeConverter",
-                PRIORITY_NORMAL, null, null);
-            registerConverterDynamically("com.thoughtworks.xstream.converters.time.ZoneIdConverter", PRIORITY_NORMAL,
-                null, null);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.ChronologyConverter",
+                PRIORITY_NORMAL, null, null, "java.time.chrono.Chronology", true);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.DurationConverter",
+                PRIORITY_NORMAL, null, null, "java.time.Duration", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.HijrahDateConverter",
+                PRIORITY_NORMAL, null, null, "java.time.chrono.HijrahDate", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.JapaneseDateConverter",
+                PRIORITY_NORMAL, null, null, "java.time.chrono.JapaneseDate", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.JapaneseEraConverter",
+                PRIORITY_NORMAL, null, null, "java.time.chrono.JapaneseEra", true);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.InstantConverter",
+                PRIORITY_NORMAL, null, null, "java.time.Instant", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.LocalDateConverter",
+                PRIORITY_NORMAL, null, null, "java.time.LocalDate", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.LocalDateTimeConverter",
+                PRIORITY_NORMAL, null, null, "java.time.LocalDateTime", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.LocalTimeConverter",
+                PRIORITY_NORMAL, null, null, "java.time.LocalTime", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.MinguoDateConverter",
+                PRIORITY_NORMAL, null, null, "java.time.chrono.MinguoDate", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.MonthDayConverter",
+                PRIORITY_NORMAL, null, null, "java.time.MonthDay", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.OffsetDateTimeConverter",
+                PRIORITY_NORMAL, null, null, "java.time.OffsetDateTime", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.OffsetTimeConverter",
+                PRIORITY_NORMAL, null, null, "java.time.OffsetTime", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.PeriodConverter",
+                PRIORITY_NORMAL, null, null, "java.time.Period", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.SystemClockConverter",
+                PRIORITY_NORMAL, new Class[]{Mapper.class}, new Object[]{mapper}, "java.time.Clock", true);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.ThaiBuddhistDateConverter",
+                PRIORITY_NORMAL, null, null, "java.time.chrono.ThaiBuddhistDate", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.ValueRangeConverter",
+                PRIORITY_NORMAL, new Class[]{Mapper.class}, new Object[]{mapper}, "java.time.temporal.ValueRange",
+                false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.WeekFieldsConverter",
+                PRIORITY_NORMAL, new Class[]{Mapper.class}, new Object[]{mapper}, "java.time.temporal.WeekFields",
+                false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.YearConverter",
+                PRIORITY_NORMAL, null, null, "java.time.Year", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.YearMonthConverter",
+                PRIORITY_NORMAL, null, null, "java.time.YearMonth", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.ZonedDateTimeConverter",
+                PRIORITY_NORMAL, null, null, "java.time.ZonedDateTime", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.time.ZoneIdConverter",
+                PRIORITY_NORMAL, null, null, "java.time.ZoneId", true);
         }
         registerConverter(new DynamicProxyConverter(mapper, classLoaderReference), PRIORITY_NORMAL);
         registerConverter(new JavaClassConverter(classLoaderReference), PRIORITY_NORMAL);
@@ -969,26 +973,26 @@ public class XStream {
         registerConverter(new JavaFieldConverter(classLoaderReference), PRIORITY_NORMAL);
 
         if (JVM.isAWTAvailable()) {
-            registerConverter(new FontConverter(mapper), PRIORITY_NORMAL);
-            registerConverter(new ColorConverter(), PRIORITY_NORMAL);
-            registerConverter(new TextAttributeConverter(), PRIORITY_NORMAL);
+            registerConverterLazily("com.thoughtworks.xstream.converters.extended.FontConverter", PRIORITY_NORMAL,
+                new Class[]{Mapper.class}, new Object[]{mapper}, "java.awt.Font", true);
+            registerConverterLazily("com.thoughtworks.xstream.converters.extended.ColorConverter", PRIORITY_NORMAL,
+                null, null, "java.awt.Color", false);
+            registerConverterLazily("com.thoughtworks.xstream.converters.extended.TextAttributeConverter",
+                PRIORITY_NORMAL, null, null, "java.awt.font.TextAttribute", false);
         }
         if (JVM.isSwingAvailable()) {
-            registerConverter(new LookAndFeelConverter(mapper, reflectionProvider), PRIORITY_NORMAL);
+            registerConverterLazily("com.thoughtworks.xstream.converters.extended.LookAndFeelConverter",
+                PRIORITY_NORMAL, new Class[]{Mapper.class, ReflectionProvider.class}, new Object[]{
+                    mapper, reflectionProvider}, "javax.swing.LookAndFeel", true);
         }
 
-        if (JVM.loadClassForName("javax.security.auth.Subject") != null) {
-            registerConverterDynamically("com.thoughtworks.xstream.converters.extended.SubjectConverter",
-                PRIORITY_NORMAL, new Class[]{Mapper.class}, new Object[]{mapper});
-        }
-        if (JVM.loadClassForName("javax.xml.datatype.Duration") != null) {
-            registerConverterDynamically("com.thoughtworks.xstream.converters.extended.DurationConverter",
-                PRIORITY_NORMAL, null, null);
-        }
-        if (JVM.loadClassForName("javax.activation.ActivationDataFlavor") != null) {
-            registerConverterDynamically("com.thoughtworks.xstream.converters.extended.ActivationDataFlavorConverter",
-                PRIORITY_NORMAL, null, null);
-        }
+        // the handled types are not loaded before use, an unavailable type is never requested
+        registerConverterLazily("com.thoughtworks.xstream.converters.extended.SubjectConverter", PRIORITY_NORMAL,
+            new Class[]{Mapper.class}, new Object[]{mapper}, "javax.security.auth.Subject", false);
+        registerConverterLazily("com.thoughtworks.xstream.converters.extended.DurationConverter", PRIORITY_NORMAL,
+            null, null, "javax.xml.datatype.Duration", true);
+        registerConverterLazily("com.thoughtworks.xstream.converters.extended.ActivationDataFlavorConverter",
+            PRIORITY_NORMAL, null, null, "javax.activation.ActivationDataFlavor", false);
         if (JVM.isVersion(8)) {
             registerConverterDynamically("com.thoughtworks.xstream.converters.reflection.LambdaConverter",
                 PRIORITY_NORMAL, new Class[]{Mapper.class, ReflectionProvider.class, ClassLoaderReference.class},
@@ -998,6 +1002,13 @@ public class XStream {
         registerConverter(new SelfStreamingInstanceChecker(converterLookup, this), PRIORITY_NORMAL);
     }
 
+    private void registerConverterLazily(final String className, final int priority,
+            final Class<?>[] constructorParamTypes, final Object[] constructorParamValues, final String typeName,
+            final boolean hierarchy) {
+        registerConverter(new LazyConverter(className, constructorParamTypes, constructorParamValues,
+            classLoaderReference, typeName, hierarchy), priority);
+    }
+
     private void registerConverterDynamically(final String className, final int priority,
             final Class<?>[] constructorParamTypes, final Object[] constructorParamValues) {
         try {
@@ -1094,10 +1105,8 @@ public class XStream {
     }
 
     private void addImmutableTypeDynamically(final String className, final boolean isReferenceable) {
-        final Class<?> type = JVM.loadClassForName(className);
-        if (type != null) {
-            addImmutableType(type, isReferenceable);
-        }
+        immutableTypesMapper.addImmutableType(className, isReferenceable);
+        flushMapperCache();
     }
 
     /**
@@ -1202,6 +1211,185 @@ public class XStream {
         return unmarshal(hierarchicalStreamDriver.createReader(input), null);
     }
 
+    /**
+     * Deserialize an object asynchronously from a stream that is fed with chunks of data.
+     * <p>
+     * The object is unmarshalled by a task of the executor, while the caller returns immediately and can continue to
+     * feed the stream without blocking. The task is not started before the stream is ready, i.e. before it has been
+     * completed or is full. Therefore the thread of the executor does not wait for data as long as the document fits
+     * into the capacity of the stream. The stream is finished by the task after the unmarshalling, any later fed chunk
+     * is rejected. The task fails, if any data other than whitespace has been fed after the end of the document.
+     * </p>
+     * <p>
+     * Note, that the document is still parsed by the blocking reader of the driver. A document bigger than the capacity
+     * of the stream blocks the thread of the executor whenever the producer does not keep up, since the parser cannot
+     * be suspended and resumed at an arbitrary point of the document.
+     * </p>
+     *
+     * @param input the fed stream
+     * @param executor the executor for the unmarshalling task
+     * @return the future of the deserialized object, failing with an {@link XStreamException} if the object cannot be
+     *         deserialized
+     * @throws IllegalStateException if the stream is already used by another task
+     * @since upcoming
+     */
+    public <T> CompletableFuture<T> fromXMLAsync(final ChunkedInputStream input, final Executor executor) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                final T result;
+                try {
+                    result = XStream.this.<T>fromXML(input);
+                    // finish before completion, the producer may feed again as soon as the future is done
+                    input.finish();
+                } catch (final Throwable e) {
+                    input.close();
+                    future.completeExceptionally(e);
+                    return;
+                }
+                future.complete(result);
+            }
+        };
+        input.onReady(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    executor.execute(task);
+                } catch (final RejectedExecutionException e) {
+                    input.close();
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Deserialize a big collection from XML by unmarshalling its items in parallel with the common pool.
+     *
+     * @see #fromXMLParallel(Reader, Executor, int, int)
+     * @since upcoming
+     */
+    public <T> T fromXMLParallel(final Reader xml) {
+        return fromXMLParallel(xml, ForkJoinPool.commonPool(), 256, ForkJoinPool.getCommonPoolParallelism() * 4);
+    }
+
+    /**
+     * Deserialize a big collection from XML by unmarshalling its items in parallel.
+     * <p>
+     * The calling thread does not parse the document. It only scans the markup for the boundaries of the child
+     * elements of the root element and collects the children into chunks. Every chunk is parsed with an own reader of
+     * the configured driver and its items are unmarshalled by a task of the executor. The items are added to the
+     * collection of the root element in the original order, while the calling thread continues to scan the next
+     * chunks. The number of chunks in process is limited, i.e. the memory consumption is bound even for huge
+     * documents.
+     * </p>
+     * <p>
+     * The root element must be converted by the {@link CollectionConverter}, since any other converter may read the
+     * child elements in a different way. Since every chunk is unmarshalled independently, XStream must run in
+     * {@link #NO_REFERENCES} mode. The configured driver must process XML.
+     * Namespaces declared at the root element are available for the items, entities declared in a DTD are not
+     * supported.
+     * </p>
+     *
+     * @param xml the reader of the XML document
+     * @param executor the executor for the unmarshalling tasks
+     * @param chunkSize the number of items in a chunk
+     * @param maxChunks the maximum number of chunks in process
+     * @return the deserialized collection
+     * @throws XStreamException if the collection cannot be deserialized
+     * @since upcoming
+     */
+    public <T> T fromXMLParallel(final Reader xml, final Executor executor, final int chunkSize, final int maxChunks) {
+        if (!(marshallingStrategy instanceof TreeMarshallingStrategy)) {
+            throw new XStreamException("Parallel unmarshalling requires the NO_REFERENCES mode");
+        }
+        final XmlFragmentSplitter splitter = new XmlFragmentSplitter(xml);
+        final String rootTag = splitter.readRoot();
+        final String emptyRoot = rootTag.endsWith("/>") ? rootTag : rootTag.substring(0, rootTag.length() - 1) + "/>";
+        final Class<?> rootType;
+        final HierarchicalStreamReader rootReader = hierarchicalStreamDriver.createReader(new StringReader(emptyRoot));
+        try {
+            rootType = mapper.defaultImplementationOf(HierarchicalStreams.readClassType(rootReader, mapper));
+        } finally {
+            rootReader.close();
+        }
+        // other converters may read the children in a different way, e.g. a comparator or the backing list
+        final Converter rootConverter = converterLookup.lookupConverterForType(rootType);
+        if (rootConverter.getClass() != CollectionConverter.class) {
+            final ConversionException exception = new ConversionException(
+                "Parallel unmarshalling requires a root element converted by the CollectionConverter");
+            exception.add("root-element", splitter.getRootName());
+            exception.add("root-type", rootType.getName());
+            exception.add("converter", rootConverter.getClass().getName());
+            throw exception;
+        }
+        final Object root = fromXML(emptyRoot);
+        @SuppressWarnings("unchecked")
+        final Collection<Object> collection = (Collection<Object>)root;
+        final String rootEnd = "</" + splitter.getRootName() + ">";
+        final LinkedList<CompletableFuture<List<Object>>> chunks = new LinkedList<>();
+        try {
+            for (String fragment = splitter.nextFragment(); fragment != null;) {
+                final StringBuilder chunk = new StringBuilder(rootTag);
+                for (int i = 0; i < chunkSize && fragment != null; ++i) {
+                    chunk.append(fragment);
+                    fragment = splitter.nextFragment();
+                }
+                final String document = chunk.append(rootEnd).toString();
+                chunks.add(CompletableFuture.supplyAsync(new Supplier<List<Object>>() {
+                    @Override
+                    public List<Object> get() {
+                        return unmarshalItems(document);
+                    }
+                }, executor));
+                if (chunks.size() >= maxChunks) {
+                    collection.addAll(joinItems(chunks.removeFirst()));
+                }
+            }
+            while (!chunks.isEmpty()) {
+                collection.addAll(joinItems(chunks.removeFirst()));
+            }
+        } finally {
+            for (final CompletableFuture<List<Object>> chunk : chunks) {
+                chunk.cancel(false);
+            }
+        }
+        @SuppressWarnings("unchecked")
+        final T result = (T)collection;
+        return result;
+    }
+
+    private List<Object> unmarshalItems(final String document) {
+        final List<Object> items = new ArrayList<>();
+        final HierarchicalStreamReader reader = hierarchicalStreamDriver.createReader(new StringReader(document));
+        try {
+            while (reader.hasMoreChildren()) {
+                reader.moveDown();
+                items.add(unmarshal(reader, null, null));
+                reader.moveUp();
+            }
+        } finally {
+            reader.close();
+        }
+        return items;
+    }
+
+    private static List<Object> joinItems(final CompletableFuture<List<Object>> chunk) {
+        try {
+            return chunk.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error)e.getCause();
+            }
+            throw new XStreamException(e.getCause());
+        }
+    }
+
     /**
      * Deserialize an object from a URL. Depending on the parser implementation, some might take the file path as
      * SystemId to resolve additional references.
@@ -1345,6 +1533,7 @@ public class XStream {
             throw new InitializationException("No " + ClassAliasingMapper.class.getName() + " available");
         }
         classAliasingMapper.addClassAlias(name, type);
+        flushMapperCache();
     }
 
     /**
@@ -1361,6 +1550,7 @@ public class XStream {
             throw new InitializationException("No " + ClassAliasingMapper.class.getName() + " available");
         }
         classAliasingMapper.addTypeAlias(name, type);
+        flushMapperCache();
     }
 
     /**
@@ -1391,6 +1581,7 @@ public class XStream {
             throw new InitializationException("No " + PackageAliasingMapper.class.getName() + " available");
         }
         packageAliasingMapper.addPackageAlias(name, pkgName);
+        flushMapperCache();
     }
 
     /**
@@ -1406,6 +1597,7 @@ public class XStream {
             throw new InitializationException("No " + FieldAliasingMapper.class.getName() + " available");
         }
         fieldAliasingMapper.addFieldAlias(alias, definedIn, fieldName);
+        flushMapperCache();
     }
 
     /**
@@ -1420,6 +1612,7 @@ public class XStream {
             throw new InitializationException("No " + AttributeAliasingMapper.class.getName() + " available");
         }
         attributeAliasingMapper.addAliasFor(attributeName, alias);
+        flushMapperCache();
     }
 
     /**
@@ -1437,6 +1630,7 @@ public class XStream {
             throw new InitializationException("No " + SystemAttributeAliasingMapper.class.getName() + " available");
         }
         systemAttributeAliasingMapper.addAliasFor(systemAttributeName, alias);
+        flushMapperCache();
     }
 
     /**
@@ -1466,6 +1660,7 @@ public class XStream {
             throw new InitializationException("No " + AttributeMapper.class.getName() + " available");
         }
         attributeMapper.addAttributeFor(fieldName, type);
+        flushMapperCache();
     }
 
     /**
@@ -1481,6 +1676,7 @@ public class XStream {
             throw new InitializationException("No " + AttributeMapper.class.getName() + " available");
         }
         attributeMapper.addAttributeFor(definedIn, fieldName);
+        flushMapperCache();
     }
 
     /**
@@ -1495,6 +1691,7 @@ public class XStream {
             throw new InitializationException("No " + AttributeMapper.class.getName() + " available");
         }
         attributeMapper.addAttributeFor(type);
+        flushMapperCache();
     }
 
     /**
@@ -1511,6 +1708,7 @@ public class XStream {
             throw new InitializationException("No " + DefaultImplementationsMapper.class.getName() + " available");
         }
         defaultImplementationsMapper.addDefaultImplementation(defaultImplementation, ofType);
+        flushMapperCache();
     }
 
     /**
@@ -1547,6 +1745,7 @@ public class XStream {
                 + " available");
         }
         immutableTypesMapper.addImmutableType(type, isReferenceable);
+        flushMapperCache();
     }
 
     /**
@@ -1567,6 +1766,7 @@ public class XStream {
     public void registerConverter(final Converter converter, final int priority) {
         if (converterRegistry != null) {
             converterRegistry.registerConverter(converter, priority);
+            flushMapperCache();
         }
     }
 
@@ -1588,6 +1788,7 @@ public class XStream {
     public void registerConverter(final SingleValueConverter converter, final int priority) {
         if (converterRegistry != null) {
             converterRegistry.registerConverter(new SingleValueConverterWrapper(converter), priority);
+            flushMapperCache();
         }
     }
 
@@ -1604,6 +1805,7 @@ public class XStream {
             throw new InitializationException("No " + LocalConversionMapper.class.getName() + " available");
         }
         localConversionMapper.registerLocalConverter(definedIn, fieldName, converter);
+        flushMapperCache();
     }
 
     /**
@@ -1794,6 +1996,7 @@ public class XStream {
             throw new InitializationException("No " + ImplicitCollectionMapper.class.getName() + " available");
         }
         implicitCollectionMapper.add(ownerType, fieldName, itemName, itemType, keyFieldName);
+        flushMapperCache();
     }
 
     /**
@@ -2045,6 +2248,84 @@ public class XStream {
         }, classLoaderReference);
     }
 
+    /**
+     * Creates a Stream that deserializes the objects of an object stream from a reader using XStream.
+     *
+     * @see #createObjectStream(HierarchicalStreamReader, DataHolder)
+     * @since upcoming
+     */
+    @SuppressWarnings("resource")
+    public <T> Stream<T> createObjectStream(final Reader xmlReader) {
+        return createObjectStream(hierarchicalStreamDriver.createReader(xmlReader), null);
+    }
+
+    /**
+     * Creates a Stream that deserializes the objects of an object stream from an InputStream using XStream.
+     *
+     * @see #createObjectStream(HierarchicalStreamReader, DataHolder)
+     * @since upcoming
+     */
+    @SuppressWarnings("resource")
+    public <T> Stream<T> createObjectStream(final InputStream in) {
+        return createObjectStream(hierarchicalStreamDriver.createReader(in), null);
+    }
+
+    /**
+     * Creates a Stream that deserializes the objects of an object stream from a reader using XStream.
+     * <p>
+     * The objects are read lazily one by one when the Stream requests the next element, i.e. it is possible to process
+     * a huge object stream with bounded memory as long as the used driver does not read the complete document at once
+     * (like the DOM based drivers). Every object is unmarshalled with its own context, no reference state is kept
+     * between the individual objects unless the provided DataHolder keeps it. The elements of the Stream are the
+     * objects that have been written by an ObjectOutputStream created with
+     * {@link #createObjectOutputStream(HierarchicalStreamWriter, String)}, primitive values are returned as their boxed
+     * types.
+     * </p>
+     * <p>
+     * It is necessary to close the Stream when done, otherwise the reader might keep system resources.
+     * </p>
+     * <h3>Example</h3>
+     *
+     * <pre>
+     * try (Stream&lt;Record&gt; records = xstream.createObjectStream(aReader, null)) {
+     *     records.filter(Record::isValid).forEach(processor);
+     * }
+     * </pre>
+     *
+     * @param reader the reader positioned at the root element of the object stream
+     * @param dataHolder the data holder for every unmarshalled object or <code>null</code>
+     * @see #createObjectOutputStream(com.thoughtworks.xstream.io.HierarchicalStreamWriter, String)
+     * @since upcoming
+     */
+    public <T> Stream<T> createObjectStream(final HierarchicalStreamReader reader, final DataHolder dataHolder) {
+        final Iterator<T> iter = new Iterator<T>() {
+
+            @Override
+            public boolean hasNext() {
+                return reader.hasMoreChildren();
+            }
+
+            @Override
+            public T next() {
+                if (!reader.hasMoreChildren()) {
+                    throw new NoSuchElementException();
+                }
+                reader.moveDown();
+                final T result = unmarshal(reader, null, dataHolder);
+                reader.moveUp();
+                return result;
+            }
+        };
+        return StreamSupport
+            .stream(Spliterators.spliteratorUnknownSize(iter, Spliterator.ORDERED), false)
+            .onClose(new Runnable() {
+                @Override
+                public void run() {
+                    reader.close();
+                }
+            });
+    }
+
     /**
      * Change the ClassLoader XStream uses to load classes. Creating an XStream instance it will register for all kind
      * of classes and types of the current JDK, but not for any 3rd party type. To ensure that all other types are
@@ -2089,6 +2370,7 @@ public class XStream {
             throw new InitializationException("No " + ElementIgnoringMapper.class.getName() + " available");
         }
         elementIgnoringMapper.omitField(definedIn, fieldName);
+        flushMapperCache();
     }
 
     /**
@@ -2121,6 +2403,27 @@ public class XStream {
             throw new InitializationException("No " + ElementIgnoringMapper.class.getName() + " available");
         }
         elementIgnoringMapper.addElementsToIgnore(pattern);
+        flushMapperCache();
+    }
+
+    /**
+     * Precompute the mapping information for the given types.
+     * <p>
+     * The mapper chain is queried once for the names, implementations and members of the types and the results are
+     * kept in the cache of the mapper. Afterwards the marshalling and unmarshalling of these types does no longer
+     * traverse the individual mappers, i.e. the warm-up of an instance is done in advance. Call this method after the
+     * complete configuration of the XStream instance, since any later configuration flushes the cache again.
+     * </p>
+     *
+     * @param types the types to compile
+     * @throws InitializationException if no {@link CachingMapper} is available
+     * @since upcoming
+     */
+    public void compileMappings(final Class<?>... types) {
+        if (cachingMapper == null) {
+            throw new InitializationException("No " + CachingMapper.class.getName() + " available");
+        }
+        cachingMapper.compile(types);
     }
 
     /**
@@ -2134,6 +2437,7 @@ public class XStream {
             throw new InitializationException("No " + AnnotationMapper.class.getName() + " available");
         }
         annotationMapper.processAnnotations(types);
+        flushMapperCache();
     }
 
     /**
@@ -2147,6 +2451,7 @@ public class XStream {
     public void autodetectAnnotations(final boolean mode) {
         if (annotationMapper != null) {
             annotationMapper.autodetectAnnotations(mode);
+            flushMapperCache();
         }
     }
 
@@ -2163,6 +2468,7 @@ public class XStream {
     public void addPermission(final TypePermission permission) {
         if (securityMapper != null) {
             securityMapper.addPermission(permission);
+            flushMapperCache();
         }
     }
 
@@ -0,0 +1,253 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UTFDataFormatException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.thoughtworks.xstream.converters.Converter;
+import com.thoughtworks.xstream.converters.ConverterLookup;
+import com.thoughtworks.xstream.converters.reflection.AbstractReflectionConverter;
+import com.thoughtworks.xstream.converters.reflection.ReflectionProvider;
+import com.thoughtworks.xstream.io.StreamException;
+import com.thoughtworks.xstream.mapper.CachingMapper;
+import com.thoughtworks.xstream.mapper.Mapper;
+
+
+/**
+ * A snapshot of the caches of a warmed XStream instance.
+ * <p>
+ * An XStream instance fills its caches while it processes the first objects of a type. The snapshot records the
+ * element names and the types together with their members that are kept in the {@link CachingMapper} of a warmed
+ * instance and writes them in a compact binary form. Applying the snapshot to a new instance with the same
+ * configuration resolves all these types in advance and fills the caches of the mapper chain, the converter lookup and
+ * the field dictionary of the reflection provider. The snapshot contains names only, it does not bypass the security
+ * framework and silently skips any type that is no longer available.
+ * </p>
+ * <p>
+ * The recorded types can also be written as class list for the class data sharing of the JVM, e.g. to create an
+ * archive with <code>-XX:SharedClassListFile</code>. For GraalVM native images apply the snapshot in the static
+ * initializer of a class that is initialized at build time, the warmed instance becomes then part of the image heap.
+ * </p>
+ *
+ * @since upcoming
+ */
+public class XStreamSnapshot {
+
+    private static final int MAGIC = 0x58535331; // XSS1
+    private static final String[] NO_NAMES = new String[0];
+
+    private final String[] elementNames;
+    private final Map<String, String[]> types;
+
+    private XStreamSnapshot(final String[] elementNames, final Map<String, String[]> types) {
+        this.elementNames = elementNames;
+        this.types = types;
+    }
+
+    /**
+     * Capture the snapshot of a warmed XStream instance.
+     * <p>
+     * The snapshot is empty if the mapper chain of the instance does not contain a {@link CachingMapper}.
+     * </p>
+     *
+     * @param xstream the warmed instance
+     * @return the snapshot
+     * @since upcoming
+     */
+    public static XStreamSnapshot capture(final XStream xstream) {
+        final CachingMapper cachingMapper = xstream.getMapper().lookupMapperOfType(CachingMapper.class);
+        if (cachingMapper == null) {
+            return new XStreamSnapshot(NO_NAMES, new LinkedHashMap<String, String[]>());
+        }
+        final Set<String> elementNames = new TreeSet<>(cachingMapper.getCachedElementNames());
+        final Map<String, Class<?>> sortedTypes = new TreeMap<>();
+        for (final Class<?> type : cachingMapper.getCachedTypes()) {
+            if (!type.isPrimitive()) {
+                sortedTypes.put(type.getName(), type);
+            }
+        }
+        final Map<String, String[]> types = new LinkedHashMap<>();
+        for (final Map.Entry<String, Class<?>> entry : sortedTypes.entrySet()) {
+            final Set<String> members = new TreeSet<>(cachingMapper.getCachedMemberNames(entry.getValue()));
+            types.put(entry.getKey(), members.toArray(new String[members.size()]));
+        }
+        return new XStreamSnapshot(elementNames.toArray(new String[elementNames.size()]), types);
+    }
+
+    /**
+     * Apply the snapshot to an XStream instance. The instance should have the same configuration as the one used to
+     * capture the snapshot.
+     *
+     * @param xstream the instance to warm
+     * @since upcoming
+     */
+    public void apply(final XStream xstream) {
+        final Mapper mapper = xstream.getMapper();
+        final ConverterLookup converterLookup = xstream.getConverterLookup();
+        final ReflectionProvider reflectionProvider = xstream.getReflectionProvider();
+        final ClassLoader classLoader = xstream.getClassLoaderReference().getReference();
+        for (final String elementName : elementNames) {
+            try {
+                mapper.realClass(elementName);
+            } catch (final XStreamException e) {
+                // the mapper caches also the failure
+            }
+        }
+        for (final Map.Entry<String, String[]> entry : types.entrySet()) {
+            final Class<?> type;
+            try {
+                type = Class.forName(entry.getKey(), false, classLoader);
+            } catch (final ClassNotFoundException | LinkageError e) {
+                continue;
+            }
+            try {
+                mapper.serializedClass(type);
+                mapper.defaultImplementationOf(type);
+                mapper.isImmutableValueType(type);
+                mapper.isReferenceable(type);
+                final Converter converter = converterLookup.lookupConverterForType(type);
+                if (converter instanceof AbstractReflectionConverter) {
+                    // builds the dictionary entry for the type
+                    reflectionProvider.getFieldOrNull(type, "");
+                }
+                for (final String member : entry.getValue()) {
+                    mapper.realMember(type, mapper.serializedMember(type, member));
+                }
+            } catch (final XStreamException e) {
+                // the type is no longer handled in the same way
+            }
+        }
+    }
+
+    /**
+     * Retrieve the names of the types in the snapshot.
+     *
+     * @return the names in alphabetical order
+     * @since upcoming
+     */
+    public List<String> getTypeNames() {
+        return new ArrayList<>(types.keySet());
+    }
+
+    /**
+     * Retrieve the element names in the snapshot.
+     *
+     * @return the names in alphabetical order
+     * @since upcoming
+     */
+    public List<String> getElementNames() {
+        return Collections.unmodifiableList(Arrays.asList(elementNames));
+    }
+
+    /**
+     * Write the snapshot in binary form.
+     *
+     * @param out the stream to write into, it is not closed
+     * @throws IOException if the snapshot cannot be written
+     * @since upcoming
+     */
+    public void write(final OutputStream out) throws IOException {
+        final DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(elementNames.length);
+        for (final String elementName : elementNames) {
+            data.writeUTF(elementName);
+        }
+        data.writeInt(types.size());
+        for (final Map.Entry<String, String[]> entry : types.entrySet()) {
+            data.writeUTF(entry.getKey());
+            data.writeInt(entry.getValue().length);
+            for (final String member : entry.getValue()) {
+                data.writeUTF(member);
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Read a snapshot in binary form.
+     *
+     * @param in the stream to read from, it is not closed
+     * @return the snapshot
+     * @throws IOException if the snapshot cannot be read
+     * @throws StreamException if the stream does not contain a valid snapshot
+     * @since upcoming
+     */
+    public static XStreamSnapshot read(final InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(in);
+        try {
+            if (data.readInt() != MAGIC) {
+                throw new StreamException("Stream does not contain an XStream snapshot");
+            }
+            final String[] elementNames = readNames(data);
+            final int size = readCount(data);
+            final Map<String, String[]> types = new LinkedHashMap<>();
+            for (int i = 0; i < size; ++i) {
+                final String name = data.readUTF();
+                types.put(name, readNames(data));
+            }
+            return new XStreamSnapshot(elementNames, types);
+        } catch (final EOFException | UTFDataFormatException e) {
+            throw new StreamException("Invalid XStream snapshot", e);
+        }
+    }
+
+    private static String[] readNames(final DataInputStream data) throws IOException {
+        final int count = readCount(data);
+        // the count is not trusted, the list grows with the names actually read
+        final List<String> names = new ArrayList<>(Math.min(count, 256));
+        for (int i = 0; i < count; ++i) {
+            names.add(data.readUTF());
+        }
+        return names.toArray(new String[names.size()]);
+    }
+
+    private static int readCount(final DataInputStream data) throws IOException {
+        final int count = data.readInt();
+        if (count < 0) {
+            throw new StreamException("Invalid XStream snapshot, negative count " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Write the types of the snapshot as class list for the class data sharing of the JVM. Array types are omitted.
+     *
+     * @param out the writer, it is not closed
+     * @throws IOException if the list cannot be written
+     * @since upcoming
+     */
+    public void writeClassList(final Writer out) throws IOException {
+        for (final String name : types.keySet()) {
+            if (name.charAt(0) != '[') {
+                out.write(name.replace('.', '/'));
+                out.write('\n');
+            }
+        }
+        out.flush();
+    }
+}
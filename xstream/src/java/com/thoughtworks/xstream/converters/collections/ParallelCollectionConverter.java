@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.converters.collections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.thoughtworks.xstream.converters.Converter;
+import com.thoughtworks.xstream.converters.ConverterLookup;
+import com.thoughtworks.xstream.converters.MarshallingContext;
+import com.thoughtworks.xstream.core.ReferencingMarshallingContext;
+import com.thoughtworks.xstream.core.TreeMarshaller;
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+import com.thoughtworks.xstream.io.copy.RecordingWriter;
+import com.thoughtworks.xstream.mapper.Mapper;
+
+
+/**
+ * Converts the same Collections as the {@link CollectionConverter}, but processes big collections in parallel.
+ * <p>
+ * At marshalling time the items of the collection are split into chunks that are marshalled concurrently by the tasks
+ * of a {@link ForkJoinPool}. Each task uses an own marshalling context and records the written events in a
+ * {@link RecordingWriter}. The recorded chunks are replayed in the original order into the target writer, i.e. the
+ * result is identical to the sequential marshalling. The number of chunks in process is limited, i.e. only the events
+ * of these chunks are kept in memory.
+ * </p>
+ * <p>
+ * At unmarshalling time the collection is read sequentially like by the {@link CollectionConverter}, since the parsing
+ * cannot be split once the reader has been created. Use
+ * {@link com.thoughtworks.xstream.XStream#fromXMLParallel(java.io.Reader, java.util.concurrent.Executor, int, int)}
+ * to unmarshal a big collection from XML in parallel.
+ * </p>
+ * <p>
+ * The parallel marshalling is only used with the {@link com.thoughtworks.xstream.XStream#NO_REFERENCES} mode and
+ * for collections with at least the given number of items, any other collection is processed sequentially. The items
+ * must be independent, only a circular reference of an item to the collection itself is detected. The converter is not
+ * registered by default:
+ * </p>
+ *
+ * <pre>
+ * xstream.registerConverter(new ParallelCollectionConverter(xstream.getMapper(), xstream.getConverterLookup()));
+ * </pre>
+ *
+ * @since upcoming
+ */
+public class ParallelCollectionConverter extends CollectionConverter {
+
+    private final ConverterLookup converterLookup;
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Construct a ParallelCollectionConverter using the common pool for collections with at least 1000 items.
+     *
+     * @param mapper the mapper
+     * @param converterLookup the converter lookup used for the items
+     * @since upcoming
+     */
+    public ParallelCollectionConverter(final Mapper mapper, final ConverterLookup converterLookup) {
+        this(mapper, converterLookup, null, ForkJoinPool.commonPool(), 1000);
+    }
+
+    /**
+     * Construct a ParallelCollectionConverter.
+     *
+     * @param mapper the mapper
+     * @param converterLookup the converter lookup used for the items
+     * @param type the Collection type to handle or <code>null</code> for the default types
+     * @param pool the pool to process the chunks of the collection
+     * @param threshold the minimum number of items in a collection to process it in parallel
+     * @since upcoming
+     */
+    public ParallelCollectionConverter(
+            final Mapper mapper, final ConverterLookup converterLookup,
+            @SuppressWarnings("rawtypes") final Class<? extends Collection> type, final ForkJoinPool pool,
+            final int threshold) {
+        super(mapper, type);
+        this.converterLookup = converterLookup;
+        this.pool = pool;
+        this.threshold = Math.max(threshold, 2);
+    }
+
+    @Override
+    public void marshal(final Object source, final HierarchicalStreamWriter writer, final MarshallingContext context) {
+        final Collection<?> collection = (Collection<?>)source;
+        if (collection.size() < threshold || context instanceof ReferencingMarshallingContext) {
+            super.marshal(source, writer, context);
+            return;
+        }
+
+        final List<Object> data = new ArrayList<>();
+        for (final Iterator<Object> iter = context.keys(); iter.hasNext();) {
+            final Object key = iter.next();
+            data.add(key);
+            data.add(context.get(key));
+        }
+        final Object[] items = collection.toArray();
+        final int chunkSize = Math.max(64, threshold / 4);
+        final int maxChunks = pool.getParallelism() * 4;
+        final LinkedList<MarshalChunk> chunks = new LinkedList<>();
+        try {
+            for (int from = 0; from < items.length; from += chunkSize) {
+                final MarshalChunk chunk = new MarshalChunk(items, from, Math.min(items.length, from + chunkSize),
+                    source, data);
+                chunks.add(chunk);
+                pool.execute(chunk);
+                if (chunks.size() >= maxChunks) {
+                    chunks.removeFirst().replay(writer);
+                }
+            }
+            while (!chunks.isEmpty()) {
+                chunks.removeFirst().replay(writer);
+            }
+        } finally {
+            for (final MarshalChunk chunk : chunks) {
+                chunk.cancel(false);
+            }
+        }
+    }
+
+    private class MarshalChunk extends RecursiveAction {
+        private static final long serialVersionUID = 20261019L;
+
+        private final Object[] items;
+        private final int from;
+        private final int to;
+        private final Object parent;
+        private final List<Object> data;
+        private RecordingWriter recorder;
+        private RuntimeException failure;
+
+        MarshalChunk(
+                final Object[] items, final int from, final int to, final Object parent,
+                final List<Object> data) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.parent = parent;
+            this.data = data;
+        }
+
+        @Override
+        protected void compute() {
+            recorder = new RecordingWriter();
+            final TreeMarshaller context = new TreeMarshaller(recorder, converterLookup, mapper()) {
+                @Override
+                protected void convert(final Object item, final Converter converter) {
+                    if (item == parent) {
+                        final CircularReferenceException e = new CircularReferenceException(
+                            "Recursive reference to parent object");
+                        e.add("item-type", item.getClass().getName());
+                        e.add("converter-type", converter.getClass().getName());
+                        throw e;
+                    }
+                    super.convert(item, converter);
+                }
+            };
+            for (int i = 0; i < data.size(); i += 2) {
+                context.put(data.get(i), data.get(i + 1));
+            }
+            try {
+                for (int i = from; i < to; ++i) {
+                    writeCompleteItem(items[i], context, recorder);
+                }
+            } catch (final RuntimeException e) {
+                failure = e;
+            }
+        }
+
+        void replay(final HierarchicalStreamWriter writer) {
+            join();
+            if (failure != null) {
+                throw failure;
+            }
+            recorder.replay(writer);
+            recorder = null;
+        }
+    }
+}
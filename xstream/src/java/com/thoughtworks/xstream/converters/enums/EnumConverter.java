@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2009, 2013, 2014, 2018 XStream Committers.
+ * Copyright (C) 2006, 2007, 2009, 2013, 2014, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -12,9 +12,13 @@
 
 package com.thoughtworks.xstream.converters.enums;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import com.thoughtworks.xstream.converters.Converter;
 import com.thoughtworks.xstream.converters.MarshallingContext;
 import com.thoughtworks.xstream.converters.UnmarshallingContext;
+import com.thoughtworks.xstream.core.Caching;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
 import com.thoughtworks.xstream.mapper.EnumMapper;
@@ -29,7 +33,9 @@ import com.thoughtworks.xstream.mapper.EnumMapper;
  * @author Eric Snell
  * @author Bryan Coleman
  */
-public class EnumConverter implements Converter {
+public class EnumConverter implements Converter, Caching {
+
+    private transient ConcurrentMap<Class<?>, EnumTable> tables = new ConcurrentHashMap<>();
 
     @Override
     public boolean canConvert(final Class<?> type) {
@@ -48,22 +54,40 @@ public class EnumConverter implements Converter {
             type = type.getSuperclass(); // polymorphic enums
         }
         final String name = reader.getValue();
-        try {
+        EnumTable table = tables.get(type);
+        if (table == null) {
+            table = EnumTable.of(type);
+            if (table != null) {
+                tables.putIfAbsent(type, table);
+            }
+        }
+        Enum<?> enumValue = null;
+        if (table != null) {
+            enumValue = table.get(name);
+            if (enumValue == null) {
+                // failed to find it, do a case insensitive match
+                enumValue = table.getIgnoreCase(name);
+            }
+        }
+        if (enumValue == null) {
+            // all else failed, let the JDK report the error
             @SuppressWarnings("rawtypes")
             final Class rawType = type;
             @SuppressWarnings("unchecked")
-            final Enum<?> enumValue = Enum.valueOf(rawType, name);
-            return enumValue;
-        } catch (final IllegalArgumentException e) {
-            // failed to find it, do a case insensitive match
-            for (final Enum<?> c : (Enum<?>[])type.getEnumConstants()) {
-                if (c.name().equalsIgnoreCase(name)) {
-                    return c;
-                }
-            }
-            // all else failed
-            throw e;
+            final Enum<?> value = Enum.valueOf(rawType, name);
+            enumValue = value;
         }
+        return enumValue;
+    }
+
+    @Override
+    public void flushCache() {
+        tables.clear();
+    }
+
+    private Object readResolve() {
+        tables = new ConcurrentHashMap<>();
+        return this;
     }
 
 }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2014, 2018 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2014, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -14,11 +14,14 @@ package com.thoughtworks.xstream.converters.enums;
 
 import java.lang.reflect.Field;
 import java.util.EnumSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.thoughtworks.xstream.converters.ConversionException;
 import com.thoughtworks.xstream.converters.Converter;
 import com.thoughtworks.xstream.converters.MarshallingContext;
 import com.thoughtworks.xstream.converters.UnmarshallingContext;
+import com.thoughtworks.xstream.core.Caching;
 import com.thoughtworks.xstream.core.util.Fields;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
@@ -31,17 +34,39 @@ import com.thoughtworks.xstream.mapper.Mapper;
  * If a SecurityManager is set, the converter will only work with permissions for SecurityManager.checkPackageAccess,
  * SecurityManager.checkMemberAccess(this, EnumSet.MEMBER) and ReflectPermission("suppressAccessChecks").
  * </p>
+ * <p>
+ * The set is written as comma separated list of the names of its elements. Optionally the set is written in a compact
+ * form as hexadecimal bitmask of the ordinals of its elements, e.g. for binary formats or large sets. Note, that this
+ * form depends on the declaration order of the enum values. The converter reads both forms.
+ * </p>
  * 
  * @author Joe Walnes
  * @author J&ouml;rg Schaible
  */
-public class EnumSetConverter implements Converter {
+public class EnumSetConverter implements Converter, Caching {
 
     private final static Field typeField = Fields.locate(EnumSet.class, Class.class, false);
+    private final static String BITMASK_PREFIX = "0x";
+    private final static char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
     private final Mapper mapper;
+    private final boolean ordinalBitmask;
+    private transient ConcurrentMap<Class<?>, EnumTable> tables;
 
     public EnumSetConverter(final Mapper mapper) {
+        this(mapper, false);
+    }
+
+    /**
+     * Constructs an EnumSetConverter.
+     *
+     * @param mapper the mapper
+     * @param ordinalBitmask <code>true</code> to write the set as bitmask of the ordinals of its elements
+     * @since upcoming
+     */
+    public EnumSetConverter(final Mapper mapper, final boolean ordinalBitmask) {
         this.mapper = mapper;
+        this.ordinalBitmask = ordinalBitmask;
+        readResolve();
     }
 
     @Override
@@ -57,7 +82,32 @@ public class EnumSetConverter implements Converter {
         if (attributeName != null) {
             writer.addAttribute(attributeName, mapper.serializedClass(enumTypeForSet));
         }
-        writer.setValue(joinEnumValues(set));
+        writer.setValue(ordinalBitmask ? bitmaskOfOrdinals(set) : joinEnumValues(set));
+    }
+
+    private String bitmaskOfOrdinals(final EnumSet<?> set) {
+        if (set.isEmpty()) {
+            return BITMASK_PREFIX + '0';
+        }
+        final byte[] nibbles = new byte[(maxOrdinal(set) >> 2) + 1];
+        for (final Enum<?> value : set) {
+            final int ordinal = value.ordinal();
+            nibbles[ordinal >> 2] |= 1 << (ordinal & 3);
+        }
+        final StringBuilder result = new StringBuilder(BITMASK_PREFIX.length() + nibbles.length);
+        result.append(BITMASK_PREFIX);
+        for (int i = nibbles.length; i-- > 0;) {
+            result.append(HEX_DIGITS[nibbles[i]]);
+        }
+        return result.toString();
+    }
+
+    private int maxOrdinal(final EnumSet<?> set) {
+        int max = 0;
+        for (final Enum<?> value : set) {
+            max = value.ordinal();
+        }
+        return max;
     }
 
     private String joinEnumValues(final EnumSet<?> set) {
@@ -88,15 +138,65 @@ public class EnumSetConverter implements Converter {
     }
 
     private <T extends Enum<T>> EnumSet<T> create(final Class<T> type, final String s) {
-        final String[] enumValues = s.split(",");
         final EnumSet<T> set = EnumSet.noneOf(type);
-        for (final String enumValue : enumValues) {
-            if (enumValue.length() > 0) {
-                final T value = Enum.valueOf(type, enumValue);
-                set.add(value);
+        final EnumTable table = tableFor(type);
+        if (s.startsWith(BITMASK_PREFIX)) {
+            for (int i = s.length(), nibble = 0; i-- > BITMASK_PREFIX.length(); ++nibble) {
+                final int bits = Character.digit(s.charAt(i), 16);
+                if (bits < 0) {
+                    final ConversionException exception = new ConversionException("Invalid bitmask for EnumSet");
+                    exception.add("enum-type", type.getName());
+                    exception.add("bitmask", s);
+                    throw exception;
+                }
+                for (int bit = 0; bit < 4; ++bit) {
+                    if ((bits & 1 << bit) != 0) {
+                        final Enum<?> value = table.get((nibble << 2) + bit);
+                        if (value == null) {
+                            final ConversionException exception = new ConversionException(
+                                "Invalid ordinal for enum type");
+                            exception.add("enum-type", type.getName());
+                            exception.add("ordinal", String.valueOf((nibble << 2) + bit));
+                            throw exception;
+                        }
+                        set.add(type.cast(value));
+                    }
+                }
+            }
+        } else {
+            for (int start = 0, end; start < s.length(); start = end + 1) {
+                end = s.indexOf(',', start);
+                if (end < 0) {
+                    end = s.length();
+                }
+                if (end > start) {
+                    final String name = s.substring(start, end);
+                    final Enum<?> value = table.get(name);
+                    // let the JDK report the error
+                    set.add(value != null ? type.cast(value) : Enum.valueOf(type, name));
+                }
             }
         }
         return set;
     }
 
+    private EnumTable tableFor(final Class<?> type) {
+        EnumTable table = tables.get(type);
+        if (table == null) {
+            table = EnumTable.of(type);
+            tables.putIfAbsent(type, table);
+        }
+        return table;
+    }
+
+    @Override
+    public void flushCache() {
+        tables.clear();
+    }
+
+    private Object readResolve() {
+        tables = new ConcurrentHashMap<>();
+        return this;
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2008, 2009, 2010, 2013, 2014, 2018 XStream Committers.
+ * Copyright (C) 2008, 2009, 2010, 2013, 2014, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -22,6 +22,7 @@ import com.thoughtworks.xstream.converters.basic.AbstractSingleValueConverter;
 public class EnumSingleValueConverter<T extends Enum<T>> extends AbstractSingleValueConverter {
 
     private final Class<T> enumType;
+    private transient volatile EnumTable table;
 
     public EnumSingleValueConverter(final Class<T> type) {
         if (!Enum.class.isAssignableFrom(type) && !Enum.class.equals(type)) {
@@ -42,6 +43,16 @@ public class EnumSingleValueConverter<T extends Enum<T>> extends AbstractSingleV
 
     @Override
     public Object fromString(final String str) {
-        return Enum.valueOf(enumType, str);
+        EnumTable table = this.table;
+        if (table == null) {
+            table = EnumTable.of(enumType);
+            if (table == null) {
+                return Enum.valueOf(enumType, str);
+            }
+            this.table = table;
+        }
+        final Enum<?> value = table.get(str);
+        // let the JDK report the error
+        return value != null ? value : Enum.valueOf(enumType, str);
     }
 }
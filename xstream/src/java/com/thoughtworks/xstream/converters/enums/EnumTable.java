@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.converters.enums;
+
+/**
+ * Precomputed table of the constants of an enum type.
+ * <p>
+ * The constants are kept in an array indexed by their ordinal and in an open addressing hash table indexed by their
+ * name. The size of the hash table is chosen to avoid any collision for typical enum types, i.e. a constant is found
+ * with a single probe.
+ * </p>
+ */
+final class EnumTable {
+
+    private static final int MAX_GROWTH = 4;
+
+    private final Enum<?>[] constants;
+    private final Enum<?>[] table;
+    private final int mask;
+
+    private EnumTable(final Enum<?>[] constants) {
+        this.constants = constants;
+        int size = Integer.highestOneBit(Math.max(constants.length, 1)) << 2;
+        Enum<?>[] table = fill(constants, size, true);
+        for (int i = 1; i < MAX_GROWTH && table == null; ++i) {
+            size <<= 1;
+            table = fill(constants, size, true);
+        }
+        if (table == null) {
+            table = fill(constants, size, false);
+        }
+        this.table = table;
+        mask = size - 1;
+    }
+
+    /**
+     * Create the table for an enum type.
+     *
+     * @param type the enum type
+     * @return the table or <code>null</code> if the type does not declare enum constants
+     */
+    static EnumTable of(final Class<?> type) {
+        final Object[] constants = type.getEnumConstants();
+        return constants == null ? null : new EnumTable((Enum<?>[])constants);
+    }
+
+    private static Enum<?>[] fill(final Enum<?>[] constants, final int size, final boolean perfect) {
+        final Enum<?>[] table = new Enum<?>[size];
+        final int mask = size - 1;
+        for (final Enum<?> constant : constants) {
+            int idx = hash(constant.name()) & mask;
+            while (table[idx] != null) {
+                if (perfect) {
+                    return null;
+                }
+                idx = idx + 1 & mask;
+            }
+            table[idx] = constant;
+        }
+        return table;
+    }
+
+    private static int hash(final String name) {
+        final int h = name.hashCode();
+        return h ^ h >>> 16;
+    }
+
+    /**
+     * Find a constant by its name.
+     *
+     * @param name the name
+     * @return the constant or <code>null</code> if the type has no constant with this name
+     */
+    Enum<?> get(final String name) {
+        if (name != null) {
+            for (int idx = hash(name) & mask;; idx = idx + 1 & mask) {
+                final Enum<?> constant = table[idx];
+                if (constant == null || constant.name().equals(name)) {
+                    return constant;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find a constant by its name ignoring the case.
+     *
+     * @param name the name
+     * @return the constant or <code>null</code> if the type has no constant with this name
+     */
+    Enum<?> getIgnoreCase(final String name) {
+        if (name != null) {
+            for (final Enum<?> constant : constants) {
+                if (constant.name().equalsIgnoreCase(name)) {
+                    return constant;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find a constant by its ordinal.
+     *
+     * @param ordinal the ordinal
+     * @return the constant or <code>null</code> if the type has no constant with this ordinal
+     */
+    Enum<?> get(final int ordinal) {
+        return ordinal >= 0 && ordinal < constants.length ? constants[ordinal] : null;
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.converters.javabean;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.thoughtworks.xstream.converters.ConversionException;
+import com.thoughtworks.xstream.converters.ErrorWritingException;
+import com.thoughtworks.xstream.converters.reflection.ObjectAccessException;
+import com.thoughtworks.xstream.core.Caching;
+
+
+/**
+ * A {@link JavaBeanProvider} that accesses the bean properties with method handles.
+ * <p>
+ * The provider resolves the getters, the setters and the default constructor of a bean type only once into
+ * {@link MethodHandle}s and keeps them in a concurrent cache without any global lock. The properties are still
+ * determined with the {@link PropertyDictionary} of the {@link BeanProvider}, therefore the sorting of the properties
+ * and any overwritten {@link #canStreamProperty(PropertyDescriptor)} method is respected. A method that cannot be
+ * accessed with a method handle is called by reflection.
+ * </p>
+ *
+ * @since upcoming
+ */
+public class MethodHandleBeanProvider extends BeanProvider implements Caching {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private transient ConcurrentMap<Class<?>, BeanAccessors> accessorsCache;
+
+    /**
+     * Construct a MethodHandleBeanProvider that will process the bean properties in their natural order.
+     *
+     * @since upcoming
+     */
+    public MethodHandleBeanProvider() {
+        this(new PropertyDictionary(new NativePropertySorter()));
+    }
+
+    /**
+     * Construct a MethodHandleBeanProvider with a comparator to sort the bean properties by name in the dictionary.
+     *
+     * @param propertyNameComparator the comparator
+     * @since upcoming
+     */
+    public MethodHandleBeanProvider(final Comparator<String> propertyNameComparator) {
+        this(new PropertyDictionary(new ComparingPropertySorter(propertyNameComparator)));
+    }
+
+    /**
+     * Construct a MethodHandleBeanProvider with a provided property dictionary.
+     *
+     * @param propertyDictionary the property dictionary to use
+     * @since upcoming
+     */
+    public MethodHandleBeanProvider(final PropertyDictionary propertyDictionary) {
+        super(propertyDictionary);
+        readResolve();
+    }
+
+    @Override
+    public Object newInstance(final Class<?> type) {
+        final MethodHandle constructor = accessorsFor(type).constructor;
+        if (constructor == null) {
+            return super.newInstance(type);
+        }
+        try {
+            return (Object)constructor.invokeExact();
+        } catch (final Throwable e) {
+            final ErrorWritingException ex = new ConversionException("Cannot construct type", e);
+            ex.add("construction-type", type.getName());
+            throw ex;
+        }
+    }
+
+    @Override
+    public void visitSerializableProperties(final Object object, final JavaBeanProvider.Visitor visitor) {
+        final BeanAccessors accessors = accessorsFor(object.getClass());
+        PropertyAccessor[] properties = accessors.serializableProperties;
+        if (properties == null) {
+            final PropertyDescriptor[] descriptors = getSerializableProperties(object);
+            properties = new PropertyAccessor[descriptors.length];
+            for (int i = 0; i < descriptors.length; ++i) {
+                properties[i] = accessors.propertyAccessor(descriptors[i]);
+            }
+            accessors.serializableProperties = properties;
+        }
+        for (final PropertyAccessor property : properties) {
+            if (visitor.shouldVisit(property.name, property.definedIn)) {
+                final Object value;
+                if (property.getter == null) {
+                    value = readProperty(object, property);
+                } else {
+                    try {
+                        value = (Object)property.getter.invokeExact(object);
+                    } catch (final Throwable e) {
+                        throw propertyException("Cannot get property", e, object, property.name);
+                    }
+                }
+                visitor.visit(property.name, property.type, property.definedIn, value);
+            }
+        }
+    }
+
+    @Override
+    public void writeProperty(final Object object, final String propertyName, final Object value) {
+        final PropertyAccessor property = accessorsFor(object.getClass()).propertyAccessor(propertyName);
+        if (property.setter == null) {
+            super.writeProperty(object, propertyName, value);
+            return;
+        }
+        try {
+            property.setter.invokeExact(object, value);
+        } catch (final Throwable e) {
+            throw propertyException("Cannot set property", e, object, propertyName);
+        }
+    }
+
+    @Override
+    public Class<?> getPropertyType(final Object object, final String name) {
+        return accessorsFor(object.getClass()).propertyAccessor(name).type;
+    }
+
+    private static Object readProperty(final Object object, final PropertyAccessor property) {
+        ErrorWritingException ex = null;
+        try {
+            return property.descriptor.getReadMethod().invoke(object);
+        } catch (final IllegalArgumentException e) {
+            ex = new ConversionException("Cannot get property", e);
+        } catch (final IllegalAccessException e) {
+            ex = new ObjectAccessException("Cannot access property", e);
+        } catch (final InvocationTargetException e) {
+            ex = new ConversionException("Cannot get property", e.getTargetException());
+        }
+        ex.add("property", object.getClass() + "." + property.name);
+        throw ex;
+    }
+
+    private static ErrorWritingException propertyException(final String message, final Throwable cause,
+            final Object object, final String propertyName) {
+        final ErrorWritingException ex = new ConversionException(message, cause);
+        ex.add("property", object.getClass() + "." + propertyName);
+        return ex;
+    }
+
+    private BeanAccessors accessorsFor(final Class<?> type) {
+        BeanAccessors accessors = accessorsCache.get(type);
+        if (accessors == null) {
+            accessors = new BeanAccessors(type);
+            final BeanAccessors existing = accessorsCache.putIfAbsent(type, accessors);
+            if (existing != null) {
+                accessors = existing;
+            }
+        }
+        return accessors;
+    }
+
+    @Override
+    public void flushCache() {
+        accessorsCache.clear();
+        propertyDictionary.flushCache();
+    }
+
+    private Object readResolve() {
+        accessorsCache = new ConcurrentHashMap<>();
+        return this;
+    }
+
+    private static MethodHandle unreflect(final Method method, final MethodType type) {
+        if (method == null) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(type);
+        } catch (final IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private class BeanAccessors {
+        private final Class<?> type;
+        private final MethodHandle constructor;
+        private volatile Map<String, PropertyAccessor> properties;
+        private volatile PropertyAccessor[] serializableProperties;
+
+        BeanAccessors(final Class<?> type) {
+            this.type = type;
+            MethodHandle handle = null;
+            if (!type.isInterface() && !type.isArray() && !type.isPrimitive() && !Modifier.isAbstract(type
+                .getModifiers())) {
+                try {
+                    handle = MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class))
+                        .asType(CONSTRUCTOR_TYPE);
+                } catch (final NoSuchMethodException | IllegalAccessException e) {
+                    // use reflection
+                }
+            }
+            constructor = handle;
+        }
+
+        private Map<String, PropertyAccessor> properties() {
+            Map<String, PropertyAccessor> map = properties;
+            if (map == null) {
+                map = new HashMap<>();
+                for (final Iterator<PropertyDescriptor> iter = propertyDictionary.propertiesFor(type); iter
+                    .hasNext();) {
+                    final PropertyDescriptor descriptor = iter.next();
+                    map.put(descriptor.getName(), new PropertyAccessor(descriptor));
+                }
+                properties = map;
+            }
+            return map;
+        }
+
+        PropertyAccessor propertyAccessor(final String name) {
+            final PropertyAccessor property = properties().get(name);
+            if (property == null) {
+                // throws MissingFieldException
+                propertyDictionary.propertyDescriptor(type, name);
+            }
+            return property;
+        }
+
+        PropertyAccessor propertyAccessor(final PropertyDescriptor descriptor) {
+            final PropertyAccessor property = properties().get(descriptor.getName());
+            return property != null && property.descriptor == descriptor ? property : new PropertyAccessor(descriptor);
+        }
+    }
+
+    private static class PropertyAccessor {
+        private final PropertyDescriptor descriptor;
+        private final String name;
+        private final Class<?> type;
+        private final Class<?> definedIn;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        PropertyAccessor(final PropertyDescriptor descriptor) {
+            this.descriptor = descriptor;
+            final Method readMethod = descriptor.getReadMethod();
+            name = descriptor.getName();
+            type = descriptor.getPropertyType();
+            definedIn = readMethod != null ? readMethod.getDeclaringClass() : null;
+            getter = unreflect(readMethod, GETTER_TYPE);
+            setter = unreflect(descriptor.getWriteMethod(), SETTER_TYPE);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2014, 2015, 2016, 2017 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2014, 2015, 2016, 2017, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -17,11 +17,11 @@ import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.thoughtworks.xstream.converters.reflection.MissingFieldException;
 import com.thoughtworks.xstream.converters.reflection.ObjectAccessException;
@@ -35,8 +35,8 @@ import com.thoughtworks.xstream.core.Caching;
  * @author J&ouml;rg Schaible
  */
 public class PropertyDictionary implements Caching {
-    private transient Map<Class<?>, Map<String, PropertyDescriptor>> propertyNameCache = Collections.synchronizedMap(
-        new HashMap<Class<?>, Map<String, PropertyDescriptor>>());
+    private transient ConcurrentMap<Class<?>, Map<String, PropertyDescriptor>> propertyNameCache =
+        new ConcurrentHashMap<>();
     private final PropertySorter sorter;
 
     public PropertyDictionary() {
@@ -130,7 +130,10 @@ public class PropertyDictionary implements Caching {
                 nameMap.put(descriptor.getName(), descriptor);
             }
             nameMap = sorter.sort(type, nameMap);
-            propertyNameCache.put(type, nameMap);
+            final Map<String, PropertyDescriptor> existing = propertyNameCache.putIfAbsent(type, nameMap);
+            if (existing != null) {
+                nameMap = existing;
+            }
         }
         return nameMap;
     }
@@ -139,4 +142,9 @@ public class PropertyDictionary implements Caching {
     public void flushCache() {
         propertyNameCache.clear();
     }
+
+    private Object readResolve() {
+        propertyNameCache = new ConcurrentHashMap<>();
+        return this;
+    }
 }
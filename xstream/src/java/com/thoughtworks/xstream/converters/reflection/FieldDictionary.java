@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2012, 2013, 2014, 2015, 2018 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2012, 2013, 2014, 2015, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -23,11 +23,17 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import com.thoughtworks.xstream.core.Caching;
+import com.thoughtworks.xstream.core.Instrumentation;
+import com.thoughtworks.xstream.core.Instrumentations;
 import com.thoughtworks.xstream.core.JVM;
 
 
 /**
  * A field dictionary instance caches information about classes fields.
+ * <p>
+ * An installed {@link Instrumentation} is notified whenever the fields of a type that is not yet in the cache are
+ * collected.
+ * </p>
  *
  * @author Joe Walnes
  * @author J&ouml;rg Schaible
@@ -104,7 +110,15 @@ public class FieldDictionary implements Caching {
     private Map<?, Field> buildMap(final Class<?> type, final boolean tupleKeyed) {
         DictionaryEntry dictionaryEntry = dictionaryEntries.get(type);
         if (dictionaryEntry == null) {
-            dictionaryEntry = buildCache(type);
+            final Instrumentation instrumentation = Instrumentations.get();
+            if (instrumentation == null) {
+                dictionaryEntry = buildCache(type);
+            } else {
+                final long start = System.nanoTime();
+                dictionaryEntry = buildCache(type);
+                instrumentation.fieldsCollected(type, dictionaryEntry.getKeyedByFieldKey().size(), System.nanoTime()
+                    - start);
+            }
         }
         return tupleKeyed ? dictionaryEntry.getKeyedByFieldKey() : dictionaryEntry.getKeyedByFieldName();
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2014, 2015, 2018, 2019 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2014, 2015, 2018, 2019, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -125,6 +125,21 @@ public abstract class AbstractReferenceMarshaller<R> extends TreeMarshaller {
         }
     }
 
+    @Override
+    protected boolean reuse(final HierarchicalStreamWriter writer, final ConverterLookup converterLookup,
+            final Mapper mapper) {
+        return super.reuse(new PathTrackingWriter(writer, pathTracker), converterLookup, mapper);
+    }
+
+    @Override
+    protected void recycle() {
+        super.recycle();
+        references.clear();
+        implicitElements.clear();
+        pathTracker.clear();
+        lastPath = null;
+    }
+
     protected abstract String createReference(Path currentPath, R existingReferenceKey);
 
     protected abstract R createReferenceKey(Path currentPath, Object item);
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2006, 2007, 2008, 2011, 2014, 2015, 2018 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2011, 2014, 2015, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -32,7 +32,9 @@ import com.thoughtworks.xstream.mapper.Mapper;
 public abstract class AbstractReferenceUnmarshaller<R> extends TreeUnmarshaller {
 
     private static final Object NULL = new Object();
-    private final Map<R, Object> values = new HashMap<>();
+    private static final int RECYCLING_SIZE = 1024;
+
+    private Map<R, Object> values = new HashMap<>();
     private final FastStack<R> parentStack = new FastStack<>(16);
 
     public AbstractReferenceUnmarshaller(
@@ -85,6 +87,18 @@ public abstract class AbstractReferenceUnmarshaller<R> extends TreeUnmarshaller
         return result;
     }
 
+    @Override
+    protected void recycle() {
+        super.recycle();
+        // release the table of a big document
+        if (values.size() > RECYCLING_SIZE) {
+            values = new HashMap<>();
+        } else {
+            values.clear();
+        }
+        parentStack.clear();
+    }
+
     protected abstract R getReferenceKey(String reference);
 
     protected abstract R getCurrentReferenceKey();
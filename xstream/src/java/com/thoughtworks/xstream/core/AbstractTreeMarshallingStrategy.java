@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2006, 2007, 2008, 2009, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -20,6 +20,15 @@ import com.thoughtworks.xstream.mapper.Mapper;
 
 /**
  * Basic functionality of a tree based marshalling strategy.
+ * <p>
+ * The strategy can recycle its marshalling and unmarshalling contexts. If {@link #isRecycling()} returns
+ * <code>true</code>, every thread keeps the context of its last finished process. The state of the context is released
+ * at the end of the process and the context is prepared for the next one with the new writer or reader. An idle
+ * context keeps only its empty internal buffers, it releases also the converter lookup and the mapper. Otherwise the
+ * context of a thread would keep the XStream instance alive, since it owns this strategy. Buffers that have grown for a
+ * big document are released, too, instead of pinning their memory in every thread of a pool. A nested call of the
+ * same strategy in the same thread uses a new context.
+ * </p>
  * 
  * @author Joe Walnes
  * @author J&ouml;rg Schaible
@@ -27,18 +36,73 @@ import com.thoughtworks.xstream.mapper.Mapper;
  */
 public abstract class AbstractTreeMarshallingStrategy implements MarshallingStrategy {
 
+    private final ThreadLocal<TreeMarshaller> marshallers = new ThreadLocal<>();
+    private final ThreadLocal<TreeUnmarshaller> unmarshallers = new ThreadLocal<>();
+
     @Override
     public Object unmarshal(final Object root, final HierarchicalStreamReader reader, final DataHolder dataHolder,
             final ConverterLookup converterLookup, final Mapper mapper) {
-        final TreeUnmarshaller context = createUnmarshallingContext(root, reader, converterLookup, mapper);
-        return context.start(dataHolder);
+        if (!isRecycling()) {
+            final TreeUnmarshaller context = createUnmarshallingContext(root, reader, converterLookup, mapper);
+            return context.start(dataHolder);
+        }
+        TreeUnmarshaller context = unmarshallers.get();
+        if (context != null) {
+            unmarshallers.set(null);
+            if (!context.reuse(root, reader, converterLookup, mapper)) {
+                context = null;
+            }
+        }
+        if (context == null) {
+            context = createUnmarshallingContext(root, reader, converterLookup, mapper);
+        }
+        try {
+            return context.start(dataHolder);
+        } finally {
+            context.recycle();
+            unmarshallers.set(context);
+        }
     }
 
     @Override
     public void marshal(final HierarchicalStreamWriter writer, final Object obj, final ConverterLookup converterLookup,
             final Mapper mapper, final DataHolder dataHolder) {
-        final TreeMarshaller context = createMarshallingContext(writer, converterLookup, mapper);
-        context.start(obj, dataHolder);
+        if (!isRecycling()) {
+            final TreeMarshaller context = createMarshallingContext(writer, converterLookup, mapper);
+            context.start(obj, dataHolder);
+            return;
+        }
+        TreeMarshaller context = marshallers.get();
+        if (context != null) {
+            marshallers.set(null);
+            if (!context.reuse(writer, converterLookup, mapper)) {
+                context = null;
+            }
+        }
+        if (context == null) {
+            context = createMarshallingContext(writer, converterLookup, mapper);
+        }
+        try {
+            context.start(obj, dataHolder);
+        } finally {
+            context.recycle();
+            marshallers.set(context);
+        }
+    }
+
+    /**
+     * Check whether the strategy recycles its contexts.
+     * <p>
+     * A context can only be recycled if it releases all of its state in {@link TreeMarshaller#recycle()} or
+     * {@link TreeUnmarshaller#recycle()}. The default implementation returns <code>false</code>. The strategies of
+     * XStream return <code>true</code> unless they are derived, since a derived strategy may create own contexts.
+     * </p>
+     * 
+     * @return <code>true</code> if contexts are recycled
+     * @since upcoming
+     */
+    protected boolean isRecycling() {
+        return false;
     }
 
     protected abstract TreeUnmarshaller createUnmarshallingContext(Object root, HierarchicalStreamReader reader,
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 2014, 2015, 2016, 2017, 2019 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 2014, 2015, 2016, 2017, 2019, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -20,11 +20,19 @@ import com.thoughtworks.xstream.converters.Converter;
 import com.thoughtworks.xstream.converters.ConverterLookup;
 import com.thoughtworks.xstream.converters.ConverterRegistry;
 import com.thoughtworks.xstream.core.util.Cloneables;
+import com.thoughtworks.xstream.core.util.LazyConverter;
 import com.thoughtworks.xstream.core.util.PrioritizedList;
 
 
 /**
  * The default implementation of converters lookup.
+ * <p>
+ * A registered {@link LazyConverter} is replaced by its real converter as soon as it matches a type.
+ * </p>
+ * <p>
+ * An installed {@link Instrumentation} is notified whether the converter of a type has been found in the cache and
+ * about the time to find the converter otherwise.
+ * </p>
  *
  * @author Joe Walnes
  * @author J&ouml;rg Schaible
@@ -55,14 +63,37 @@ public class DefaultConverterLookup implements ConverterLookup, ConverterRegistr
     @Override
     public Converter lookupConverterForType(final Class<?> type) {
         final Converter cachedConverter = type != null ? typeToConverterMap.get(type.getName()) : null;
+        final Instrumentation instrumentation = Instrumentations.get();
         if (cachedConverter != null) {
+            if (instrumentation != null) {
+                instrumentation.converterLookedUp(type, cachedConverter, true, 0);
+            }
             return cachedConverter;
         }
+        if (instrumentation == null) {
+            return findConverter(type);
+        }
+        final long start = System.nanoTime();
+        Converter converter = null;
+        try {
+            converter = findConverter(type);
+            return converter;
+        } finally {
+            instrumentation.converterLookedUp(type, converter, false, System.nanoTime() - start);
+        }
+    }
 
+    private Converter findConverter(final Class<?> type) {
         final Map<String, String> errors = new LinkedHashMap<>();
-        for (final Converter converter : converters) {
+        for (Converter converter : converters) {
             try {
                 if (converter.canConvert(type)) {
+                    if (converter instanceof LazyConverter) {
+                        converter = ((LazyConverter)converter).getConverter();
+                        if (!converter.canConvert(type)) {
+                            continue;
+                        }
+                    }
                     if (type != null) {
                         typeToConverterMap.put(type.getName(), converter);
                     }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.core;
+
+import com.thoughtworks.xstream.converters.Converter;
+
+
+/**
+ * Service provider interface to instrument the marshalling and unmarshalling processes.
+ * <p>
+ * An installed instrumentation is notified about the processed documents, the conversion of every object, the results
+ * of the converter lookup and the caching mapper, the fields collected by the field dictionary, the types denied by the
+ * security framework and the nodes, bytes and parsing or writing time of an
+ * {@link com.thoughtworks.xstream.io.InstrumentedDriver}. The callbacks are made in the thread of the process and must
+ * therefore be thread-safe and fast. No callback is made at all as long as no instrumentation is installed with
+ * {@link Instrumentations#install(Instrumentation)}.
+ * </p>
+ *
+ * @since upcoming
+ */
+public interface Instrumentation {
+
+    /**
+     * Callback at the start of a document.
+     *
+     * @param marshalling <code>true</code> if the document is marshalled, <code>false</code> if unmarshalled
+     * @since upcoming
+     */
+    void documentStarted(boolean marshalling);
+
+    /**
+     * Callback at the end of a document. The callback is also made if the process failed.
+     *
+     * @param rootType the type of the root object or <code>null</code> if not known
+     * @param marshalling <code>true</code> if the document is marshalled, <code>false</code> if unmarshalled
+     * @param nanos the elapsed time in nanoseconds
+     * @since upcoming
+     */
+    void documentConverted(Class<?> rootType, boolean marshalling, long nanos);
+
+    /**
+     * Callback after a converter processed an object. The elapsed time includes the time of any nested conversion.
+     *
+     * @param type the type of the processed object
+     * @param converter the converter
+     * @param marshalling <code>true</code> if the object is marshalled, <code>false</code> if unmarshalled
+     * @param nanos the elapsed time in nanoseconds
+     * @since upcoming
+     */
+    void converted(Class<?> type, Converter converter, boolean marshalling, long nanos);
+
+    /**
+     * Callback after the converter for a type has been looked up.
+     *
+     * @param type the type
+     * @param converter the converter or <code>null</code> if no converter has been found
+     * @param cached <code>true</code> if the converter has been found in the cache
+     * @param nanos the elapsed time in nanoseconds to find a converter that was not cached
+     * @since upcoming
+     */
+    void converterLookedUp(Class<?> type, Converter converter, boolean cached, long nanos);
+
+    /**
+     * Callback after a query of the caching mapper.
+     *
+     * @param query the name of the mapper method
+     * @param type the queried type or <code>null</code>
+     * @param name the queried element or member name or <code>null</code>
+     * @param cached <code>true</code> if the result has been found in the cache
+     * @since upcoming
+     */
+    void mapperLookedUp(String query, Class<?> type, String name, boolean cached);
+
+    /**
+     * Callback after the field dictionary collected the fields of a type that has not been in its cache.
+     *
+     * @param type the type
+     * @param fields the number of fields of the type including the ones of its superclasses
+     * @param nanos the elapsed time in nanoseconds
+     * @since upcoming
+     */
+    void fieldsCollected(Class<?> type, int fields, long nanos);
+
+    /**
+     * Callback before the security framework denies a type.
+     *
+     * @param elementName the name of the element that has been resolved to the type
+     * @param typeName the name of the type
+     * @since upcoming
+     */
+    void typeDenied(String elementName, String typeName);
+
+    /**
+     * Callback after nodes have been streamed. The elapsed time is the time spent in the reader or writer of the
+     * driver, i.e. the parsing or writing phase of the document without the conversion.
+     *
+     * @param driver the name of the driver
+     * @param written <code>true</code> if the nodes have been written, <code>false</code> if read
+     * @param nodes the number of streamed nodes
+     * @param bytes the number of streamed bytes or characters, -1 if not known
+     * @param nanos the elapsed time in nanoseconds
+     * @since upcoming
+     */
+    void streamed(String driver, boolean written, long nodes, long bytes, long nanos);
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.core;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.thoughtworks.xstream.converters.Converter;
+
+
+/**
+ * An {@link Instrumentation} that collects statistics in memory.
+ * <p>
+ * The statistics contain the timings per converter type and per processed type, the timings of the documents, the hit
+ * rates of the converter lookup and of each query of the caching mapper, the timing of the field dictionary, the number
+ * of denied types, the number of streamed nodes and bytes, the timing of parsing and writing and the bytes allocated by
+ * the processing thread for the documents, if the JVM supports the measurement. Note, that the timings of a converter
+ * and a type include the time of the nested conversions. The counters are lock-free, the instrumentation can be shared
+ * by all threads.
+ * </p>
+ *
+ * @since upcoming
+ */
+public class InstrumentationStatistics implements Instrumentation {
+
+    /**
+     * The name of the converter lookup in the cache statistics.
+     *
+     * @since upcoming
+     */
+    public static final String CONVERTER_LOOKUP = "lookupConverterForType";
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = threadBean();
+
+    private final ConcurrentMap<Class<?>, Timing> converterTimings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, Timing> typeTimings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CacheRate> cacheRates = new ConcurrentHashMap<>();
+    private final Timing marshalledDocuments = new Timing();
+    private final Timing unmarshalledDocuments = new Timing();
+    private final Timing collectedFields = new Timing();
+    private final LongAdder deniedTypes = new LongAdder();
+    private final LongAdder nodesRead = new LongAdder();
+    private final LongAdder nodesWritten = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final Timing parsing = new Timing();
+    private final Timing writing = new Timing();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final ThreadLocal<long[]> allocationStart = new ThreadLocal<>();
+
+    @Override
+    public void documentStarted(final boolean marshalling) {
+        if (THREAD_BEAN != null) {
+            long[] start = allocationStart.get();
+            if (start == null) {
+                start = new long[2];
+                allocationStart.set(start);
+            }
+            if (start[0]++ == 0) {
+                start[1] = THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+    }
+
+    @Override
+    public void documentConverted(final Class<?> rootType, final boolean marshalling, final long nanos) {
+        (marshalling ? marshalledDocuments : unmarshalledDocuments).add(nanos);
+        if (THREAD_BEAN != null) {
+            final long[] start = allocationStart.get();
+            if (start != null && start[0] > 0 && --start[0] == 0) {
+                final long allocated = THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+                if (allocated >= start[1]) {
+                    allocatedBytes.add(allocated - start[1]);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void converted(final Class<?> type, final Converter converter, final boolean marshalling,
+            final long nanos) {
+        timing(converterTimings, converter.getClass()).add(nanos);
+        timing(typeTimings, type).add(nanos);
+    }
+
+    @Override
+    public void converterLookedUp(final Class<?> type, final Converter converter, final boolean cached,
+            final long nanos) {
+        cacheRate(CONVERTER_LOOKUP).add(cached);
+    }
+
+    @Override
+    public void mapperLookedUp(final String query, final Class<?> type, final String name, final boolean cached) {
+        cacheRate(query).add(cached);
+    }
+
+    @Override
+    public void fieldsCollected(final Class<?> type, final int fields, final long nanos) {
+        collectedFields.add(nanos);
+    }
+
+    @Override
+    public void typeDenied(final String elementName, final String typeName) {
+        deniedTypes.increment();
+    }
+
+    @Override
+    public void streamed(final String driver, final boolean written, final long nodes, final long bytes,
+            final long nanos) {
+        (written ? nodesWritten : nodesRead).add(nodes);
+        if (bytes > 0) {
+            (written ? bytesWritten : bytesRead).add(bytes);
+        }
+        (written ? writing : parsing).add(nanos);
+    }
+
+    /**
+     * Retrieve the timings per converter type.
+     *
+     * @return the timings
+     * @since upcoming
+     */
+    public Map<Class<?>, Timing> getConverterTimings() {
+        return Collections.unmodifiableMap(converterTimings);
+    }
+
+    /**
+     * Retrieve the timings per processed type.
+     *
+     * @return the timings
+     * @since upcoming
+     */
+    public Map<Class<?>, Timing> getTypeTimings() {
+        return Collections.unmodifiableMap(typeTimings);
+    }
+
+    /**
+     * Retrieve the hit rates of the caches. The rate of the converter lookup is kept with the name
+     * {@link #CONVERTER_LOOKUP}, the ones of the caching mapper with the name of the query method.
+     *
+     * @return the hit rates
+     * @since upcoming
+     */
+    public Map<String, CacheRate> getCacheRates() {
+        return Collections.unmodifiableMap(cacheRates);
+    }
+
+    /**
+     * Retrieve the timing of the marshalled documents.
+     *
+     * @return the timing
+     * @since upcoming
+     */
+    public Timing getMarshalledDocuments() {
+        return marshalledDocuments;
+    }
+
+    /**
+     * Retrieve the timing of the unmarshalled documents.
+     *
+     * @return the timing
+     * @since upcoming
+     */
+    public Timing getUnmarshalledDocuments() {
+        return unmarshalledDocuments;
+    }
+
+    /**
+     * Retrieve the timing of the field dictionary for the types that have not been in its cache.
+     *
+     * @return the timing
+     * @since upcoming
+     */
+    public Timing getCollectedFields() {
+        return collectedFields;
+    }
+
+    /**
+     * Retrieve the number of types denied by the security framework.
+     *
+     * @return the number of denied types
+     * @since upcoming
+     */
+    public long getDeniedTypes() {
+        return deniedTypes.sum();
+    }
+
+    /**
+     * Retrieve the number of nodes read by an {@link com.thoughtworks.xstream.io.InstrumentedDriver}.
+     *
+     * @return the number of nodes
+     * @since upcoming
+     */
+    public long getNodesRead() {
+        return nodesRead.sum();
+    }
+
+    /**
+     * Retrieve the number of nodes written by an {@link com.thoughtworks.xstream.io.InstrumentedDriver}.
+     *
+     * @return the number of nodes
+     * @since upcoming
+     */
+    public long getNodesWritten() {
+        return nodesWritten.sum();
+    }
+
+    /**
+     * Retrieve the number of bytes or characters read by an {@link com.thoughtworks.xstream.io.InstrumentedDriver}.
+     *
+     * @return the number of bytes
+     * @since upcoming
+     */
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    /**
+     * Retrieve the number of bytes or characters written by an
+     * {@link com.thoughtworks.xstream.io.InstrumentedDriver}.
+     *
+     * @return the number of bytes
+     * @since upcoming
+     */
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    /**
+     * Retrieve the timing of the readers of an {@link com.thoughtworks.xstream.io.InstrumentedDriver}. The count is the
+     * number of reports of the readers, the time is spent to parse the documents.
+     *
+     * @return the timing
+     * @since upcoming
+     */
+    public Timing getParsing() {
+        return parsing;
+    }
+
+    /**
+     * Retrieve the timing of the writers of an {@link com.thoughtworks.xstream.io.InstrumentedDriver}. The count is the
+     * number of reports of the writers, the time is spent to write the documents.
+     *
+     * @return the timing
+     * @since upcoming
+     */
+    public Timing getWriting() {
+        return writing;
+    }
+
+    /**
+     * Retrieve the number of bytes allocated by the threads while processing the documents.
+     *
+     * @return the number of bytes or -1 if the JVM does not support the measurement
+     * @since upcoming
+     */
+    public long getAllocatedBytes() {
+        return THREAD_BEAN != null ? allocatedBytes.sum() : -1;
+    }
+
+    /**
+     * Reset all statistics.
+     *
+     * @since upcoming
+     */
+    public void reset() {
+        converterTimings.clear();
+        typeTimings.clear();
+        cacheRates.clear();
+        marshalledDocuments.reset();
+        unmarshalledDocuments.reset();
+        collectedFields.reset();
+        deniedTypes.reset();
+        nodesRead.reset();
+        nodesWritten.reset();
+        bytesRead.reset();
+        bytesWritten.reset();
+        parsing.reset();
+        writing.reset();
+        allocatedBytes.reset();
+    }
+
+    private static <K> Timing timing(final ConcurrentMap<K, Timing> timings, final K key) {
+        Timing timing = timings.get(key);
+        if (timing == null) {
+            timings.putIfAbsent(key, new Timing());
+            timing = timings.get(key);
+        }
+        return timing;
+    }
+
+    private CacheRate cacheRate(final String name) {
+        CacheRate rate = cacheRates.get(name);
+        if (rate == null) {
+            cacheRates.putIfAbsent(name, new CacheRate());
+            rate = cacheRates.get(name);
+        }
+        return rate;
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        try {
+            final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean)bean;
+                if (threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled()) {
+                    return threadBean;
+                }
+            }
+        } catch (final LinkageError | SecurityException | UnsupportedOperationException e) {
+            // not supported
+        }
+        return null;
+    }
+
+    /**
+     * Accumulated timing.
+     *
+     * @since upcoming
+     */
+    public static final class Timing {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        void add(final long elapsed) {
+            count.increment();
+            nanos.add(elapsed);
+        }
+
+        void reset() {
+            count.reset();
+            nanos.reset();
+        }
+
+        /**
+         * @return the number of measurements
+         * @since upcoming
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * @return the total elapsed time in nanoseconds
+         * @since upcoming
+         */
+        public long getTotalNanos() {
+            return nanos.sum();
+        }
+
+        @Override
+        public String toString() {
+            return getCount() + " in " + getTotalNanos() + "ns";
+        }
+    }
+
+    /**
+     * Hit rate of a cache.
+     *
+     * @since upcoming
+     */
+    public static final class CacheRate {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        void add(final boolean hit) {
+            (hit ? hits : misses).increment();
+        }
+
+        /**
+         * @return the number of hits
+         * @since upcoming
+         */
+        public long getHits() {
+            return hits.sum();
+        }
+
+        /**
+         * @return the number of misses
+         * @since upcoming
+         */
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        /**
+         * @return the ratio of the hits to all lookups or 0 if the cache has not been used
+         * @since upcoming
+         */
+        public double getHitRate() {
+            final long hitCount = getHits();
+            final long total = hitCount + getMisses();
+            return total == 0 ? 0 : (double)hitCount / total;
+        }
+
+        @Override
+        public String toString() {
+            return getHits() + "/" + (getHits() + getMisses());
+        }
+    }
+}
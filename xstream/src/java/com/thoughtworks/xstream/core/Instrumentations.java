@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.core;
+
+/**
+ * Registry for the installed {@link Instrumentation}.
+ * <p>
+ * The instrumentation is installed for the complete JVM, i.e. it is notified by any XStream instance. As long as no
+ * instrumentation is installed, the instrumented code paths cost a single read of a volatile field.
+ * </p>
+ *
+ * @since upcoming
+ */
+public final class Instrumentations {
+
+    private static final String JFR_INSTRUMENTATION = "com.thoughtworks.xstream.core.jfr.JfrInstrumentation";
+
+    private static volatile Instrumentation instrumentation;
+
+    private Instrumentations() {
+    }
+
+    /**
+     * Retrieve the installed instrumentation.
+     *
+     * @return the instrumentation or <code>null</code> if none is installed
+     * @since upcoming
+     */
+    public static Instrumentation get() {
+        return instrumentation;
+    }
+
+    /**
+     * Install an instrumentation. Any previously installed instrumentation is replaced.
+     *
+     * @param instrumentation the instrumentation or <code>null</code> to uninstall the current one
+     * @since upcoming
+     */
+    public static void install(final Instrumentation instrumentation) {
+        Instrumentations.instrumentation = instrumentation;
+    }
+
+    /**
+     * Create an instrumentation that emits events for the Java Flight Recorder.
+     * <p>
+     * The implementation is loaded dynamically, since the JFR API is not available in every runtime. The events cost
+     * almost nothing as long as no recording is active.
+     * </p>
+     *
+     * @return the instrumentation or <code>null</code> if the runtime does not support JFR
+     * @since upcoming
+     */
+    public static Instrumentation jfr() {
+        if (JVM.loadClassForName("jdk.jfr.Event", false) == null) {
+            return null;
+        }
+        final Class<? extends Instrumentation> type = JVM.loadClassForName(JFR_INSTRUMENTATION);
+        if (type != null) {
+            try {
+                return type.newInstance();
+            } catch (final InstantiationException | IllegalAccessException | LinkageError e) {
+                // not supported
+            }
+        }
+        return null;
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -20,6 +20,7 @@ import com.thoughtworks.xstream.mapper.Mapper;
 public class ReferenceByIdMarshaller extends AbstractReferenceMarshaller<String> {
 
     private final IDGenerator idGenerator;
+    private boolean sequential;
 
     public static interface IDGenerator {
         String next(Object item);
@@ -35,6 +36,22 @@ public class ReferenceByIdMarshaller extends AbstractReferenceMarshaller<String>
     public ReferenceByIdMarshaller(
             final HierarchicalStreamWriter writer, final ConverterLookup converterLookup, final Mapper mapper) {
         this(writer, converterLookup, mapper, new SequenceGenerator(1));
+        sequential = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The default generator for the ids starts again with 1 for the next process, a generator provided at construction
+     * time is kept as it is.
+     * </p>
+     */
+    @Override
+    protected void recycle() {
+        super.recycle();
+        if (sequential) {
+            ((SequenceGenerator)idGenerator).reset(1);
+        }
     }
 
     @Override
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -30,4 +30,9 @@ public class ReferenceByIdMarshallingStrategy extends AbstractTreeMarshallingStr
             final ConverterLookup converterLookup, final Mapper mapper) {
         return new ReferenceByIdMarshaller(writer, converterLookup, mapper);
     }
+
+    @Override
+    protected boolean isRecycling() {
+        return getClass() == ReferenceByIdMarshallingStrategy.class;
+    }
 }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2009, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2009, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -39,4 +39,9 @@ public class ReferenceByXPathMarshallingStrategy extends AbstractTreeMarshalling
             final ConverterLookup converterLookup, final Mapper mapper) {
         return new ReferenceByXPathMarshaller(writer, converterLookup, mapper, mode);
     }
+
+    @Override
+    protected boolean isRecycling() {
+        return getClass() == ReferenceByXPathMarshallingStrategy.class;
+    }
 }
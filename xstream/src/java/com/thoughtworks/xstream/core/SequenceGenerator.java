@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -24,4 +24,8 @@ public class SequenceGenerator implements ReferenceByIdMarshaller.IDGenerator {
         return String.valueOf(counter++);
     }
 
+    void reset(final int startsAt) {
+        counter = startsAt;
+    }
+
 }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2009, 2011, 2014, 2015, 2018
+ * Copyright (C) 2006, 2007, 2009, 2011, 2014, 2015, 2018, 2026
  *  XStream Committers.
  * All rights reserved.
  *
@@ -28,9 +28,10 @@ public class TreeMarshaller implements MarshallingContext {
 
     protected HierarchicalStreamWriter writer;
     protected ConverterLookup converterLookup;
-    private final Mapper mapper;
+    private Mapper mapper;
     private final ObjectIdDictionary<Object> parentObjects = new ObjectIdDictionary<>();
     private DataHolder dataHolder;
+    private Instrumentation instrumentation;
 
     public TreeMarshaller(
             final HierarchicalStreamWriter writer, final ConverterLookup converterLookup, final Mapper mapper) {
@@ -56,7 +57,16 @@ public class TreeMarshaller implements MarshallingContext {
                 throw e;
             }
         }
-        convert(item, converter);
+        if (instrumentation == null) {
+            convert(item, converter);
+        } else {
+            final long start = System.nanoTime();
+            try {
+                convert(item, converter);
+            } finally {
+                instrumentation.converted(item.getClass(), converter, true, System.nanoTime() - start);
+            }
+        }
     }
 
     protected void convert(final Object item, final Converter converter) {
@@ -73,6 +83,22 @@ public class TreeMarshaller implements MarshallingContext {
 
     public void start(final Object item, final DataHolder dataHolder) {
         this.dataHolder = dataHolder;
+        instrumentation = Instrumentations.get();
+        if (instrumentation == null) {
+            marshalRoot(item);
+        } else {
+            instrumentation.documentStarted(true);
+            final long start = System.nanoTime();
+            try {
+                marshalRoot(item);
+            } finally {
+                instrumentation.documentConverted(item != null ? item.getClass() : null, true, System.nanoTime()
+                    - start);
+            }
+        }
+    }
+
+    private void marshalRoot(final Object item) {
         if (item == null) {
             writer.startNode(mapper.serializedClass(null));
             writer.endNode();
@@ -111,6 +137,47 @@ public class TreeMarshaller implements MarshallingContext {
         return mapper;
     }
 
+    /**
+     * Prepare a recycled marshaller for the next marshalling process.
+     * <p>
+     * The recycled marshaller has released the converter lookup and the mapper of the previous process, i.e. it does
+     * not keep the XStream instance alive while it is idle. The method binds the ones of the next process.
+     * </p>
+     * 
+     * @param writer the writer for the next process
+     * @param converterLookup the converter lookup for the next process
+     * @param mapper the mapper for the next process
+     * @return <code>true</code> if the marshaller is ready for the process
+     * @see #recycle()
+     * @since upcoming
+     */
+    protected boolean reuse(final HierarchicalStreamWriter writer, final ConverterLookup converterLookup,
+            final Mapper mapper) {
+        this.converterLookup = converterLookup;
+        this.mapper = mapper;
+        this.writer = writer;
+        return true;
+    }
+
+    /**
+     * Release the state of a finished marshalling process.
+     * <p>
+     * The marshalling strategy calls this method at the end of each process to keep the instance for the next one. A
+     * derived class with own state has to override this method and {@link #reuse(HierarchicalStreamWriter,
+     * ConverterLookup, Mapper)}.
+     * </p>
+     * 
+     * @since upcoming
+     */
+    protected void recycle() {
+        writer = null;
+        converterLookup = null;
+        mapper = null;
+        dataHolder = null;
+        instrumentation = null;
+        parentObjects.clear();
+    }
+
     public static class CircularReferenceException extends ConversionException {
         private static final long serialVersionUID = 20151010L;
 
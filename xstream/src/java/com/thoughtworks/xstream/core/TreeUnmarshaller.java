@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2014, 2015, 2018 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2014, 2015, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -29,12 +29,13 @@ import com.thoughtworks.xstream.mapper.Mapper;
 
 public class TreeUnmarshaller implements UnmarshallingContext {
 
-    private final Object root;
+    private Object root;
     protected HierarchicalStreamReader reader;
-    private final ConverterLookup converterLookup;
-    private final Mapper mapper;
+    private ConverterLookup converterLookup;
+    private Mapper mapper;
     private final FastStack<Class<?>> types = new FastStack<>(16);
     private DataHolder dataHolder;
+    private Instrumentation instrumentation;
     private final PrioritizedList<Runnable> validationList = new PrioritizedList<>();
 
     public TreeUnmarshaller(
@@ -64,7 +65,15 @@ public class TreeUnmarshaller implements UnmarshallingContext {
                 throw e;
             }
         }
-        return convert(parent, type, converter);
+        if (instrumentation == null) {
+            return convert(parent, type, converter);
+        }
+        final long start = System.nanoTime();
+        try {
+            return convert(parent, type, converter);
+        } finally {
+            instrumentation.converted(type, converter, false, System.nanoTime() - start);
+        }
     }
 
     protected Object convert(final Object parent, final Class<?> type, final Converter converter) {
@@ -138,6 +147,23 @@ public class TreeUnmarshaller implements UnmarshallingContext {
 
     public Object start(final DataHolder dataHolder) {
         this.dataHolder = dataHolder;
+        instrumentation = Instrumentations.get();
+        if (instrumentation == null) {
+            return unmarshalRoot();
+        }
+        instrumentation.documentStarted(false);
+        final long start = System.nanoTime();
+        Class<?> rootType = null;
+        try {
+            final Object result = unmarshalRoot();
+            rootType = result != null ? result.getClass() : null;
+            return result;
+        } finally {
+            instrumentation.documentConverted(rootType, false, System.nanoTime() - start);
+        }
+    }
+
+    private Object unmarshalRoot() {
         final Class<?> type = HierarchicalStreams.readClassType(reader, mapper);
         final Object result = convertAnother(null, type);
         for (final Runnable runnable : validationList) {
@@ -150,4 +176,49 @@ public class TreeUnmarshaller implements UnmarshallingContext {
         return mapper;
     }
 
+    /**
+     * Prepare a recycled unmarshaller for the next unmarshalling process.
+     * <p>
+     * The recycled unmarshaller has released the converter lookup and the mapper of the previous process, i.e. it does
+     * not keep the XStream instance alive while it is idle. The method binds the ones of the next process.
+     * </p>
+     * 
+     * @param root the root object for the next process
+     * @param reader the reader for the next process
+     * @param converterLookup the converter lookup for the next process
+     * @param mapper the mapper for the next process
+     * @return <code>true</code> if the unmarshaller is ready for the process
+     * @see #recycle()
+     * @since upcoming
+     */
+    protected boolean reuse(final Object root, final HierarchicalStreamReader reader,
+            final ConverterLookup converterLookup, final Mapper mapper) {
+        this.converterLookup = converterLookup;
+        this.mapper = mapper;
+        this.root = root;
+        this.reader = reader;
+        return true;
+    }
+
+    /**
+     * Release the state of a finished unmarshalling process.
+     * <p>
+     * The marshalling strategy calls this method at the end of each process to keep the instance for the next one. A
+     * derived class with own state has to override this method and {@link #reuse(Object, HierarchicalStreamReader,
+     * ConverterLookup, Mapper)}.
+     * </p>
+     * 
+     * @since upcoming
+     */
+    protected void recycle() {
+        root = null;
+        reader = null;
+        converterLookup = null;
+        mapper = null;
+        dataHolder = null;
+        instrumentation = null;
+        types.clear();
+        validationList.clear();
+    }
+
 }
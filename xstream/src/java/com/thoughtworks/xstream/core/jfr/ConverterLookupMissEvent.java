@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+
+/**
+ * Event for a converter lookup that missed the cache of the
+ * {@link com.thoughtworks.xstream.core.DefaultConverterLookup}.
+ *
+ * @since upcoming
+ */
+@Name("com.thoughtworks.xstream.ConverterLookupMiss")
+@Label("XStream Converter Lookup Miss")
+@Category("XStream")
+@Description("Lookup of a converter that has not been cached")
+public final class ConverterLookupMissEvent extends jdk.jfr.Event {
+
+    @Label("Type")
+    @Description("Type to convert")
+    Class<?> type;
+
+    @Label("Converter")
+    @Description("Type of the found converter")
+    Class<?> converter;
+
+    @Label("Lookup Time")
+    @Description("Time to find the converter")
+    @Timespan
+    long lookupTime;
+}
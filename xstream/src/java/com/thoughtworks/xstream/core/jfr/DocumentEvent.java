@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+
+/**
+ * Event for a marshalled or unmarshalled document.
+ * <p>
+ * The driver, the size of the document and the time spent to parse or write it are only known if it has been
+ * processed with an {@link com.thoughtworks.xstream.io.InstrumentedDriver}.
+ * </p>
+ *
+ * @since upcoming
+ */
+@Name("com.thoughtworks.xstream.Document")
+@Label("XStream Document")
+@Category("XStream")
+@Description("Marshalling or unmarshalling of a document")
+@Threshold("10 ms")
+public final class DocumentEvent extends jdk.jfr.Event {
+
+    @Label("Root Type")
+    @Description("Type of the root object")
+    Class<?> rootType;
+
+    @Label("Marshalling")
+    @Description("Document has been marshalled")
+    boolean marshalling;
+
+    @Label("Driver")
+    @Description("Type of the driver")
+    String driver;
+
+    @Label("Nodes")
+    @Description("Number of streamed nodes")
+    long nodes;
+
+    @Label("Size")
+    @Description("Number of streamed bytes or characters")
+    @DataAmount
+    long size;
+
+    @Label("Stream Time")
+    @Description("Time spent in the reader or writer of the driver")
+    @Timespan
+    long streamTime;
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+
+/**
+ * Event for the fields of a type collected by the
+ * {@link com.thoughtworks.xstream.converters.reflection.FieldDictionary}.
+ *
+ * @since upcoming
+ */
+@Name("com.thoughtworks.xstream.FieldDictionary")
+@Label("XStream Field Dictionary")
+@Category("XStream")
+@Description("Collection of the fields of a type that has not been cached")
+public final class FieldDictionaryEvent extends jdk.jfr.Event {
+
+    @Label("Type")
+    @Description("Type of the collected fields")
+    Class<?> type;
+
+    @Label("Fields")
+    @Description("Number of fields including the ones of the superclasses")
+    int fields;
+
+    @Label("Build Time")
+    @Description("Time to collect the fields")
+    @Timespan
+    long buildTime;
+}
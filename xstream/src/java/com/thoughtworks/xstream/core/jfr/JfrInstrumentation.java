@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.core.jfr;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import com.thoughtworks.xstream.converters.Converter;
+import com.thoughtworks.xstream.core.Instrumentation;
+
+
+/**
+ * An {@link Instrumentation} that emits events for the Java Flight Recorder.
+ * <p>
+ * Use {@link com.thoughtworks.xstream.core.Instrumentations#jfr()} to create the instrumentation, it is only available
+ * if the runtime supports JFR. A {@link DocumentEvent} is emitted for every document that takes longer than the
+ * threshold of the event, a {@link ConverterLookupMissEvent} and a {@link MapperCacheMissEvent} for every lookup that
+ * missed the cache, a {@link FieldDictionaryEvent} for every type whose fields are collected and a
+ * {@link SecurityDenialEvent} for every type denied by the security framework. The events are only created while
+ * they are enabled in a running recording, otherwise the callbacks return immediately.
+ * </p>
+ *
+ * @since upcoming
+ */
+public class JfrInstrumentation implements Instrumentation {
+
+    private final ThreadLocal<Deque<DocumentEvent>> documents = new ThreadLocal<Deque<DocumentEvent>>() {
+        @Override
+        protected Deque<DocumentEvent> initialValue() {
+            return new ArrayDeque<>();
+        }
+    };
+
+    @Override
+    public void documentStarted(final boolean marshalling) {
+        final DocumentEvent event = new DocumentEvent();
+        if (event.isEnabled()) {
+            event.begin();
+        }
+        documents.get().push(event);
+    }
+
+    @Override
+    public void documentConverted(final Class<?> rootType, final boolean marshalling, final long nanos) {
+        final DocumentEvent event = documents.get().poll();
+        if (event != null && event.isEnabled()) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.rootType = rootType;
+                event.marshalling = marshalling;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void converted(final Class<?> type, final Converter converter, final boolean marshalling,
+            final long nanos) {
+        // no event
+    }
+
+    @Override
+    public void converterLookedUp(final Class<?> type, final Converter converter, final boolean cached,
+            final long nanos) {
+        if (!cached) {
+            final ConverterLookupMissEvent event = new ConverterLookupMissEvent();
+            if (event.isEnabled()) {
+                event.type = type;
+                event.converter = converter != null ? converter.getClass() : null;
+                event.lookupTime = nanos;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void mapperLookedUp(final String query, final Class<?> type, final String name, final boolean cached) {
+        if (!cached) {
+            final MapperCacheMissEvent event = new MapperCacheMissEvent();
+            if (event.isEnabled()) {
+                event.query = query;
+                event.type = type;
+                event.name = name;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void fieldsCollected(final Class<?> type, final int fields, final long nanos) {
+        final FieldDictionaryEvent event = new FieldDictionaryEvent();
+        if (event.isEnabled()) {
+            event.type = type;
+            event.fields = fields;
+            event.buildTime = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void typeDenied(final String elementName, final String typeName) {
+        final SecurityDenialEvent event = new SecurityDenialEvent();
+        if (event.isEnabled()) {
+            event.elementName = elementName;
+            event.typeName = typeName;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void streamed(final String driver, final boolean written, final long nodes, final long bytes,
+            final long nanos) {
+        final DocumentEvent event = documents.get().peek();
+        if (event != null && event.isEnabled()) {
+            event.driver = driver;
+            event.nodes += nodes;
+            if (bytes > 0) {
+                event.size += bytes;
+            }
+            event.streamTime += nanos;
+        }
+    }
+}
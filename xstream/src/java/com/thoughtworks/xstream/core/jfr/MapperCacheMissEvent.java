@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Event for a query that missed the cache of the {@link com.thoughtworks.xstream.mapper.CachingMapper}.
+ *
+ * @since upcoming
+ */
+@Name("com.thoughtworks.xstream.MapperCacheMiss")
+@Label("XStream Mapper Cache Miss")
+@Category("XStream")
+@Description("Query of the mapper that has not been cached")
+public final class MapperCacheMissEvent extends jdk.jfr.Event {
+
+    @Label("Query")
+    @Description("Name of the mapper method")
+    String query;
+
+    @Label("Type")
+    @Description("Queried type")
+    Class<?> type;
+
+    @Label("Name")
+    @Description("Queried element or member name")
+    String name;
+}
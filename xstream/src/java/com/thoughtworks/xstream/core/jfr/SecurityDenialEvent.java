@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * Event for a type denied by the security framework.
+ *
+ * @since upcoming
+ */
+@Name("com.thoughtworks.xstream.SecurityDenial")
+@Label("XStream Security Denial")
+@Category("XStream")
+@Description("Type that has been denied by the security framework")
+public final class SecurityDenialEvent extends jdk.jfr.Event {
+
+    @Label("Element Name")
+    @Description("Name of the element that has been resolved to the type")
+    String elementName;
+
+    @Label("Type Name")
+    @Description("Name of the denied type")
+    String typeName;
+}
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2009, 2014, 2018 XStream Committers.
+ * Copyright (C) 2006, 2007, 2009, 2014, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -22,10 +22,14 @@ import java.util.Arrays;
  */
 public final class FastStack<T> {
 
+    private static final int RECYCLING_CAPACITY = 256;
+
+    private final int initialCapacity;
     private T[] stack;
     private int pointer;
 
     public FastStack(final int initialCapacity) {
+        this.initialCapacity = initialCapacity;
         final T[] array = getArray(initialCapacity);
         stack = array;
     }
@@ -67,6 +71,21 @@ public final class FastStack<T> {
         stack[pointer - 1] = value;
     }
 
+    /**
+     * Remove all elements from the stack. The capacity of the stack is kept, unless it has grown beyond 256 elements.
+     * Such a stack returns to its initial capacity.
+     * 
+     * @since upcoming
+     */
+    public void clear() {
+        if (stack.length > Math.max(initialCapacity, RECYCLING_CAPACITY)) {
+            stack = getArray(initialCapacity);
+        } else {
+            Arrays.fill(stack, 0, pointer, null);
+        }
+        pointer = 0;
+    }
+
     public int size() {
         return pointer;
     }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.core.util;
+
+import java.lang.reflect.Constructor;
+
+import com.thoughtworks.xstream.InitializationException;
+import com.thoughtworks.xstream.converters.Converter;
+import com.thoughtworks.xstream.converters.MarshallingContext;
+import com.thoughtworks.xstream.converters.SingleValueConverter;
+import com.thoughtworks.xstream.converters.SingleValueConverterWrapper;
+import com.thoughtworks.xstream.converters.UnmarshallingContext;
+import com.thoughtworks.xstream.core.Caching;
+import com.thoughtworks.xstream.core.ClassLoaderReference;
+import com.thoughtworks.xstream.io.HierarchicalStreamReader;
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+
+
+/**
+ * A placeholder for a converter that is instantiated at first use.
+ * <p>
+ * The placeholder knows the name of the type handled by the real converter. It answers {@link #canConvert(Class)}
+ * by comparing type names only, therefore neither the class of the converter nor the handled type is loaded before a
+ * matching type is processed. The {@link com.thoughtworks.xstream.core.DefaultConverterLookup} replaces the
+ * placeholder with the real converter as soon as it matches and verifies the match with the real converter. Any other
+ * {@link com.thoughtworks.xstream.converters.ConverterLookup} will use the placeholder itself, that delegates to the
+ * real converter.
+ * </p>
+ *
+ * @since upcoming
+ */
+public class LazyConverter implements Converter, Caching {
+
+    private final String className;
+    private final Class<?>[] constructorParamTypes;
+    private final Object[] constructorParamValues;
+    private final ClassLoaderReference classLoaderReference;
+    private final String typeName;
+    private final boolean hierarchy;
+    private volatile Converter converter;
+
+    /**
+     * Construct a LazyConverter.
+     *
+     * @param className the name of the converter class, it may implement {@link Converter} or
+     *            {@link SingleValueConverter}
+     * @param constructorParamTypes the parameter types of the converter's constructor or <code>null</code>
+     * @param constructorParamValues the arguments for the converter's constructor or <code>null</code>
+     * @param classLoaderReference the reference to the class loader of the converter class
+     * @param typeName the name of the type handled by the converter
+     * @param hierarchy <code>true</code> if the converter handles also derived types
+     * @since upcoming
+     */
+    public LazyConverter(
+            final String className, final Class<?>[] constructorParamTypes, final Object[] constructorParamValues,
+            final ClassLoaderReference classLoaderReference, final String typeName, final boolean hierarchy) {
+        this.className = className;
+        this.constructorParamTypes = constructorParamTypes;
+        this.constructorParamValues = constructorParamValues;
+        this.classLoaderReference = classLoaderReference;
+        this.typeName = typeName;
+        this.hierarchy = hierarchy;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The method may return <code>true</code> for a type that the real converter does not handle.
+     * </p>
+     */
+    @Override
+    public boolean canConvert(final Class<?> type) {
+        if (type == null) {
+            return false;
+        }
+        return hierarchy ? Types.isAssignableTo(type, typeName) : type.getName().equals(typeName);
+    }
+
+    /**
+     * Retrieve the real converter. The converter is instantiated at the first call.
+     *
+     * @return the converter, a {@link SingleValueConverter} is wrapped
+     * @throws InitializationException if the converter cannot be instantiated
+     * @since upcoming
+     */
+    public Converter getConverter() {
+        Converter result = converter;
+        if (result == null) {
+            // concurrent threads may create an own instance initially, but they are equivalent
+            result = createConverter();
+            converter = result;
+        }
+        return result;
+    }
+
+    private Converter createConverter() {
+        try {
+            final Class<?> type = Class.forName(className, false, classLoaderReference.getReference());
+            final Constructor<?> constructor = type.getConstructor(constructorParamTypes);
+            final Object instance = constructor.newInstance(constructorParamValues);
+            if (instance instanceof Converter) {
+                return (Converter)instance;
+            } else if (instance instanceof SingleValueConverter) {
+                return new SingleValueConverterWrapper((SingleValueConverter)instance);
+            }
+            throw new InitializationException("Not a converter : " + className);
+        } catch (final InitializationException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new InitializationException("Could not instantiate converter : " + className, e);
+        } catch (final LinkageError e) {
+            throw new InitializationException("Could not instantiate converter : " + className, e);
+        }
+    }
+
+    @Override
+    public void marshal(final Object source, final HierarchicalStreamWriter writer, final MarshallingContext context) {
+        getConverter().marshal(source, writer, context);
+    }
+
+    @Override
+    public Object unmarshal(final HierarchicalStreamReader reader, final UnmarshallingContext context) {
+        return getConverter().unmarshal(reader, context);
+    }
+
+    @Override
+    public void flushCache() {
+        final Converter result = converter;
+        if (result instanceof Caching) {
+            ((Caching)result).flushCache();
+        }
+    }
+}
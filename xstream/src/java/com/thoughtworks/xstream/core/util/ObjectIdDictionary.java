@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2010, 2014, 2015 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2010, 2014, 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -26,8 +26,11 @@ import java.util.Map;
  */
 public class ObjectIdDictionary<E> {
 
-    private final Map<? super Wrapper, E> map = new HashMap<>();
+    private static final int RECYCLING_SIZE = 1024;
+
+    private Map<? super Wrapper, E> map = new HashMap<>();
     private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+    private int maxSize;
 
     private static interface Wrapper {
         @Override
@@ -102,6 +105,9 @@ public class ObjectIdDictionary<E> {
     public void associateId(final Object obj, final E id) {
         map.put(new WeakIdWrapper(obj), id);
         cleanup();
+        if (map.size() > maxSize) {
+            maxSize = map.size();
+        }
     }
 
     public E lookupId(final Object obj) {
@@ -119,6 +125,22 @@ public class ObjectIdDictionary<E> {
         cleanup();
     }
 
+    /**
+     * Remove all associations. The allocated table is kept for reuse, unless the dictionary has held more than 1024
+     * associations at once. Such a table is released.
+     * 
+     * @since upcoming
+     */
+    public void clear() {
+        if (maxSize > RECYCLING_SIZE) {
+            map = new HashMap<>();
+        } else {
+            map.clear();
+        }
+        maxSize = 0;
+        cleanup();
+    }
+
     public int size() {
         cleanup();
         return map.size();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2007, 2014, 2018 XStream Committers.
+ * Copyright (c) 2007, 2014, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,10 +11,16 @@
 package com.thoughtworks.xstream.core.util;
 
 import java.util.Arrays;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 
 /**
  * A simple pool implementation.
+ * <p>
+ * The pool uses a {@link ReentrantLock} instead of a monitor, i.e. a virtual thread waiting for a free item does not
+ * pin its carrier thread.
+ * </p>
  * 
  * @author J&ouml;rg Schaible
  * @author Joe Walnes
@@ -30,11 +36,14 @@ public class Pool<T> {
     private final Factory<T> factory;
     private transient T[] pool;
     private transient int nextAvailable;
+    private transient ReentrantLock lock;
+    private transient Condition itemAvailable;
 
     public Pool(final int initialPoolSize, final int maxPoolSize, final Factory<T> factory) {
         this.initialPoolSize = initialPoolSize;
         this.maxPoolSize = maxPoolSize;
         this.factory = factory;
+        readResolve();
     }
 
     @SafeVarargs
@@ -44,7 +53,8 @@ public class Pool<T> {
 
     public T fetchFromPool() {
         T result;
-        synchronized (this) {
+        lock.lock();
+        try {
             if (pool == null) {
                 final T[] all = newArray(maxPoolSize);
                 pool = all;
@@ -54,7 +64,7 @@ public class Pool<T> {
             }
             while (nextAvailable == maxPoolSize) {
                 try {
-                    wait();
+                    itemAvailable.await();
                 } catch (final InterruptedException e) {
                     throw new RuntimeException("Interrupted whilst waiting for a free item in the pool: "
                         + e.getMessage());
@@ -66,12 +76,15 @@ public class Pool<T> {
                 putInPool(result);
                 ++nextAvailable;
             }
+        } finally {
+            lock.unlock();
         }
         return result;
     }
 
     protected void putInPool(final T object) {
-        synchronized (this) {
+        lock.lock();
+        try {
             if (nextAvailable == 0) {
                 throw new IllegalStateException("Cannot put more objects than "
                     + maxPoolSize
@@ -88,7 +101,15 @@ public class Pool<T> {
                 }
             }
 
-            notify();
+            itemAvailable.signal();
+        } finally {
+            lock.unlock();
         }
     }
+
+    private Object readResolve() {
+        lock = new ReentrantLock();
+        itemAvailable = lock.newCondition();
+        return this;
+    }
 }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2009, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2009, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -46,6 +46,26 @@ public class QuickWriter implements Closeable {
         pointer += len;
     }
 
+    /**
+     * Write a part of a string.
+     *
+     * @param str the string
+     * @param offset the index of the first character to write
+     * @param length the number of characters to write
+     * @since upcoming
+     */
+    public void write(final String str, final int offset, final int length) {
+        if (pointer + length >= buffer.length) {
+            flush();
+            if (length > buffer.length) {
+                raw(str.substring(offset, offset + length).toCharArray());
+                return;
+            }
+        }
+        str.getChars(offset, offset + length, buffer, pointer);
+        pointer += length;
+    }
+
     public void write(final char c) {
         if (pointer + 1 >= buffer.length) {
             flush();
@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.core.util;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * A thread-safe cache for strings with a fixed capacity.
+ * <p>
+ * The cache uses a table of immutable entries where every key has two possible slots. A new entry replaces the older
+ * one if both slots are occupied, i.e. the cache never grows beyond its capacity and may forget entries at any time.
+ * The lookup does not lock and does not allocate any object, it accepts any {@link CharSequence} as key with the same
+ * content as the original string key. Concurrent modifications may drop entries, but will never corrupt the cache.
+ * </p>
+ * <p>
+ * The map views are snapshots of the current entries and do not support modifications.
+ * </p>
+ *
+ * @since upcoming
+ */
+public class StringCache extends AbstractMap<String, String> {
+
+    private final Entry[] table;
+    private final int mask;
+
+    /**
+     * Constructs a StringCache.
+     *
+     * @param capacity the maximum number of entries, rounded up to the next power of two
+     * @since upcoming
+     */
+    public StringCache(final int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2");
+        }
+        final int size = Integer.highestOneBit(capacity - 1) << 1;
+        table = new Entry[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Looks up the value for a key.
+     *
+     * @param key the key with the content of the original key
+     * @return the cached value or <code>null</code>
+     * @since upcoming
+     */
+    public String lookup(final CharSequence key) {
+        final int hash = hash(key);
+        final int index = hash & mask;
+        final Entry[] table = this.table;
+        Entry entry = table[index];
+        if (entry != null && entry.matches(hash, key)) {
+            return entry.value;
+        }
+        entry = table[index ^ 1];
+        if (entry != null && entry.matches(hash, key)) {
+            return entry.value;
+        }
+        return null;
+    }
+
+    @Override
+    public String get(final Object key) {
+        return key instanceof CharSequence ? lookup((CharSequence)key) : null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public String put(final String key, final String value) {
+        if (key == null || value == null) {
+            throw new NullPointerException("Key or value is null");
+        }
+        final int hash = hash(key);
+        final int index = hash & mask;
+        final Entry entry = new Entry(hash, key, value);
+        final Entry first = table[index];
+        if (first == null || first.matches(hash, key)) {
+            table[index] = entry;
+            return first == null ? null : first.value;
+        }
+        final Entry second = table[index ^ 1];
+        if (second == null || second.matches(hash, key)) {
+            table[index ^ 1] = entry;
+            return second == null ? null : second.value;
+        }
+        // keep the younger entry of both
+        table[index ^ 1] = first;
+        table[index] = entry;
+        return null;
+    }
+
+    @Override
+    public String remove(final Object key) {
+        if (!(key instanceof CharSequence)) {
+            return null;
+        }
+        final CharSequence k = (CharSequence)key;
+        final int hash = hash(k);
+        final int index = hash & mask;
+        for (int i = 0; i < 2; ++i) {
+            final Entry entry = table[index ^ i];
+            if (entry != null && entry.matches(hash, k)) {
+                table[index ^ i] = null;
+                return entry.value;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(table, null);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (final Entry entry : table) {
+            if (entry != null) {
+                ++size;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        final Set<Map.Entry<String, String>> entries = new HashSet<>();
+        for (final Entry entry : table) {
+            if (entry != null) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(entry.key, entry.value));
+            }
+        }
+        return entries;
+    }
+
+    private static int hash(final CharSequence key) {
+        int hash;
+        if (key instanceof String) {
+            hash = key.hashCode();
+        } else {
+            // same as String.hashCode()
+            hash = 0;
+            final int length = key.length();
+            for (int i = 0; i < length; ++i) {
+                hash = 31 * hash + key.charAt(i);
+            }
+        }
+        return hash ^ hash >>> 16;
+    }
+
+    private static final class Entry {
+        // final fields guarantee the safe publication of a racy read
+        private final int hash;
+        private final String key;
+        private final String value;
+
+        Entry(final int hash, final String key, final String value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        boolean matches(final int hash, final CharSequence key) {
+            if (this.hash != hash) {
+                return false;
+            }
+            if (this.key == key) {
+                return true;
+            }
+            final int length = key.length();
+            if (this.key.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; ++i) {
+                if (this.key.charAt(i) != key.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2015 XStream Committers.
+ * Copyright (C) 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * Created on 17. January 2015 by Joerg Schaible
@@ -22,4 +22,31 @@ public class Types {
         return type != null && type.isSynthetic() && lambdaPattern.matcher(type.getSimpleName()).matches();
     }
 
+    /**
+     * Checks if a type is assignable to a type with the given name. The check compares the names of the type's
+     * superclasses and interfaces only, therefore the named type is not loaded.
+     *
+     * @param type the type to check
+     * @param typeName the name of the base type
+     * @return <code>true</code> if the type or one of its super types has the given name
+     * @since upcoming
+     */
+    public static boolean isAssignableTo(final Class<?> type, final String typeName) {
+        for (Class<?> cls = type; cls != null; cls = cls.getSuperclass()) {
+            if (cls.getName().equals(typeName) || implementsInterface(cls, typeName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean implementsInterface(final Class<?> type, final String typeName) {
+        for (final Class<?> iface : type.getInterfaces()) {
+            if (iface.getName().equals(typeName) || implementsInterface(iface, typeName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
@@ -0,0 +1,292 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.core.util;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import com.thoughtworks.xstream.io.StreamException;
+
+
+/**
+ * A tokenizer that splits an XML document into the markup of the child elements of its root element.
+ * <p>
+ * The tokenizer does not parse the document, it only recognizes the tags, comments, CDATA sections and processing
+ * instructions to find the boundaries of the elements. It does not check the well-formedness of the fragments, this
+ * is left to the parser that processes them. Entities declared in a DTD are not supported.
+ * </p>
+ *
+ * @since upcoming
+ */
+public class XmlFragmentSplitter {
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder fragment = new StringBuilder();
+    private int pos;
+    private int limit;
+    private String rootTag;
+    private String rootName;
+    private boolean rootEnded;
+
+    /**
+     * Construct an XmlFragmentSplitter.
+     *
+     * @param reader the reader of the XML document
+     * @since upcoming
+     */
+    public XmlFragmentSplitter(final Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Read the start tag of the root element. Any XML declaration, comment, processing instruction or document type
+     * declaration in front of it is skipped.
+     *
+     * @return the markup of the start tag, it ends with <code>/&gt;</code> if the root element is empty
+     * @throws StreamException if the document has no root element
+     * @since upcoming
+     */
+    public String readRoot() {
+        if (rootTag != null) {
+            return rootTag;
+        }
+        for (;;) {
+            skipWhitespace();
+            final int c = read();
+            if (c < 0) {
+                throw new StreamException("Missing root element");
+            }
+            if (c != '<') {
+                throw new StreamException("Unexpected character '" + (char)c + "' before root element");
+            }
+            final int next = peek();
+            if (next == '?') {
+                scanTo('?', 1, false);
+            } else if (next == '!') {
+                read();
+                if (peek() == '-') {
+                    scanTo('-', 2, false);
+                } else {
+                    skipDoctype();
+                }
+            } else {
+                fragment.setLength(0);
+                fragment.append('<');
+                rootEnded = scanTag();
+                rootTag = fragment.toString();
+                int end = 1;
+                while (end < rootTag.length() && "/> \t\r\n".indexOf(rootTag.charAt(end)) < 0) {
+                    ++end;
+                }
+                rootName = rootTag.substring(1, end);
+                return rootTag;
+            }
+        }
+    }
+
+    /**
+     * Retrieve the name of the root element.
+     *
+     * @return the qualified name
+     * @since upcoming
+     */
+    public String getRootName() {
+        readRoot();
+        return rootName;
+    }
+
+    /**
+     * Read the markup of the next child element of the root element.
+     *
+     * @return the markup or <code>null</code> at the end of the root element
+     * @throws StreamException if the document ends unexpectedly or the root element contains text
+     * @since upcoming
+     */
+    public String nextFragment() {
+        readRoot();
+        while (!rootEnded) {
+            skipWhitespace();
+            final int c = read();
+            if (c < 0) {
+                throw new StreamException("Unexpected end of document in root element");
+            }
+            if (c != '<') {
+                throw new StreamException("Unexpected text in root element");
+            }
+            final int next = peek();
+            if (next == '?') {
+                scanTo('?', 1, false);
+            } else if (next == '!') {
+                read();
+                if (peek() != '-') {
+                    throw new StreamException("Unexpected CDATA section in root element");
+                }
+                scanTo('-', 2, false);
+            } else if (next == '/') {
+                scanTo('>', 0, false);
+                rootEnded = true;
+            } else {
+                fragment.setLength(0);
+                fragment.append('<');
+                int depth = scanTag() ? 0 : 1;
+                while (depth > 0) {
+                    scanText();
+                    if (read() < 0) {
+                        throw new StreamException("Unexpected end of document in element");
+                    }
+                    fragment.append('<');
+                    final int n = peek();
+                    if (n == '/') {
+                        scanTo('>', 0, true);
+                        --depth;
+                    } else if (n == '?') {
+                        scanTo('?', 1, true);
+                    } else if (n == '!') {
+                        fragment.append((char)read());
+                        if (peek() == '-') {
+                            scanTo('-', 2, true);
+                        } else {
+                            scanTo(']', 2, true);
+                        }
+                    } else if (!scanTag()) {
+                        ++depth;
+                    }
+                }
+                return fragment.toString();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Scans the remaining start tag including the closing bracket into the fragment, respecting quoted attribute
+     * values.
+     *
+     * @return <code>true</code> if the element is empty
+     */
+    private boolean scanTag() {
+        char quote = 0;
+        int last = 0;
+        for (;;) {
+            final int c = read();
+            if (c < 0) {
+                throw new StreamException("Unexpected end of document in tag");
+            }
+            fragment.append((char)c);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = (char)c;
+            } else if (c == '>') {
+                return last == '/';
+            }
+            last = c;
+        }
+    }
+
+    private void scanText() {
+        for (;;) {
+            if (pos == limit && !fill()) {
+                return;
+            }
+            final int start = pos;
+            while (pos < limit && buffer[pos] != '<') {
+                ++pos;
+            }
+            fragment.append(buffer, start, pos - start);
+            if (pos < limit) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Scans to the next closing bracket that follows the given number of repeated characters, e.g. the end of a
+     * comment, a CDATA section or a processing instruction.
+     */
+    private void scanTo(final char repeated, final int count, final boolean copy) {
+        int run = 0;
+        for (;;) {
+            final int c = read();
+            if (c < 0) {
+                throw new StreamException("Unexpected end of document");
+            }
+            if (copy) {
+                fragment.append((char)c);
+            }
+            if (c == '>' && run >= count) {
+                return;
+            }
+            run = c == repeated ? run + 1 : 0;
+        }
+    }
+
+    private void skipDoctype() {
+        char quote = 0;
+        int brackets = 0;
+        for (;;) {
+            final int c = read();
+            if (c < 0) {
+                throw new StreamException("Unexpected end of document in document type declaration");
+            }
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = (char)c;
+            } else if (c == '[') {
+                ++brackets;
+            } else if (c == ']') {
+                --brackets;
+            } else if (c == '>' && brackets == 0) {
+                return;
+            }
+        }
+    }
+
+    private void skipWhitespace() {
+        for (int c = peek(); c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == '\uFEFF'; c = peek()) {
+            ++pos;
+        }
+    }
+
+    private int read() {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        return buffer[pos++];
+    }
+
+    private int peek() {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        return buffer[pos];
+    }
+
+    private boolean fill() {
+        try {
+            final int n = reader.read(buffer);
+            if (n <= 0) {
+                return false;
+            }
+            pos = 0;
+            limit = n;
+            return true;
+        } catch (final IOException e) {
+            throw new StreamException(e);
+        }
+    }
+}
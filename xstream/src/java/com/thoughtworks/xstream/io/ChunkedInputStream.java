@@ -0,0 +1,383 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * A bounded pipe that passes chunks of data fed by one thread as InputStream to another thread.
+ * <p>
+ * The producer, e.g. the I/O thread of a non-blocking server, passes the data with {@link #feed(ByteBuffer)} as it
+ * arrives. The call never blocks, the data is copied and queued for the consumer that reads the stream. The consumer
+ * blocks while it waits for more data. The producer calls {@link #complete()} after the last chunk, or
+ * {@link #abort(Throwable)} to signal a failure to the consumer.
+ * </p>
+ * <p>
+ * The queued data is limited by the capacity of the stream. If a chunk does not fit completely, the stream takes only
+ * the part that fits, the feed returns <code>false</code> and the remaining bytes are left in the buffer of the
+ * producer. The producer should stop then to read from its source until the listener set with
+ * {@link #setWritableListener(Runnable)} is notified by the consumer that the stream can take data again.
+ * </p>
+ * <p>
+ * The stream is typically used with {@link com.thoughtworks.xstream.XStream#fromXMLAsync(ChunkedInputStream,
+ * java.util.concurrent.Executor)} that unmarshals the data in a separate thread. Note, that this is not a non-blocking
+ * parser. The stream does not keep a resumable parser state, the data is still read by a blocking pull parser. It
+ * merely keeps the producer from blocking: a document is buffered up to the capacity of the stream, and the
+ * unmarshalling thread blocks whenever it has consumed all queued data of a bigger document before the producer has
+ * fed the next chunk. Choose the capacity according to the expected document size to avoid such blocked threads.
+ * </p>
+ *
+ * @since upcoming
+ */
+public class ChunkedInputStream extends InputStream {
+
+    /**
+     * The default capacity of 256 KiB.
+     *
+     * @since upcoming
+     */
+    public static final int DEFAULT_CAPACITY = 256 * 1024;
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final long capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition chunkAvailable = lock.newCondition();
+    private final ArrayDeque<ByteBuffer> chunks = new ArrayDeque<>();
+    private ByteBuffer current = EMPTY;
+    private long queued;
+    private boolean completed;
+    private boolean closed;
+    private boolean rejected;
+    private Throwable failure;
+    private boolean registered;
+    private Runnable readyAction;
+    private Runnable writableListener;
+
+    /**
+     * Constructs a ChunkedInputStream with the {@link #DEFAULT_CAPACITY}.
+     *
+     * @since upcoming
+     */
+    public ChunkedInputStream() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a ChunkedInputStream.
+     *
+     * @param capacity the maximum number of queued bytes
+     * @throws IllegalArgumentException if the capacity is not positive
+     * @since upcoming
+     */
+    public ChunkedInputStream(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Non-positive capacity");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Feeds the next chunk of data. The remaining bytes of the buffer are copied as far as the capacity of the stream
+     * allows it. The position of the buffer is advanced by the number of copied bytes, the buffer can be reused by the
+     * caller afterwards.
+     *
+     * @param chunk the data
+     * @return <code>true</code> if all data has been taken, <code>false</code> if the stream is full and the buffer
+     *         has remaining bytes
+     * @throws IllegalStateException if the stream has already been completed or aborted by the producer or closed by
+     *             the consumer
+     * @since upcoming
+     */
+    public boolean feed(final ByteBuffer chunk) {
+        final Runnable action;
+        final boolean taken;
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Stream closed");
+            }
+            if (completed) {
+                throw new IllegalStateException("Stream already completed");
+            }
+            final int n = (int)Math.min(chunk.remaining(), capacity - queued);
+            if (n > 0) {
+                final ByteBuffer copy = ByteBuffer.allocate(n);
+                final int limit = chunk.limit();
+                chunk.limit(chunk.position() + n);
+                copy.put(chunk);
+                chunk.limit(limit);
+                copy.flip();
+                chunks.add(copy);
+                queued += n;
+                chunkAvailable.signalAll();
+            }
+            taken = !chunk.hasRemaining();
+            rejected |= !taken;
+            action = queued < capacity ? null : takeReadyAction();
+        } finally {
+            lock.unlock();
+        }
+        run(action);
+        return taken;
+    }
+
+    /**
+     * Signals the end of the data.
+     *
+     * @since upcoming
+     */
+    public void complete() {
+        final Runnable action;
+        lock.lock();
+        try {
+            completed = true;
+            chunkAvailable.signalAll();
+            action = takeReadyAction();
+        } finally {
+            lock.unlock();
+        }
+        run(action);
+    }
+
+    /**
+     * Signals a failure of the producer. The consumer will fail with an {@link IOException} at its next read
+     * operation.
+     *
+     * @param cause the failure
+     * @since upcoming
+     */
+    public void abort(final Throwable cause) {
+        final Runnable action;
+        lock.lock();
+        try {
+            failure = cause;
+            completed = true;
+            chunks.clear();
+            queued = 0;
+            chunkAvailable.signalAll();
+            action = takeReadyAction();
+        } finally {
+            lock.unlock();
+        }
+        run(action);
+    }
+
+    /**
+     * Registers the action to run as soon as the stream is ready for a consumer, i.e. if it has been completed or
+     * aborted or if it is full. The action is run immediately if the stream is already ready, otherwise it is run by
+     * the thread of the producer that makes the stream ready.
+     *
+     * @param action the action
+     * @throws IllegalStateException if an action has already been registered
+     * @since upcoming
+     */
+    public void onReady(final Runnable action) {
+        final boolean ready;
+        lock.lock();
+        try {
+            if (registered) {
+                throw new IllegalStateException("Action already registered");
+            }
+            registered = true;
+            ready = completed || queued >= capacity;
+            if (!ready) {
+                readyAction = action;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (ready) {
+            action.run();
+        }
+    }
+
+    /**
+     * Sets the listener that is notified as soon as the stream can take data again after a feed has been rejected,
+     * because the stream was full. The listener is notified by the thread of the consumer.
+     *
+     * @param listener the listener or <code>null</code>
+     * @since upcoming
+     */
+    public void setWritableListener(final Runnable listener) {
+        lock.lock();
+        try {
+            writableListener = listener;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the number of bytes fed, but not yet read.
+     *
+     * @return the number of bytes
+     * @since upcoming
+     */
+    public long getQueuedBytes() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!current.hasRemaining() && !nextChunk()) {
+            return -1;
+        }
+        return current.get() & 0xff;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (off < 0 || len < 0 || off + len > b.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (!current.hasRemaining() && !nextChunk()) {
+            return -1;
+        }
+        final int n = Math.min(len, current.remaining());
+        current.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public int available() throws IOException {
+        lock.lock();
+        try {
+            return (int)Math.min(Integer.MAX_VALUE, current.remaining() + queued);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the stream by the consumer. Any queued chunk is dropped and further chunks are rejected. A waiting
+     * producer is notified by the writable listener to detect the closed stream with its next feed.
+     */
+    @Override
+    public void close() {
+        Runnable listener = null;
+        lock.lock();
+        try {
+            listener = closeStream();
+        } finally {
+            lock.unlock();
+            run(listener);
+        }
+    }
+
+    /**
+     * Closes the stream by a consumer that has read a complete document. Any chunk fed afterwards is rejected.
+     * Remaining whitespace is dropped, but any other unread data cannot be part of the document and the consumer fails.
+     * This prevents that data is silently lost, if it has been fed after the end of the document.
+     *
+     * @throws StreamException if the stream contains unread data that is not whitespace
+     * @since upcoming
+     */
+    public void finish() {
+        Runnable listener = null;
+        lock.lock();
+        try {
+            if (!closed) {
+                boolean whitespace = isWhitespace(current);
+                for (final ByteBuffer chunk : chunks) {
+                    whitespace &= isWhitespace(chunk);
+                }
+                listener = closeStream();
+                if (!whitespace) {
+                    throw new StreamException("Unexpected data after end of document");
+                }
+            }
+        } finally {
+            lock.unlock();
+            run(listener);
+        }
+    }
+
+    private Runnable closeStream() {
+        closed = true;
+        chunks.clear();
+        queued = 0;
+        current = EMPTY;
+        chunkAvailable.signalAll();
+        final Runnable listener = rejected ? writableListener : null;
+        rejected = false;
+        return listener;
+    }
+
+    private boolean nextChunk() throws IOException {
+        Runnable listener = null;
+        lock.lock();
+        try {
+            while (chunks.isEmpty() && !completed && !closed) {
+                chunkAvailable.await();
+            }
+            if (failure != null) {
+                throw new IOException("Producer failed", failure);
+            }
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            final ByteBuffer chunk = chunks.poll();
+            if (chunk == null) {
+                return false;
+            }
+            queued -= chunk.remaining();
+            current = chunk;
+            if (rejected) {
+                rejected = false;
+                listener = writableListener;
+            }
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data");
+        } finally {
+            lock.unlock();
+            run(listener);
+        }
+    }
+
+    private Runnable takeReadyAction() {
+        final Runnable action = readyAction;
+        readyAction = null;
+        return action;
+    }
+
+    private static boolean isWhitespace(final ByteBuffer chunk) {
+        for (int i = chunk.position(); i < chunk.limit(); ++i) {
+            final byte b = chunk.get(i);
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void run(final Runnable action) {
+        if (action != null) {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,509 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * An OutputStream that hands the written data in chunks over to a consumer in another thread.
+ * <p>
+ * The producer writes into the stream, e.g. XStream marshals an object into it. Every time a chunk is full, it is
+ * queued as {@link ByteBuffer} for the consumer, which fetches the chunks with {@link #take()} or
+ * {@link #poll(long, TimeUnit)}. The memory used by the queued chunks is bound by watermarks: If the next chunk would
+ * exceed the high watermark, the producer is suspended in its write operation until the consumer has reduced the
+ * queued data to the low watermark. Therefore a slow consumer will throttle the producer without any unbound buffering.
+ * </p>
+ * <p>
+ * The producer has to {@link #close()} the stream to pass the last chunk and to signal the end of the data. A failed
+ * producer calls {@link #abort(Throwable)} instead, the consumer will get the failure as {@link StreamException}. A
+ * consumer that is no longer interested in the data calls {@link #cancel()}, the next write operation of the producer
+ * fails then with a {@link StreamException}. Calls of {@link #flush()} are ignored, since the chunks are only passed
+ * when they are full.
+ * </p>
+ * <p>
+ * Instead of pulling the chunks, a consumer can {@link #subscribe(Subscriber)} to get them pushed. A subscriber
+ * signals its demand with {@link Subscription#request(long)} and gets never more chunks than requested. The chunks
+ * that exceed the demand are queued and the watermarks apply to them. The interfaces follow the contract of the
+ * reactive streams, a <code>java.util.concurrent.Flow.Publisher</code> can simply delegate to this method. Note, that
+ * the producer is still suspended in its write operation as long as the queue is full, since the marshalling process
+ * cannot be interrupted at an arbitrary point.
+ * </p>
+ *
+ * <pre>
+ * final ChunkedOutputStream out = new ChunkedOutputStream(8192, 64 * 1024, 256 * 1024);
+ * executor.execute(() -&gt; {
+ *     try {
+ *         xstream.toXML(object, out);
+ *         out.close();
+ *     } catch (final RuntimeException e) {
+ *         out.abort(e);
+ *     }
+ * });
+ * for (ByteBuffer chunk = out.take(); chunk != null; chunk = out.take()) {
+ *     // send chunk
+ * }
+ * </pre>
+ *
+ * @since upcoming
+ */
+public class ChunkedOutputStream extends OutputStream {
+
+    private final int chunkSize;
+    private final long lowWatermark;
+    private final long highWatermark;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition chunkAvailable = lock.newCondition();
+    private final Condition spaceAvailable = lock.newCondition();
+    private final ArrayDeque<ByteBuffer> chunks = new ArrayDeque<>();
+    private byte[] current;
+    private int position;
+    private long queued;
+    private boolean closed;
+    private boolean cancelled;
+    private Throwable failure;
+    private Subscriber subscriber;
+    private long demand;
+    private boolean draining;
+    private boolean terminated;
+
+    /**
+     * Constructs a ChunkedOutputStream.
+     *
+     * @param chunkSize the size of a chunk in bytes
+     * @param lowWatermark the number of queued bytes that resumes a suspended producer
+     * @param highWatermark the maximum number of queued bytes, should be at least the sum of the low watermark and the
+     *            chunk size
+     * @throws IllegalArgumentException if the chunk size is not positive or the watermarks are inconsistent
+     * @since upcoming
+     */
+    public ChunkedOutputStream(final int chunkSize, final long lowWatermark, final long highWatermark) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (lowWatermark < 0 || highWatermark < chunkSize || lowWatermark >= highWatermark) {
+            throw new IllegalArgumentException("Invalid watermarks, expecting 0 <= low < high and high >= chunk size");
+        }
+        this.chunkSize = chunkSize;
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+        current = new byte[chunkSize];
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+        current[position++] = (byte)b;
+        if (position == chunkSize) {
+            publish();
+        }
+    }
+
+    @Override
+    public void write(final byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || off + len > b.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureOpen();
+        while (len > 0) {
+            final int n = Math.min(len, chunkSize - position);
+            System.arraycopy(b, off, current, position, n);
+            position += n;
+            off += n;
+            len -= n;
+            if (position == chunkSize) {
+                publish();
+            }
+        }
+    }
+
+    /**
+     * Ignored, the chunks are passed to the consumer only when they are full or the stream is closed.
+     */
+    @Override
+    public void flush() {
+        // nothing to do
+    }
+
+    /**
+     * Passes the last chunk and signals the end of the data to the consumer.
+     */
+    @Override
+    public void close() throws IOException {
+        if (current == null) {
+            return;
+        }
+        if (position > 0) {
+            publish();
+        }
+        current = null;
+        lock.lock();
+        try {
+            closed = true;
+            chunkAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    /**
+     * Signals a failure of the producer to the consumer. Any queued chunk is dropped.
+     *
+     * @param cause the failure
+     * @since upcoming
+     */
+    public void abort(final Throwable cause) {
+        current = null;
+        lock.lock();
+        try {
+            failure = cause;
+            closed = true;
+            chunks.clear();
+            queued = 0;
+            chunkAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    /**
+     * Cancels the stream by the consumer. Any queued chunk is dropped and the next write operation of the producer will
+     * fail.
+     *
+     * @since upcoming
+     */
+    public void cancel() {
+        lock.lock();
+        try {
+            cancelled = true;
+            chunks.clear();
+            queued = 0;
+            spaceAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the next chunk, waiting if necessary until it is available.
+     *
+     * @return the next chunk or <code>null</code> at the end of the data
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws StreamException if the producer failed
+     * @since upcoming
+     */
+    public ByteBuffer take() throws InterruptedException {
+        lock.lock();
+        try {
+            ensurePulled();
+            while (chunks.isEmpty() && !closed) {
+                chunkAvailable.await();
+            }
+            return next();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the next chunk, waiting up to the given time if necessary until it is available.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return the next chunk, or <code>null</code> at the end of the data or if the time elapsed before a chunk was
+     *         available; use {@link #isDone()} to distinguish both cases
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws StreamException if the producer failed
+     * @since upcoming
+     */
+    public ByteBuffer poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            ensurePulled();
+            while (chunks.isEmpty() && !closed) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = chunkAvailable.awaitNanos(nanos);
+            }
+            return next();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether the consumer has retrieved all the data.
+     *
+     * @return <code>true</code> if the stream is closed and no chunk is left
+     * @since upcoming
+     */
+    public boolean isDone() {
+        lock.lock();
+        try {
+            return closed && chunks.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the number of bytes in the queued chunks.
+     *
+     * @return the number of bytes
+     * @since upcoming
+     */
+    public long getQueuedBytes() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Subscribes a consumer that gets the chunks pushed according to its demand.
+     * <p>
+     * The subscriber is called in the thread that writes the chunk, that closes or aborts the stream or that requests
+     * more chunks. The calls are never concurrent. A cancelled subscription has the same effect as {@link #cancel()}.
+     * </p>
+     *
+     * @param subscriber the subscriber
+     * @throws IllegalStateException if the stream has already a subscriber or a chunk has been pulled
+     * @since upcoming
+     */
+    public void subscribe(final Subscriber subscriber) {
+        lock.lock();
+        try {
+            if (this.subscriber != null) {
+                throw new IllegalStateException("Stream has already a subscriber");
+            }
+            this.subscriber = subscriber;
+        } finally {
+            lock.unlock();
+        }
+        subscriber.onSubscribe(new Subscription() {
+
+            @Override
+            public void request(final long n) {
+                lock.lock();
+                try {
+                    if (n <= 0) {
+                        if (failure == null) {
+                            failure = new IllegalArgumentException("Non-positive request " + n);
+                            closed = true;
+                            cancelled = true;
+                            chunks.clear();
+                            queued = 0;
+                            spaceAvailable.signalAll();
+                        }
+                    } else {
+                        demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                lock.lock();
+                try {
+                    terminated = true;
+                } finally {
+                    lock.unlock();
+                }
+                ChunkedOutputStream.this.cancel();
+            }
+        });
+        drain();
+    }
+
+    /**
+     * Pushes the queued chunks to the subscriber as long as it has demand. Only one thread drains at a time, it checks
+     * the state again after every call of the subscriber.
+     */
+    private void drain() {
+        lock.lock();
+        try {
+            if (subscriber == null || terminated) {
+                return;
+            }
+            if (draining) {
+                // the draining thread will push any change
+                return;
+            }
+            draining = true;
+        } finally {
+            lock.unlock();
+        }
+        for (;;) {
+            ByteBuffer chunk = null;
+            Throwable error = null;
+            boolean complete = false;
+            lock.lock();
+            try {
+                if (terminated) {
+                    draining = false;
+                    return;
+                }
+                if (failure != null) {
+                    terminated = true;
+                    error = failure;
+                } else if (demand > 0 && !chunks.isEmpty()) {
+                    --demand;
+                    chunk = next();
+                } else if (closed && chunks.isEmpty()) {
+                    terminated = true;
+                    complete = true;
+                } else {
+                    draining = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (chunk != null) {
+                subscriber.onNext(chunk);
+            } else if (error != null) {
+                subscriber.onError(error);
+            } else if (complete) {
+                subscriber.onComplete();
+            }
+        }
+    }
+
+    private void ensurePulled() {
+        if (subscriber != null) {
+            throw new IllegalStateException("Chunks are pushed to the subscriber");
+        }
+    }
+
+    private ByteBuffer next() {
+        if (failure != null) {
+            throw new StreamException("Producer failed", failure);
+        }
+        final ByteBuffer chunk = chunks.poll();
+        if (chunk != null) {
+            queued -= chunk.remaining();
+            if (queued <= lowWatermark) {
+                spaceAvailable.signalAll();
+            }
+        }
+        return chunk;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (current == null) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private void publish() throws IOException {
+        final ByteBuffer chunk = ByteBuffer.wrap(current, 0, position);
+        lock.lock();
+        try {
+            if (queued + position > highWatermark) {
+                while (queued > lowWatermark && !cancelled) {
+                    spaceAvailable.await();
+                }
+            }
+            if (cancelled) {
+                throw new StreamException("Stream cancelled by consumer");
+            }
+            chunks.add(chunk);
+            queued += position;
+            chunkAvailable.signalAll();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the consumer");
+        } finally {
+            lock.unlock();
+        }
+        current = new byte[chunkSize];
+        position = 0;
+        drain();
+    }
+
+    /**
+     * A consumer of the pushed chunks.
+     *
+     * @since upcoming
+     */
+    public interface Subscriber {
+
+        /**
+         * Called once before any other method.
+         *
+         * @param subscription the subscription to request chunks or to cancel
+         * @since upcoming
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Called for every requested chunk.
+         *
+         * @param chunk the chunk
+         * @since upcoming
+         */
+        void onNext(ByteBuffer chunk);
+
+        /**
+         * Called once if the producer failed or the subscriber requested a non-positive number of chunks.
+         *
+         * @param failure the failure
+         * @since upcoming
+         */
+        void onError(Throwable failure);
+
+        /**
+         * Called once after the last chunk.
+         *
+         * @since upcoming
+         */
+        void onComplete();
+    }
+
+    /**
+     * The subscription of a {@link Subscriber}.
+     *
+     * @since upcoming
+     */
+    public interface Subscription {
+
+        /**
+         * Request more chunks.
+         *
+         * @param n the number of additional chunks, must be positive
+         * @since upcoming
+         */
+        void request(long n);
+
+        /**
+         * Cancel the subscription. Any queued chunk is dropped and the next write operation of the producer will fail.
+         *
+         * @since upcoming
+         */
+        void cancel();
+    }
+}
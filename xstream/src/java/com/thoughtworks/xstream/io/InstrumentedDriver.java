@@ -0,0 +1,390 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.FilterReader;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URL;
+
+import com.thoughtworks.xstream.core.Instrumentation;
+import com.thoughtworks.xstream.core.Instrumentations;
+
+
+/**
+ * A driver that instruments the readers and writers of another driver.
+ * <p>
+ * The readers and writers count the streamed nodes and the bytes or characters of the underlying stream, measure the
+ * time spent in the readers and writers of the instrumented driver and report them to the installed
+ * {@link Instrumentation}. A writer reports at the end of the root node, it flushes the
+ * underlying stream at this point. A reader reports as soon as the children or the value of the root node have been
+ * read and when it is closed.
+ * </p>
+ *
+ * @since upcoming
+ */
+public class InstrumentedDriver implements HierarchicalStreamDriver {
+
+    private final HierarchicalStreamDriver driver;
+    private final String name;
+
+    /**
+     * Construct an InstrumentedDriver.
+     *
+     * @param driver the instrumented driver
+     * @since upcoming
+     */
+    public InstrumentedDriver(final HierarchicalStreamDriver driver) {
+        this.driver = driver;
+        name = driver.getClass().getName();
+    }
+
+    @Override
+    public HierarchicalStreamReader createReader(final Reader in) {
+        final CountingReader counter = new CountingReader(in);
+        final long start = System.nanoTime();
+        return new InstrumentedReader(driver.createReader(counter), counter, System.nanoTime() - start);
+    }
+
+    @Override
+    public HierarchicalStreamReader createReader(final InputStream in) {
+        final CountingInputStream counter = new CountingInputStream(in);
+        final long start = System.nanoTime();
+        return new InstrumentedReader(driver.createReader(counter), counter, System.nanoTime() - start);
+    }
+
+    @Override
+    public HierarchicalStreamReader createReader(final URL in) {
+        try {
+            return createReader(in.openStream());
+        } catch (final IOException e) {
+            throw new StreamException(e);
+        }
+    }
+
+    @SuppressWarnings("resource")
+    @Override
+    public HierarchicalStreamReader createReader(final File in) {
+        try {
+            return createReader(new FileInputStream(in));
+        } catch (final IOException e) {
+            throw new StreamException(e);
+        }
+    }
+
+    @Override
+    public HierarchicalStreamWriter createWriter(final Writer out) {
+        final CountingWriter counter = new CountingWriter(out);
+        return new InstrumentedWriter(driver.createWriter(counter), counter);
+    }
+
+    @Override
+    public HierarchicalStreamWriter createWriter(final OutputStream out) {
+        final CountingOutputStream counter = new CountingOutputStream(out);
+        return new InstrumentedWriter(driver.createWriter(counter), counter);
+    }
+
+    private void report(final boolean written, final long nodes, final long bytes, final long nanos) {
+        final Instrumentation instrumentation = Instrumentations.get();
+        if (instrumentation != null) {
+            instrumentation.streamed(name, written, nodes, bytes, nanos);
+        }
+    }
+
+    private interface Counter {
+        long getCount();
+    }
+
+    private class InstrumentedReader extends ReaderWrapper {
+        private final Counter counter;
+        private int depth;
+        private long nodes = 1;
+        private long nanos;
+        private long reportedNodes;
+        private long reportedBytes;
+        private long reportedNanos;
+
+        InstrumentedReader(final HierarchicalStreamReader reader, final Counter counter, final long nanos) {
+            super(reader);
+            this.counter = counter;
+            this.nanos = nanos;
+        }
+
+        @Override
+        public boolean hasMoreChildren() {
+            final long start = System.nanoTime();
+            final boolean hasMoreChildren = super.hasMoreChildren();
+            nanos += System.nanoTime() - start;
+            if (!hasMoreChildren && depth == 0) {
+                report();
+            }
+            return hasMoreChildren;
+        }
+
+        @Override
+        public void moveDown() {
+            final long start = System.nanoTime();
+            super.moveDown();
+            nanos += System.nanoTime() - start;
+            ++depth;
+            ++nodes;
+        }
+
+        @Override
+        public void moveUp() {
+            final long start = System.nanoTime();
+            super.moveUp();
+            nanos += System.nanoTime() - start;
+            --depth;
+        }
+
+        @Override
+        public String getValue() {
+            final long start = System.nanoTime();
+            final String value = super.getValue();
+            nanos += System.nanoTime() - start;
+            if (depth == 0) {
+                report();
+            }
+            return value;
+        }
+
+        @Override
+        public void close() {
+            report();
+            super.close();
+        }
+
+        private void report() {
+            final long bytes = counter.getCount();
+            if (nodes != reportedNodes || bytes != reportedBytes) {
+                InstrumentedDriver.this.report(false, nodes - reportedNodes, bytes - reportedBytes,
+                    nanos - reportedNanos);
+                reportedNodes = nodes;
+                reportedBytes = bytes;
+                reportedNanos = nanos;
+            }
+        }
+    }
+
+    private class InstrumentedWriter extends WriterWrapper {
+        private final Counter counter;
+        private int depth;
+        private long nodes;
+        private long nanos;
+        private long reportedNodes;
+        private long reportedBytes;
+        private long reportedNanos;
+
+        InstrumentedWriter(final HierarchicalStreamWriter writer, final Counter counter) {
+            super(writer);
+            this.counter = counter;
+        }
+
+        @Override
+        public void startNode(final String name) {
+            final long start = System.nanoTime();
+            super.startNode(name);
+            nanos += System.nanoTime() - start;
+            ++depth;
+            ++nodes;
+        }
+
+        @Override
+        public void startNode(final String name, final Class<?> clazz) {
+            final long start = System.nanoTime();
+            super.startNode(name, clazz);
+            nanos += System.nanoTime() - start;
+            ++depth;
+            ++nodes;
+        }
+
+        @Override
+        public void addAttribute(final String name, final String value) {
+            final long start = System.nanoTime();
+            super.addAttribute(name, value);
+            nanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void setValue(final String text) {
+            final long start = System.nanoTime();
+            super.setValue(text);
+            nanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void endNode() {
+            final long start = System.nanoTime();
+            super.endNode();
+            if (--depth == 0) {
+                super.flush();
+                nanos += System.nanoTime() - start;
+                report();
+            } else {
+                nanos += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public void flush() {
+            final long start = System.nanoTime();
+            super.flush();
+            nanos += System.nanoTime() - start;
+            report();
+        }
+
+        @Override
+        public void close() {
+            final long start = System.nanoTime();
+            super.close();
+            nanos += System.nanoTime() - start;
+            report();
+        }
+
+        private void report() {
+            final long bytes = counter.getCount();
+            if (nodes != reportedNodes || bytes != reportedBytes) {
+                InstrumentedDriver.this.report(true, nodes - reportedNodes, bytes - reportedBytes,
+                    nanos - reportedNanos);
+                reportedNodes = nodes;
+                reportedBytes = bytes;
+                reportedNanos = nanos;
+            }
+        }
+    }
+
+    private static class CountingReader extends FilterReader implements Counter {
+        private long count;
+
+        CountingReader(final Reader in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int ch = super.read();
+            if (ch >= 0) {
+                ++count;
+            }
+            return ch;
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) throws IOException {
+            final int n = super.read(cbuf, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream implements Counter {
+        private long count;
+
+        CountingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b >= 0) {
+                ++count;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+    }
+
+    private static class CountingWriter extends FilterWriter implements Counter {
+        private long count;
+
+        CountingWriter(final Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int c) throws IOException {
+            super.write(c);
+            ++count;
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) throws IOException {
+            super.write(cbuf, off, len);
+            count += len;
+        }
+
+        @Override
+        public void write(final String str, final int off, final int len) throws IOException {
+            super.write(str, off, len);
+            count += len;
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream implements Counter {
+        private long count;
+
+        CountingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            ++count;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+    }
+}
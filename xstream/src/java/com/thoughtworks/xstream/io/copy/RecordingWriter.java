@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.io.copy;
+
+import java.util.Arrays;
+
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+
+
+/**
+ * A writer that records all written events to replay them later into another writer.
+ * <p>
+ * The events are recorded with the original names and values, i.e. the target writer will encode them exactly as if
+ * they had been written directly. Any type information passed with {@link #startNode(String, Class)} is kept as well.
+ * A RecordingWriter is not thread-safe, but it can be filled in one thread and replayed in another one.
+ * </p>
+ *
+ * @since upcoming
+ */
+public class RecordingWriter implements HierarchicalStreamWriter {
+
+    private static final byte START_NODE = 1;
+    private static final byte ATTRIBUTE = 2;
+    private static final byte VALUE = 3;
+    private static final byte END_NODE = 4;
+
+    private byte[] events = new byte[64];
+    private Object[] arguments = new Object[128];
+    private int eventCount;
+    private int argumentCount;
+
+    @Override
+    public void startNode(final String name) {
+        record(START_NODE, name, null);
+    }
+
+    @Override
+    public void startNode(final String name, final Class<?> clazz) {
+        record(START_NODE, name, clazz);
+    }
+
+    @Override
+    public void addAttribute(final String name, final String value) {
+        record(ATTRIBUTE, name, value);
+    }
+
+    @Override
+    public void setValue(final String text) {
+        record(VALUE, text, null);
+    }
+
+    @Override
+    public void endNode() {
+        record(END_NODE, null, null);
+    }
+
+    /**
+     * Replay all recorded events into another writer.
+     *
+     * @param destination the target writer
+     * @since upcoming
+     */
+    public void replay(final HierarchicalStreamWriter destination) {
+        for (int i = 0, a = 0; i < eventCount; ++i, a += 2) {
+            switch (events[i]) {
+            case START_NODE:
+                if (arguments[a + 1] == null) {
+                    destination.startNode((String)arguments[a]);
+                } else {
+                    destination.startNode((String)arguments[a], (Class<?>)arguments[a + 1]);
+                }
+                break;
+            case ATTRIBUTE:
+                destination.addAttribute((String)arguments[a], (String)arguments[a + 1]);
+                break;
+            case VALUE:
+                destination.setValue((String)arguments[a]);
+                break;
+            case END_NODE:
+                destination.endNode();
+                break;
+            }
+        }
+    }
+
+    /**
+     * Drop all recorded events.
+     *
+     * @since upcoming
+     */
+    public void reset() {
+        Arrays.fill(arguments, 0, argumentCount, null);
+        eventCount = 0;
+        argumentCount = 0;
+    }
+
+    private void record(final byte event, final Object first, final Object second) {
+        if (eventCount == events.length) {
+            events = Arrays.copyOf(events, events.length * 2);
+            arguments = Arrays.copyOf(arguments, arguments.length * 2);
+        }
+        events[eventCount++] = event;
+        arguments[argumentCount++] = first;
+        arguments[argumentCount++] = second;
+    }
+
+    @Override
+    public void flush() {
+        // nothing to do
+    }
+
+    @Override
+    public void close() {
+        // nothing to do
+    }
+
+    @Override
+    public HierarchicalStreamWriter underlyingWriter() {
+        return this;
+    }
+}
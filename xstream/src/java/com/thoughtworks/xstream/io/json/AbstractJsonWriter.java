@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2009, 2010, 2011, 2012, 2013, 2014, 2015 XStream Committers.
+ * Copyright (C) 2009, 2010, 2011, 2012, 2013, 2014, 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -15,12 +15,9 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 import com.thoughtworks.xstream.converters.ConversionException;
-import com.thoughtworks.xstream.core.util.FastStack;
 import com.thoughtworks.xstream.io.AbstractWriter;
 import com.thoughtworks.xstream.io.naming.NameCoder;
 import com.thoughtworks.xstream.io.naming.NoNameCoder;
@@ -142,16 +139,6 @@ public abstract class AbstractJsonWriter extends AbstractWriter {
         public static Type BOOLEAN = new Type();
     }
 
-    private static class StackElement {
-        final Class<?> type;
-        int status;
-
-        public StackElement(final Class<?> type, final int status) {
-            this.type = type;
-            this.status = status;
-        }
-    }
-
     private static class IllegalWriterStateException extends IllegalStateException {
         private static final long serialVersionUID = 20151010L;
 
@@ -204,11 +191,11 @@ public abstract class AbstractJsonWriter extends AbstractWriter {
     private static final int STATE_END_ELEMENTS = 1 << 8;
     private static final int STATE_SET_VALUE = 1 << 9;
 
-    private static final Set<Class<?>> NUMBER_TYPES = new HashSet<>(Arrays.<Class<?>>asList(byte.class, Byte.class,
-        short.class, Short.class, int.class, Integer.class, long.class, Long.class, float.class, Float.class,
-        double.class, Double.class, BigInteger.class, BigDecimal.class));
     private final int mode;
-    private final FastStack<StackElement> stack = new FastStack<>(16);
+    // the stack of the current nodes, kept in plain arrays to avoid an allocation per node
+    private Class<?>[] types = new Class<?>[16];
+    private int[] states = new int[16];
+    private int size;
     private int expectedStates;
 
     /**
@@ -250,7 +237,7 @@ public abstract class AbstractJsonWriter extends AbstractWriter {
     public AbstractJsonWriter(final int mode, final NameCoder nameCoder) {
         super(nameCoder);
         this.mode = (mode & EXPLICIT_MODE) > 0 ? EXPLICIT_MODE : mode;
-        stack.push(new StackElement(null, STATE_ROOT));
+        push(null, STATE_ROOT);
         expectedStates = STATE_START_OBJECT;
     }
 
@@ -259,7 +246,7 @@ public abstract class AbstractJsonWriter extends AbstractWriter {
         if (name == null) {
             throw new NullPointerException("name");
         }
-        stack.push(new StackElement(clazz, stack.peek().status));
+        push(clazz, states[size - 1]);
         handleCheckedStateTransition(STATE_START_OBJECT, name, null);
         expectedStates = STATE_SET_VALUE | STATE_NEXT_ATTRIBUTE | STATE_START_OBJECT | STATE_NEXT_ELEMENT | STATE_ROOT;
     }
@@ -277,7 +264,7 @@ public abstract class AbstractJsonWriter extends AbstractWriter {
 
     @Override
     public void setValue(String text) {
-        final Class<?> type = stack.peek().type;
+        final Class<?> type = types[size - 1];
         if ((type == Character.class || type == Character.TYPE) && "".equals(text)) {
             text = "\u0000";
         }
@@ -287,11 +274,11 @@ public abstract class AbstractJsonWriter extends AbstractWriter {
 
     @Override
     public void endNode() {
-        final int size = stack.size();
+        final int size = this.size;
         final int nextState = size > 2 ? STATE_NEXT_ELEMENT : STATE_ROOT;
         handleCheckedStateTransition(nextState, null, null);
-        stack.pop();
-        stack.peek().status = nextState;
+        types[--this.size] = null;
+        states[this.size - 1] = nextState;
         expectedStates = STATE_START_OBJECT;
         if (size > 2) {
             expectedStates |= STATE_NEXT_ELEMENT | STATE_ROOT;
@@ -300,20 +287,28 @@ public abstract class AbstractJsonWriter extends AbstractWriter {
 
     private void handleCheckedStateTransition(final int requiredState, final String elementToAdd,
             final String valueToAdd) {
-        final StackElement stackElement = stack.peek();
+        final int index = size - 1;
         if ((expectedStates & requiredState) == 0) {
-            throw new IllegalWriterStateException(stackElement.status, requiredState, elementToAdd);
+            throw new IllegalWriterStateException(states[index], requiredState, elementToAdd);
         }
-        final int currentState = handleStateTransition(stackElement.status, requiredState, elementToAdd, valueToAdd);
-        stackElement.status = currentState;
+        states[index] = handleStateTransition(states[index], requiredState, elementToAdd, valueToAdd);
+    }
+
+    private void push(final Class<?> type, final int state) {
+        if (size == types.length) {
+            types = Arrays.copyOf(types, size * 2);
+            states = Arrays.copyOf(states, size * 2);
+        }
+        types[size] = type;
+        states[size++] = state;
     }
 
     private int handleStateTransition(int currentState, final int requiredState, final String elementToAdd,
             final String valueToAdd) {
-        final int size = stack.size();
-        final Class<?> currentType = stack.peek().type;
+        final int size = this.size;
+        final Class<?> currentType = types[size - 1];
         final boolean isArray = size > 1 && isArray(currentType);
-        final boolean isArrayElement = size > 1 && isArray(stack.get(size - 2).type);
+        final boolean isArrayElement = size > 1 && isArray(types[size - 2]);
         switch (currentState) {
         case STATE_ROOT:
             if (requiredState == STATE_START_OBJECT) {
@@ -609,7 +604,24 @@ public abstract class AbstractJsonWriter extends AbstractWriter {
             ? Type.NULL
             : clazz == Boolean.class || clazz == Boolean.TYPE
                 ? Type.BOOLEAN
-                : NUMBER_TYPES.contains(clazz) ? Type.NUMBER : Type.STRING;
+                : isNumberType(clazz) ? Type.NUMBER : Type.STRING;
+    }
+
+    private static boolean isNumberType(final Class<?> clazz) {
+        if (clazz == null) {
+            return false;
+        }
+        if (clazz.isPrimitive()) {
+            return clazz != char.class && clazz != void.class;
+        }
+        return clazz == Integer.class
+            || clazz == Long.class
+            || clazz == Double.class
+            || clazz == Float.class
+            || clazz == Short.class
+            || clazz == Byte.class
+            || clazz == BigDecimal.class
+            || clazz == BigInteger.class;
     }
 
     /**
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -30,6 +30,8 @@ import com.thoughtworks.xstream.io.naming.NoNameCoder;
  */
 public class JsonWriter extends AbstractJsonWriter {
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     protected final QuickWriter writer;
     protected final Format format;
     private int depth;
@@ -253,8 +255,17 @@ public class JsonWriter extends AbstractJsonWriter {
 
     private void writeText(final String text) {
         final int length = text.length();
+        int start = 0;
         for (int i = 0; i < length; i++) {
             final char c = text.charAt(i);
+            if (c > 0x1f && c != '"' && c != '\\') {
+                continue;
+            }
+            // write the run of characters without escaping at once
+            if (i > start) {
+                writer.write(text, start, i - start);
+            }
+            start = i + 1;
             switch (c) {
             case '"':
                 writer.write("\\\"");
@@ -282,15 +293,16 @@ public class JsonWriter extends AbstractJsonWriter {
                 writer.write("\\t");
                 break;
             default:
-                if (c > 0x1f) {
-                    writer.write(c);
-                } else {
-                    writer.write("\\u");
-                    final String hex = "000" + Integer.toHexString(c);
-                    writer.write(hex.substring(hex.length() - 4));
-                }
+                writer.write("\\u00");
+                writer.write(HEX_DIGITS[c >> 4]);
+                writer.write(HEX_DIGITS[c & 0xf]);
             }
         }
+        if (start == 0) {
+            writer.write(text);
+        } else if (start < length) {
+            writer.write(text, start, length - start);
+        }
     }
 
     /**
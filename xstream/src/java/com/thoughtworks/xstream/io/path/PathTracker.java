@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2009, 2011, 2014, 2015 XStream Committers.
+ * Copyright (C) 2006, 2007, 2009, 2011, 2014, 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,6 +11,7 @@
  */
 package com.thoughtworks.xstream.io.path;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -45,6 +46,9 @@ import java.util.Map;
  */
 public class PathTracker {
 
+    private static final int RECYCLING_CAPACITY = 256;
+
+    private final int initialCapacity;
     private int pointer;
     private int capacity;
     private String[] pathStack;
@@ -62,7 +66,8 @@ public class PathTracker {
      *            other constructor.
      */
     public PathTracker(final int initialCapacity) {
-        capacity = Math.max(1, initialCapacity);
+        this.initialCapacity = Math.max(1, initialCapacity);
+        capacity = this.initialCapacity;
         pathStack = new String[capacity];
         @SuppressWarnings("unchecked")
         final Map<String, Integer>[] newIndexMapStack = new Map[capacity];
@@ -103,6 +108,27 @@ public class PathTracker {
         pointer--;
     }
 
+    /**
+     * Reset the tracker to the state before the first element. The allocated stacks are kept for reuse, unless they
+     * have grown beyond 256 levels. Such stacks return to their initial capacity.
+     * 
+     * @since upcoming
+     */
+    public void clear() {
+        if (capacity > Math.max(initialCapacity, RECYCLING_CAPACITY)) {
+            capacity = initialCapacity;
+            pathStack = new String[capacity];
+            @SuppressWarnings("unchecked")
+            final Map<String, Integer>[] newIndexMapStack = new Map[capacity];
+            indexMapStack = newIndexMapStack;
+        } else {
+            Arrays.fill(pathStack, 0, Math.min(pointer + 1, capacity), null);
+            Arrays.fill(indexMapStack, 0, Math.min(pointer + 1, capacity), null);
+        }
+        pointer = 0;
+        currentPath = null;
+    }
+
     /**
      * Get the last path element from the stack.
      * 
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2009, 2011, 2014, 2015, 2018 XStream Committers.
+ * Copyright (C) 2009, 2011, 2014, 2015, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -17,10 +17,12 @@ import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.io.Writer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.xmlpull.v1.XmlPullParser;
 import org.xmlpull.v1.XmlPullParserException;
 
+import com.thoughtworks.xstream.converters.ErrorWriter;
 import com.thoughtworks.xstream.core.util.XmlHeaderAwareReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
@@ -30,6 +32,12 @@ import com.thoughtworks.xstream.io.naming.NameCoder;
 
 /**
  * An abstract base class for a driver using an XPP implementation.
+ * <p>
+ * The driver can recycle its parser instances, see {@link #setParserPoolSize(int)}. A recycled parser is reset and
+ * returned to the pool as soon as the {@link HierarchicalStreamReader} has read the end of the root element or when it
+ * is closed, whatever happens first. Therefore the parser is also recycled if the reader is not closed, like it is
+ * done by {@link com.thoughtworks.xstream.XStream#fromXML(Reader)}.
+ * </p>
  * 
  * @author Joe Walnes
  * @author J&ouml;rg Schaible
@@ -37,6 +45,8 @@ import com.thoughtworks.xstream.io.naming.NameCoder;
  */
 public abstract class AbstractXppDriver extends AbstractXmlDriver {
 
+    private volatile AtomicReferenceArray<XmlPullParser> parserPool;
+
     /**
      * Construct an AbstractXppDriver.
      * 
@@ -47,13 +57,38 @@ public abstract class AbstractXppDriver extends AbstractXmlDriver {
         super(nameCoder);
     }
 
+    /**
+     * Set the number of parser instances kept for reuse.
+     * <p>
+     * Creating a new parser for each document is a significant part of the cost for parsing small documents. With a
+     * pool size greater than zero, the driver reuses the parsers of finished readers. The pool does not block, if it is
+     * empty a new parser is created and if it is full a returned parser is dropped. Therefore the size has only to
+     * match the number of concurrently parsed documents, it is not a limit. A size of 0 (the default) disables the
+     * recycling.
+     * </p>
+     * 
+     * @param size the maximum number of pooled parsers
+     * @throws IllegalArgumentException if the size is negative
+     * @since upcoming
+     */
+    public void setParserPoolSize(final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative parser pool size");
+        }
+        parserPool = size == 0 ? null : new AtomicReferenceArray<XmlPullParser>(size);
+    }
+
     @Override
     public HierarchicalStreamReader createReader(final Reader in) {
-        try {
-            return new XppReader(in, createParser(), getNameCoder());
-        } catch (final XmlPullParserException e) {
-            throw new StreamException("Cannot create XmlPullParser", e);
+        final AtomicReferenceArray<XmlPullParser> pool = parserPool;
+        if (pool == null) {
+            try {
+                return new XppReader(in, createParser(), getNameCoder());
+            } catch (final XmlPullParserException e) {
+                throw new StreamException("Cannot create XmlPullParser", e);
+            }
         }
+        return new PooledXppReader(in, fetchParser(pool), getNameCoder(), pool);
     }
 
     @SuppressWarnings("resource")
@@ -85,4 +120,116 @@ public abstract class AbstractXppDriver extends AbstractXmlDriver {
      * @since 1.4
      */
     protected abstract XmlPullParser createParser() throws XmlPullParserException;
+
+    private XmlPullParser fetchParser(final AtomicReferenceArray<XmlPullParser> pool) {
+        for (int i = 0; i < pool.length(); ++i) {
+            if (pool.get(i) != null) {
+                final XmlPullParser parser = pool.getAndSet(i, null);
+                if (parser != null) {
+                    return parser;
+                }
+            }
+        }
+        try {
+            return createParser();
+        } catch (final XmlPullParserException e) {
+            throw new StreamException("Cannot create XmlPullParser", e);
+        }
+    }
+
+    private static void releaseParser(final AtomicReferenceArray<XmlPullParser> pool, final XmlPullParser parser) {
+        try {
+            // drops the reference to the reader and resets the internal state
+            parser.setInput(null);
+        } catch (final XmlPullParserException e) {
+            return;
+        }
+        for (int i = 0; i < pool.length(); ++i) {
+            if (pool.get(i) == null && pool.compareAndSet(i, null, parser)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * An XppReader that releases its parser into the pool at the end of the root element. The parser is no longer
+     * accessed afterwards, since it may already be used by another reader.
+     */
+    private static class PooledXppReader extends XppReader {
+
+        private final AtomicReferenceArray<XmlPullParser> pool;
+        private boolean released;
+        private int lineNumber;
+
+        PooledXppReader(
+                final Reader in, final XmlPullParser parser, final NameCoder nameCoder,
+                final AtomicReferenceArray<XmlPullParser> pool) {
+            super(in, parser, nameCoder);
+            this.pool = pool;
+        }
+
+        @Override
+        protected int pullNextEvent() {
+            if (released) {
+                return END_NODE;
+            }
+            final int event = super.pullNextEvent();
+            if (event == END_NODE && getParser().getDepth() <= 1) {
+                release();
+            }
+            return event;
+        }
+
+        @Override
+        public String getAttribute(final String name) {
+            return released ? null : super.getAttribute(name);
+        }
+
+        @Override
+        public String getAttribute(final int index) {
+            if (released) {
+                throw new IndexOutOfBoundsException("No attributes at the end of the document");
+            }
+            return super.getAttribute(index);
+        }
+
+        @Override
+        public int getAttributeCount() {
+            return released ? 0 : super.getAttributeCount();
+        }
+
+        @Override
+        public String getAttributeName(final int index) {
+            if (released) {
+                throw new IndexOutOfBoundsException("No attributes at the end of the document");
+            }
+            return super.getAttributeName(index);
+        }
+
+        @Override
+        public void appendErrors(final ErrorWriter errorWriter) {
+            if (released) {
+                errorWriter.add("line number", String.valueOf(lineNumber));
+            } else {
+                super.appendErrors(errorWriter);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                super.close();
+            } finally {
+                if (!released) {
+                    release();
+                }
+            }
+        }
+
+        private void release() {
+            lineNumber = getParser().getLineNumber();
+            released = true;
+            releaseParser(pool, getParser());
+        }
+    }
 }
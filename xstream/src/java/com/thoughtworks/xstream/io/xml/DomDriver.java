@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2014, 2015 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2014, 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -39,7 +39,7 @@ import com.thoughtworks.xstream.io.naming.NameCoder;
 public class DomDriver extends AbstractXmlDriver {
 
     private final String encoding;
-    private DocumentBuilderFactory documentBuilderFactory;
+    private volatile DocumentBuilderFactory documentBuilderFactory;
 
     /**
      * Construct a DomDriver.
@@ -95,12 +95,11 @@ public class DomDriver extends AbstractXmlDriver {
 
     private HierarchicalStreamReader createReader(final InputSource source) {
         try {
+            DocumentBuilderFactory documentBuilderFactory = this.documentBuilderFactory;
             if (documentBuilderFactory == null) {
-                synchronized (this) {
-                    if (documentBuilderFactory == null) {
-                        documentBuilderFactory = createDocumentBuilderFactory();
-                    }
-                }
+                // concurrent threads may create an own factory initially, but they are equivalent
+                documentBuilderFactory = createDocumentBuilderFactory();
+                this.documentBuilderFactory = documentBuilderFactory;
             }
             final DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
             if (encoding != null) {
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 2014, 2015, 2019 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 2014, 2015, 2019, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -12,10 +12,10 @@
 package com.thoughtworks.xstream.io.xml;
 
 import java.util.BitSet;
-import java.util.HashMap;
 import java.util.Map;
 
 import com.thoughtworks.xstream.converters.reflection.ObjectAccessException;
+import com.thoughtworks.xstream.core.util.StringCache;
 import com.thoughtworks.xstream.io.naming.NameCoder;
 
 
@@ -38,6 +38,11 @@ import com.thoughtworks.xstream.io.naming.NameCoder;
  * The valid characters are defined by the intersection of the XML 1.0 specification (4th edition) and later
  * specifications till XML 1.1 specification.
  * </p>
+ * <p>
+ * The encoded and decoded names are cached in bounded caches. The default caches are thread-safe, i.e. an instance
+ * of this coder can be shared by the drivers used concurrently in different threads. A clone of the coder shares
+ * those caches with the original, therefore the writers and readers of a driver encode and decode a name only once.
+ * </p>
  *
  * @author J&ouml;rg Schaible
  * @author Mauro Talevi
@@ -590,7 +595,10 @@ public class XmlFriendlyNameCoder implements NameCoder, Cloneable {
     public Object clone() {
         try {
             final XmlFriendlyNameCoder coder = (XmlFriendlyNameCoder)super.clone();
-            coder.readResolve();
+            // thread-safe caches are shared, names are encoded once for all writers and readers of a driver
+            if (!(escapeCache instanceof StringCache && unescapeCache instanceof StringCache)) {
+                coder.readResolve();
+            }
             return coder;
 
         } catch (final CloneNotSupportedException e) {
@@ -604,8 +612,17 @@ public class XmlFriendlyNameCoder implements NameCoder, Cloneable {
         return this;
     }
 
+    /**
+     * Create the map for a cache of encoded or decoded names.
+     * <p>
+     * The default implementation creates a thread-safe {@link StringCache} for 1024 entries. An overwriting method has
+     * to return a thread-safe map if the coder is used concurrently.
+     * </p>
+     *
+     * @return the map for the cache
+     */
     protected Map<String, String> createCacheMap() {
-        return new HashMap<>();
+        return new StringCache(1024);
     }
 
     private static boolean isXmlNameStartChar(final int cp) {
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2014, 2018 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2014, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -47,7 +47,7 @@ public class XppDomDriver extends AbstractXppDomDriver {
     }
 
     @Override
-    protected synchronized XmlPullParser createParser() throws XmlPullParserException {
+    protected XmlPullParser createParser() throws XmlPullParserException {
         return XppDriver.createDefaultParser();
     }
 }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2012, 2014, 2018 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2012, 2014, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -27,7 +27,7 @@ import com.thoughtworks.xstream.io.naming.NameCoder;
  */
 public class XppDriver extends AbstractXppDriver {
 
-    private static XmlPullParserFactory factory;
+    private static volatile XmlPullParserFactory factory;
 
     public XppDriver() {
         super(new XmlFriendlyNameCoder());
@@ -51,15 +51,19 @@ public class XppDriver extends AbstractXppDriver {
 
     /**
      * Create a default XML Pull Parser. The method uses the Java Service API to get the registered
-     * {@link XmlPullParserFactory} and let it create a new parser.
+     * {@link XmlPullParserFactory} and let it create a new parser. The factory is created once and cached, the method
+     * does not synchronize, i.e. it will not pin a virtual thread.
      *
      * @return a new instance of an XML Pull Parser
      * @throws XmlPullParserException if the creation of a new parser fails.
      * @since 1.4.11
      */
-    public static synchronized XmlPullParser createDefaultParser() throws XmlPullParserException {
+    public static XmlPullParser createDefaultParser() throws XmlPullParserException {
+        XmlPullParserFactory factory = XppDriver.factory;
         if (factory == null) {
+            // concurrent threads may create an own factory initially, but they are equivalent
             factory = XmlPullParserFactory.newInstance();
+            XppDriver.factory = factory;
         }
         return factory.newPullParser();
     }
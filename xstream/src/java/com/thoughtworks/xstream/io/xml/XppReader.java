@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004, 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2014 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -111,6 +111,16 @@ public class XppReader extends AbstractPullReader {
         throw new StreamException("Cannot create Xpp3 parser instance.", exception);
     }
 
+    /**
+     * Retrieve the parser of the reader.
+     * 
+     * @return the XML pull parser
+     * @since upcoming
+     */
+    protected XmlPullParser getParser() {
+        return parser;
+    }
+
     @Override
     protected int pullNextEvent() {
         try {
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2007, 2008, 2009, 2011, 2012, 2013, 2014, 2015, 2016 XStream Committers.
+ * Copyright (C) 2007, 2008, 2009, 2011, 2012, 2013, 2014, 2015, 2016, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -152,6 +152,10 @@ public class AnnotationMapper extends MapperWrapper implements AnnotationConfigu
         locked = !mode;
     }
 
+    boolean isLocked() {
+        return locked;
+    }
+
     @Override
     public void processAnnotations(final Class<?>... initialTypes) {
         if (initialTypes == null || initialTypes.length == 0) {
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 2014, 2015 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 2014, 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,36 +11,83 @@
  */
 package com.thoughtworks.xstream.mapper;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import com.thoughtworks.xstream.XStreamException;
+import com.thoughtworks.xstream.converters.SingleValueConverter;
 import com.thoughtworks.xstream.core.Caching;
+import com.thoughtworks.xstream.core.Instrumentation;
+import com.thoughtworks.xstream.core.Instrumentations;
 import com.thoughtworks.xstream.security.ForbiddenClassException;
 
 
 /**
- * Mapper that caches which names map to which classes. Prevents repetitive searching and class loading.
+ * Mapper that caches the results of the wrapped mappers. Prevents repetitive searching and class loading.
+ * <p>
+ * The mapper caches the name to class mapping and the results of the type and member related queries that are called
+ * for every marshalled or unmarshalled object. The caches are lock-free and keyed by type and member name. Since the
+ * cached results depend on the configuration of the wrapped mappers, the cache has to be flushed after a modification
+ * of those mappers. XStream does this automatically for its configuration methods. The type and member related
+ * results are not cached at all as long as an {@link AnnotationMapper} in the chain auto-detects annotations, since
+ * every new type may change the configuration.
+ * </p>
+ * <p>
+ * The caches can be filled in advance for known types with {@link #compile(Class...)}. Afterwards the queries for
+ * those types are answered by the flat cache tables without any call into the wrapped mappers.
+ * </p>
+ * <p>
+ * An installed {@link Instrumentation} is notified about each cache hit and miss and about each repeated denial of a
+ * type by the {@link SecurityMapper} that is answered from the cache.
+ * </p>
  *
  * @author Joe Walnes
  * @author J&ouml;rg Schaible
  */
 public class CachingMapper extends MapperWrapper implements Caching {
 
+    private static final Object NULL = new Object();
+
+    private final AnnotationMapper annotationMapper;
     private transient ConcurrentMap<String, ? super Object> realClassCache;
+    private transient ConcurrentMap<Class<?>, String> serializedClassCache;
+    private transient ConcurrentMap<Class<?>, Object> defaultImplementationCache;
+    private transient ConcurrentMap<Class<?>, Boolean> immutableValueTypeCache;
+    private transient ConcurrentMap<Class<?>, Boolean> referenceableCache;
+    private transient ConcurrentMap<Class<?>, ConcurrentMap<String, String>> serializedMemberCache;
+    private transient ConcurrentMap<Class<?>, ConcurrentMap<String, String>> realMemberCache;
+    private transient ConcurrentMap<Class<?>, ConcurrentMap<String, Boolean>> shouldSerializeMemberCache;
+    private transient ConcurrentMap<Class<?>, ConcurrentMap<String, Object>> implicitCollectionCache;
+    private transient ConcurrentMap<Class<?>, ConcurrentMap<String, ConcurrentMap<Class<?>, Object>>>
+        itemTypeConverterCache;
 
     public CachingMapper(final Mapper wrapped) {
         super(wrapped);
+        annotationMapper = wrapped instanceof MapperWrapper
+            ? ((MapperWrapper)wrapped).lookupMapperOfType(AnnotationMapper.class)
+            : null;
         readResolve();
     }
 
     @Override
     public Class<?> realClass(final String elementName) {
         final Object cached = realClassCache.get(elementName);
+        record("realClass", null, elementName, cached != null);
         if (cached != null) {
             if (cached instanceof Class) {
                 return (Class<?>)cached;
             }
+            if (cached instanceof ForbiddenClassException) {
+                final Instrumentation instrumentation = Instrumentations.get();
+                if (instrumentation != null) {
+                    instrumentation.typeDenied(elementName, ((ForbiddenClassException)cached).getTypeName());
+                }
+            }
             throw (XStreamException)cached;
         }
 
@@ -56,13 +103,297 @@ public class CachingMapper extends MapperWrapper implements Caching {
         }
     }
 
+    @Override
+    public String serializedClass(final Class<?> type) {
+        if (type == null || isAutodetectingAnnotations()) {
+            return super.serializedClass(type);
+        }
+        String name = serializedClassCache.get(type);
+        record("serializedClass", type, null, name != null);
+        if (name == null) {
+            name = super.serializedClass(type);
+            serializedClassCache.putIfAbsent(type, name);
+        }
+        return name;
+    }
+
+    @Override
+    public Class<?> defaultImplementationOf(final Class<?> type) {
+        if (type == null || isAutodetectingAnnotations()) {
+            return super.defaultImplementationOf(type);
+        }
+        Object cached = defaultImplementationCache.get(type);
+        record("defaultImplementationOf", type, null, cached != null);
+        if (cached == null) {
+            final Class<?> defaultImplementation = super.defaultImplementationOf(type);
+            cached = defaultImplementation == null ? NULL : defaultImplementation;
+            defaultImplementationCache.putIfAbsent(type, cached);
+        }
+        return cached == NULL ? null : (Class<?>)cached;
+    }
+
+    @Override
+    public boolean isImmutableValueType(final Class<?> type) {
+        if (type == null || isAutodetectingAnnotations()) {
+            return super.isImmutableValueType(type);
+        }
+        Boolean cached = immutableValueTypeCache.get(type);
+        record("isImmutableValueType", type, null, cached != null);
+        if (cached == null) {
+            cached = Boolean.valueOf(super.isImmutableValueType(type));
+            immutableValueTypeCache.putIfAbsent(type, cached);
+        }
+        return cached.booleanValue();
+    }
+
+    @Override
+    public boolean isReferenceable(final Class<?> type) {
+        if (type == null || isAutodetectingAnnotations()) {
+            return super.isReferenceable(type);
+        }
+        Boolean cached = referenceableCache.get(type);
+        record("isReferenceable", type, null, cached != null);
+        if (cached == null) {
+            cached = Boolean.valueOf(super.isReferenceable(type));
+            referenceableCache.putIfAbsent(type, cached);
+        }
+        return cached.booleanValue();
+    }
+
+    @Override
+    public String serializedMember(final Class<?> type, final String memberName) {
+        if (type == null || memberName == null || isAutodetectingAnnotations()) {
+            return super.serializedMember(type, memberName);
+        }
+        final ConcurrentMap<String, String> members = memberMap(serializedMemberCache, type);
+        String name = members.get(memberName);
+        record("serializedMember", type, memberName, name != null);
+        if (name == null) {
+            name = super.serializedMember(type, memberName);
+            members.putIfAbsent(memberName, name);
+        }
+        return name;
+    }
+
+    @Override
+    public String realMember(final Class<?> type, final String serialized) {
+        if (type == null || serialized == null || isAutodetectingAnnotations()) {
+            return super.realMember(type, serialized);
+        }
+        final ConcurrentMap<String, String> members = memberMap(realMemberCache, type);
+        String name = members.get(serialized);
+        record("realMember", type, serialized, name != null);
+        if (name == null) {
+            name = super.realMember(type, serialized);
+            members.putIfAbsent(serialized, name);
+        }
+        return name;
+    }
+
+    @Override
+    public boolean shouldSerializeMember(final Class<?> definedIn, final String fieldName) {
+        if (definedIn == null || fieldName == null || isAutodetectingAnnotations()) {
+            return super.shouldSerializeMember(definedIn, fieldName);
+        }
+        final ConcurrentMap<String, Boolean> members = memberMap(shouldSerializeMemberCache, definedIn);
+        Boolean cached = members.get(fieldName);
+        record("shouldSerializeMember", definedIn, fieldName, cached != null);
+        if (cached == null) {
+            cached = Boolean.valueOf(super.shouldSerializeMember(definedIn, fieldName));
+            members.putIfAbsent(fieldName, cached);
+        }
+        return cached.booleanValue();
+    }
+
+    @Override
+    public ImplicitCollectionMapping getImplicitCollectionDefForFieldName(final Class<?> itemType,
+            final String fieldName) {
+        if (itemType == null || fieldName == null || isAutodetectingAnnotations()) {
+            return super.getImplicitCollectionDefForFieldName(itemType, fieldName);
+        }
+        final ConcurrentMap<String, Object> members = memberMap(implicitCollectionCache, itemType);
+        Object cached = members.get(fieldName);
+        record("getImplicitCollectionDefForFieldName", itemType, fieldName, cached != null);
+        if (cached == null) {
+            final ImplicitCollectionMapping mapping = super.getImplicitCollectionDefForFieldName(itemType, fieldName);
+            cached = mapping == null ? NULL : mapping;
+            members.putIfAbsent(fieldName, cached);
+        }
+        return cached == NULL ? null : (ImplicitCollectionMapping)cached;
+    }
+
+    @Override
+    public SingleValueConverter getConverterFromItemType(final String fieldName, final Class<?> type,
+            final Class<?> definedIn) {
+        if (fieldName == null || type == null || definedIn == null || isAutodetectingAnnotations()) {
+            return super.getConverterFromItemType(fieldName, type, definedIn);
+        }
+        final ConcurrentMap<String, ConcurrentMap<Class<?>, Object>> members = memberMap(itemTypeConverterCache,
+            definedIn);
+        ConcurrentMap<Class<?>, Object> types = members.get(fieldName);
+        if (types == null) {
+            members.putIfAbsent(fieldName, new ConcurrentHashMap<Class<?>, Object>());
+            types = members.get(fieldName);
+        }
+        Object cached = types.get(type);
+        record("getConverterFromItemType", definedIn, fieldName, cached != null);
+        if (cached == null) {
+            final SingleValueConverter converter = super.getConverterFromItemType(fieldName, type, definedIn);
+            cached = converter == null ? NULL : converter;
+            types.putIfAbsent(type, cached);
+        }
+        return cached == NULL ? null : (SingleValueConverter)cached;
+    }
+
+    /**
+     * Precompute the cached results for the given types.
+     * <p>
+     * The class related queries are answered for each type and the member related queries for each declared non-static
+     * field of the type and its superclasses. The results are calculated by the complete chain of wrapped mappers, i.e.
+     * any custom mapper in the chain is respected. The method should be called after the configuration is complete,
+     * since any later modification of the configuration flushes the caches again. It has no effect as long as
+     * annotations are auto-detected.
+     * </p>
+     *
+     * @param types the types to compile
+     * @since upcoming
+     */
+    public void compile(final Class<?>... types) {
+        if (isAutodetectingAnnotations()) {
+            return;
+        }
+        for (final Class<?> type : types) {
+            compileType(type);
+            final String name = serializedClass(type);
+            try {
+                realClass(name);
+            } catch (final XStreamException e) {
+                // failure is cached as well
+            }
+            for (Class<?> definedIn = type; definedIn != null && definedIn != Object.class; definedIn = definedIn
+                .getSuperclass()) {
+                for (final Field field : definedIn.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    final String fieldName = field.getName();
+                    compileMember(definedIn, fieldName);
+                    if (definedIn != type) {
+                        compileMember(type, fieldName);
+                    }
+                    getConverterFromItemType(fieldName, field.getType(), definedIn);
+                    compileType(field.getType());
+                }
+            }
+        }
+    }
+
+    private void compileType(final Class<?> type) {
+        serializedClass(type);
+        defaultImplementationOf(type);
+        isImmutableValueType(type);
+        isReferenceable(type);
+    }
+
+    private void compileMember(final Class<?> type, final String fieldName) {
+        shouldSerializeMember(type, fieldName);
+        realMember(type, serializedMember(type, fieldName));
+    }
+
+    private static void record(final String query, final Class<?> type, final String name, final boolean cached) {
+        final Instrumentation instrumentation = Instrumentations.get();
+        if (instrumentation != null) {
+            instrumentation.mapperLookedUp(query, type, name, cached);
+        }
+    }
+
+    private boolean isAutodetectingAnnotations() {
+        return annotationMapper != null && !annotationMapper.isLocked();
+    }
+
+    private static <V> ConcurrentMap<String, V> memberMap(final ConcurrentMap<Class<?>, ConcurrentMap<String, V>> cache,
+            final Class<?> type) {
+        ConcurrentMap<String, V> members = cache.get(type);
+        if (members == null) {
+            cache.putIfAbsent(type, new ConcurrentHashMap<String, V>());
+            members = cache.get(type);
+        }
+        return members;
+    }
+
+    /**
+     * Retrieve the element names that have been resolved to a type.
+     *
+     * @return a copy of the names
+     * @since upcoming
+     */
+    public Set<String> getCachedElementNames() {
+        final Set<String> names = new HashSet<>();
+        for (final Map.Entry<String, ? super Object> entry : realClassCache.entrySet()) {
+            if (entry.getValue() instanceof Class) {
+                names.add(entry.getKey());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Retrieve the types that are kept in the caches.
+     *
+     * @return a copy of the types
+     * @since upcoming
+     */
+    public Set<Class<?>> getCachedTypes() {
+        final Set<Class<?>> types = new HashSet<>();
+        types.addAll(serializedClassCache.keySet());
+        types.addAll(defaultImplementationCache.keySet());
+        types.addAll(immutableValueTypeCache.keySet());
+        types.addAll(referenceableCache.keySet());
+        types.addAll(serializedMemberCache.keySet());
+        return types;
+    }
+
+    /**
+     * Retrieve the names of the members of a type that are kept in the caches.
+     *
+     * @param type the type
+     * @return a copy of the member names
+     * @since upcoming
+     */
+    public Set<String> getCachedMemberNames(final Class<?> type) {
+        final Set<String> names = new HashSet<>();
+        final Map<String, String> members = serializedMemberCache.get(type);
+        if (members != null) {
+            names.addAll(members.keySet());
+        }
+        return names;
+    }
+
     @Override
     public void flushCache() {
         realClassCache.clear();
+        serializedClassCache.clear();
+        defaultImplementationCache.clear();
+        immutableValueTypeCache.clear();
+        referenceableCache.clear();
+        serializedMemberCache.clear();
+        realMemberCache.clear();
+        shouldSerializeMemberCache.clear();
+        implicitCollectionCache.clear();
+        itemTypeConverterCache.clear();
     }
 
     private Object readResolve() {
         realClassCache = new ConcurrentHashMap<>(128);
+        serializedClassCache = new ConcurrentHashMap<>(128);
+        defaultImplementationCache = new ConcurrentHashMap<>(128);
+        immutableValueTypeCache = new ConcurrentHashMap<>(128);
+        referenceableCache = new ConcurrentHashMap<>(128);
+        serializedMemberCache = new ConcurrentHashMap<>(128);
+        realMemberCache = new ConcurrentHashMap<>(128);
+        shouldSerializeMemberCache = new ConcurrentHashMap<>(128);
+        implicitCollectionCache = new ConcurrentHashMap<>(32);
+        itemTypeConverterCache = new ConcurrentHashMap<>(32);
         return this;
     }
 }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2014, 2015, 2018 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2014, 2015, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -15,6 +15,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import com.thoughtworks.xstream.core.util.Primitives;
+import com.thoughtworks.xstream.core.util.Types;
 
 
 /**
@@ -27,6 +28,7 @@ public class ClassAliasingMapper extends MapperWrapper {
 
     private final Map<Class<?>, String> typeToName = new HashMap<>();
     private final Map<String, String> classToName = new HashMap<>();
+    private Map<String, String> typeNameToName = new HashMap<>();
     private transient Map<String, String> nameToType = new HashMap<>();
 
     public ClassAliasingMapper(final Mapper wrapped) {
@@ -34,8 +36,19 @@ public class ClassAliasingMapper extends MapperWrapper {
     }
 
     public void addClassAlias(final String name, final Class<?> type) {
-        nameToType.put(name, type.getName());
-        classToName.put(type.getName(), name);
+        addClassAlias(name, type.getName());
+    }
+
+    /**
+     * Add an alias for the name of a class. The class itself is not loaded.
+     *
+     * @param name the alias
+     * @param typeName the name of the class
+     * @since upcoming
+     */
+    public void addClassAlias(final String name, final String typeName) {
+        nameToType.put(name, typeName);
+        classToName.put(typeName, name);
     }
 
     public void addTypeAlias(final String name, final Class<?> type) {
@@ -43,6 +56,19 @@ public class ClassAliasingMapper extends MapperWrapper {
         typeToName.put(type, name);
     }
 
+    /**
+     * Add an alias for the name of a type. Any class that is assignable to the type will be aliased, the type itself is
+     * not loaded.
+     *
+     * @param name the alias
+     * @param typeName the name of the type
+     * @since upcoming
+     */
+    public void addTypeAlias(final String name, final String typeName) {
+        nameToType.put(name, typeName);
+        typeNameToName.put(typeName, name);
+    }
+
     @Override
     public String serializedClass(final Class<?> type) {
         final String alias = classToName.get(type.getName());
@@ -54,6 +80,11 @@ public class ClassAliasingMapper extends MapperWrapper {
                     return typeToName.get(compatibleType);
                 }
             }
+            for (final Map.Entry<String, String> entry : typeNameToName.entrySet()) {
+                if (Types.isAssignableTo(type, entry.getKey())) {
+                    return entry.getValue();
+                }
+            }
             return super.serializedClass(type);
         }
     }
@@ -97,6 +128,12 @@ public class ClassAliasingMapper extends MapperWrapper {
         for (final Class<?> type : typeToName.keySet()) {
             nameToType.put(typeToName.get(type), type.getName());
         }
+        if (typeNameToName == null) {
+            typeNameToName = new HashMap<>();
+        }
+        for (final Map.Entry<String, String> entry : typeNameToName.entrySet()) {
+            nameToType.put(entry.getValue(), entry.getKey());
+        }
         return this;
     }
 }
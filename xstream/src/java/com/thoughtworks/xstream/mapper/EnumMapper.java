@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 2014, 2015 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2011, 2013, 2014, 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -12,8 +12,8 @@
 package com.thoughtworks.xstream.mapper;
 
 import java.util.EnumSet;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.thoughtworks.xstream.converters.SingleValueConverter;
 import com.thoughtworks.xstream.converters.enums.EnumSingleValueConverter;
@@ -31,7 +31,7 @@ import com.thoughtworks.xstream.core.Caching;
 public class EnumMapper extends MapperWrapper implements Caching {
 
     private transient AttributeMapper attributeMapper;
-    private transient Map<Class<?>, SingleValueConverter> enumConverterMap;
+    private transient ConcurrentMap<Class<?>, SingleValueConverter> enumConverterMap;
 
     public EnumMapper(final Mapper wrapped) {
         super(wrapped);
@@ -84,36 +84,33 @@ public class EnumMapper extends MapperWrapper implements Caching {
         if (attributeMapper != null
                 && Enum.class.isAssignableFrom(type)
                 && attributeMapper.shouldLookForSingleValueConverter(fieldName, type, definedIn)) {
-            synchronized (enumConverterMap) {
-                SingleValueConverter singleValueConverter = enumConverterMap.get(type);
+            SingleValueConverter singleValueConverter = enumConverterMap.get(type);
+            if (singleValueConverter == null) {
+                singleValueConverter = super.getConverterFromItemType(fieldName, type, definedIn);
                 if (singleValueConverter == null) {
-                    singleValueConverter = super.getConverterFromItemType(fieldName, type, definedIn);
-                    if (singleValueConverter == null) {
-                        @SuppressWarnings("unchecked")
-                        final Class<? extends Enum<?>> enumType = (Class<? extends Enum<?>>)type;
-                        @SuppressWarnings({"rawtypes", "unchecked"})
-                        final EnumSingleValueConverter<?> enumConverter = new EnumSingleValueConverter(enumType);
-                        singleValueConverter = enumConverter;
-                    }
-                    enumConverterMap.put(type, singleValueConverter);
+                    @SuppressWarnings("unchecked")
+                    final Class<? extends Enum<?>> enumType = (Class<? extends Enum<?>>)type;
+                    @SuppressWarnings({"rawtypes", "unchecked"})
+                    final EnumSingleValueConverter<?> enumConverter = new EnumSingleValueConverter(enumType);
+                    singleValueConverter = enumConverter;
+                }
+                final SingleValueConverter existing = enumConverterMap.putIfAbsent(type, singleValueConverter);
+                if (existing != null) {
+                    singleValueConverter = existing;
                 }
-                return singleValueConverter;
             }
+            return singleValueConverter;
         }
         return null;
     }
 
     @Override
     public void flushCache() {
-        if (enumConverterMap.size() > 0) {
-            synchronized (enumConverterMap) {
-                enumConverterMap.clear();
-            }
-        }
+        enumConverterMap.clear();
     }
 
     private Object readResolve() {
-        enumConverterMap = new HashMap<>();
+        enumConverterMap = new ConcurrentHashMap<>();
         attributeMapper = lookupMapperOfType(AttributeMapper.class);
         return this;
     }
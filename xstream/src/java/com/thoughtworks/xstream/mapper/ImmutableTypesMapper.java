@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2009, 2014, 2015 XStream Committers.
+ * Copyright (C) 2006, 2007, 2009, 2014, 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -30,6 +30,8 @@ public class ImmutableTypesMapper extends MapperWrapper {
 
     private final Set<Class<?>> unreferenceableTypes = new HashSet<>();
     private final Set<Class<?>> immutableTypes = new HashSet<>();
+    private Set<String> unreferenceableTypeNames = new HashSet<>();
+    private Set<String> immutableTypeNames = new HashSet<>();
 
     public ImmutableTypesMapper(final Mapper wrapped) {
         super(wrapped);
@@ -56,12 +58,29 @@ public class ImmutableTypesMapper extends MapperWrapper {
             unreferenceableTypes.add(type);
         } else {
             unreferenceableTypes.remove(type);
+            unreferenceableTypeNames.remove(type.getName());
+        }
+    }
+
+    /**
+     * Declare a type as immutable by its name. The type itself is not loaded.
+     *
+     * @param typeName the name of the immutable type
+     * @param isReferenceable flag for possible references
+     * @since upcoming
+     */
+    public void addImmutableType(final String typeName, final boolean isReferenceable) {
+        immutableTypeNames.add(typeName);
+        if (!isReferenceable) {
+            unreferenceableTypeNames.add(typeName);
+        } else {
+            unreferenceableTypeNames.remove(typeName);
         }
     }
 
     @Override
     public boolean isImmutableValueType(final Class<?> type) {
-        if (immutableTypes.contains(type)) {
+        if (immutableTypes.contains(type) || type != null && immutableTypeNames.contains(type.getName())) {
             return true;
         } else {
             return super.isImmutableValueType(type);
@@ -70,10 +89,18 @@ public class ImmutableTypesMapper extends MapperWrapper {
 
     @Override
     public boolean isReferenceable(final Class<?> type) {
-        if (unreferenceableTypes.contains(type)) {
+        if (unreferenceableTypes.contains(type) || type != null && unreferenceableTypeNames.contains(type.getName())) {
             return false;
         } else {
             return super.isReferenceable(type);
         }
     }
+
+    private Object readResolve() {
+        if (immutableTypeNames == null) {
+            immutableTypeNames = new HashSet<>();
+            unreferenceableTypeNames = new HashSet<>();
+        }
+        return this;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2014, 2015 XStream Committers.
+ * Copyright (C) 2014, 2015, 2026 XStream Committers.
  * All rights reserved.
  *
  * Created on 08. January 2014 by Joerg Schaible
@@ -10,6 +10,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import com.thoughtworks.xstream.core.Instrumentation;
+import com.thoughtworks.xstream.core.Instrumentations;
 import com.thoughtworks.xstream.security.AnyTypePermission;
 import com.thoughtworks.xstream.security.ForbiddenClassException;
 import com.thoughtworks.xstream.security.NoTypePermission;
@@ -19,6 +21,9 @@ import com.thoughtworks.xstream.security.TypePermission;
 /**
  * A Mapper implementation injecting a security layer based on permission rules for any type required in the
  * unmarshalling process.
+ * <p>
+ * An installed {@link Instrumentation} is notified about each denied type.
+ * </p>
  * 
  * @author J&ouml;rg Schaible
  * @since 1.4.7
@@ -76,6 +81,10 @@ public class SecurityMapper extends MapperWrapper {
                 return type;
             }
         }
+        final Instrumentation instrumentation = Instrumentations.get();
+        if (instrumentation != null) {
+            instrumentation.typeDenied(elementName, type == null ? "null" : type.getName());
+        }
         throw new ForbiddenClassException(type);
     }
 }
@@ -0,0 +1,483 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.persistence;
+
+import java.io.Closeable;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.thoughtworks.xstream.core.Caching;
+
+
+/**
+ * A persistence strategy that caches the deserialized values of another strategy and delays its write operations.
+ * <p>
+ * Values read from or written to the wrapped strategy are kept in memory until the configured maximum weight is
+ * exceeded. Then the least recently used values are evicted. By default every value has a weight of 1, i.e. the
+ * maximum weight is the maximum number of cached values. A {@link Weigher} can be used to limit the cache by any other
+ * measure.
+ * </p>
+ * <p>
+ * If an {@link Executor} is provided, modifications are not written immediately, but collected and written to the
+ * wrapped strategy in a background task. Multiple modifications of the same key are coalesced and only the latest one
+ * is written. Call {@link #flush()} to write all pending modifications explicitly and {@link #close()} to write them
+ * before the strategy is no longer used. A failure of a background write is kept and thrown by the next call of
+ * {@link #flush()} or {@link #close()}. If the executor rejects the task, the modifications are written synchronously.
+ * Without executor every modification is written synchronously.
+ * </p>
+ * <p>
+ * A modification does not read the value from the wrapped strategy. If it is written in the background,
+ * {@link #put(Object, Object)} and {@link #remove(Object)} return the previous value only if it has been cached or is
+ * pending, otherwise they return <code>null</code>.
+ * </p>
+ * <p>
+ * Any access of the wrapped strategy is serialized, i.e. a value read from the wrapped strategy is cached before a
+ * concurrent modification can write a newer one.
+ * </p>
+ * <p>
+ * Note, that the cached values are returned as they are. A caller must not modify a returned value without putting it
+ * back into the strategy.
+ * </p>
+ *
+ * @since upcoming
+ */
+public class CachingPersistenceStrategy<K, V> implements PersistenceStrategy<K, V>, Caching, Closeable {
+
+    private static final Object REMOVED = new Object();
+    private static final Object SYNCHRONOUS = new Object();
+    private static final Weigher<Object, Object> UNIT_WEIGHER = new Weigher<Object, Object>() {
+        @Override
+        public int weigh(final Object key, final Object value) {
+            return 1;
+        }
+    };
+
+    private final PersistenceStrategy<K, V> persistenceStrategy;
+    private final long maxWeight;
+    private final Weigher<? super K, ? super V> weigher;
+    private final Object storeLock = new Object();
+    private final Map<Object, V> cache;
+    private final Map<K, Object> pending;
+    private Executor executor;
+    private long weight;
+    private boolean flushScheduled;
+    private RuntimeException failure;
+
+    /**
+     * Constructs a CachingPersistenceStrategy writing all modifications synchronously.
+     *
+     * @param persistenceStrategy the wrapped strategy
+     * @param maxEntries the maximum number of cached values
+     * @since upcoming
+     */
+    public CachingPersistenceStrategy(final PersistenceStrategy<K, V> persistenceStrategy, final int maxEntries) {
+        this(persistenceStrategy, maxEntries, UNIT_WEIGHER, null);
+    }
+
+    /**
+     * Constructs a CachingPersistenceStrategy writing the modifications in the background.
+     *
+     * @param persistenceStrategy the wrapped strategy
+     * @param maxEntries the maximum number of cached values
+     * @param executor the executor for the write operations or <code>null</code> for synchronous writes
+     * @since upcoming
+     */
+    public CachingPersistenceStrategy(
+            final PersistenceStrategy<K, V> persistenceStrategy, final int maxEntries, final Executor executor) {
+        this(persistenceStrategy, maxEntries, UNIT_WEIGHER, executor);
+    }
+
+    /**
+     * Constructs a CachingPersistenceStrategy with a weight limited cache.
+     *
+     * @param persistenceStrategy the wrapped strategy
+     * @param maxWeight the maximum accumulated weight of the cached values
+     * @param weigher the weigher for the individual cached values
+     * @param executor the executor for the write operations or <code>null</code> for synchronous writes
+     * @since upcoming
+     */
+    public CachingPersistenceStrategy(
+            final PersistenceStrategy<K, V> persistenceStrategy, final long maxWeight,
+            final Weigher<? super K, ? super V> weigher, final Executor executor) {
+        if (maxWeight < 0) {
+            throw new IllegalArgumentException("Negative maximum weight");
+        }
+        this.persistenceStrategy = persistenceStrategy;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.executor = executor;
+        cache = new LinkedHashMap<>(16, 0.75f, true);
+        pending = new LinkedHashMap<>();
+    }
+
+    @Override
+    public V get(final Object key) {
+        synchronized (this) {
+            if (pending.containsKey(key)) {
+                final Object value = pending.get(key);
+                @SuppressWarnings("unchecked")
+                final V v = value == REMOVED ? null : (V)value;
+                return v;
+            }
+            final V value = cache.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        synchronized (storeLock) {
+            synchronized (this) {
+                // check again, the value may have been written meanwhile
+                if (pending.containsKey(key)) {
+                    final Object value = pending.get(key);
+                    @SuppressWarnings("unchecked")
+                    final V v = value == REMOVED ? null : (V)value;
+                    return v;
+                }
+                final V value = cache.get(key);
+                if (value != null) {
+                    return value;
+                }
+            }
+            final V value = persistenceStrategy.get(key);
+            if (value != null) {
+                synchronized (this) {
+                    if (!pending.containsKey(key)) {
+                        @SuppressWarnings("unchecked")
+                        final K k = (K)key;
+                        cacheValue(k, value);
+                    }
+                }
+            }
+            return value;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A modification written in the background returns the previous value only if it has been cached or is pending.
+     * </p>
+     */
+    @Override
+    public V put(final K key, final V value) {
+        final Object oldValue = modify(key, value);
+        if (oldValue == SYNCHRONOUS) {
+            synchronized (storeLock) {
+                final V old = persistenceStrategy.put(key, value);
+                synchronized (this) {
+                    cacheValue(key, value);
+                }
+                return old;
+            }
+        }
+        @SuppressWarnings("unchecked")
+        final V v = (V)oldValue;
+        return v;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A modification written in the background returns the previous value only if it has been cached or is pending.
+     * </p>
+     */
+    @Override
+    public V remove(final Object key) {
+        @SuppressWarnings("unchecked")
+        final K k = (K)key;
+        final Object oldValue = modify(k, REMOVED);
+        if (oldValue == SYNCHRONOUS) {
+            synchronized (storeLock) {
+                final V old = persistenceStrategy.remove(key);
+                synchronized (this) {
+                    // drop a value loaded before the removal
+                    evict(key);
+                }
+                return old;
+            }
+        }
+        @SuppressWarnings("unchecked")
+        final V v = (V)oldValue;
+        return v;
+    }
+
+    /**
+     * Returns the size of the wrapped strategy after writing all pending modifications.
+     */
+    @Override
+    public int size() {
+        flush();
+        return persistenceStrategy.size();
+    }
+
+    /**
+     * Iterates the entries of the wrapped strategy after writing all pending modifications.
+     */
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        flush();
+        final Iterator<Map.Entry<K, V>> iter = persistenceStrategy.iterator();
+        return new Iterator<Map.Entry<K, V>>() {
+            private K current;
+
+            @Override
+            public boolean hasNext() {
+                return iter.hasNext();
+            }
+
+            @Override
+            public Map.Entry<K, V> next() {
+                final Map.Entry<K, V> entry = iter.next();
+                current = entry.getKey();
+                return new Map.Entry<K, V>() {
+
+                    @Override
+                    public K getKey() {
+                        return entry.getKey();
+                    }
+
+                    @Override
+                    public V getValue() {
+                        return get(entry.getKey());
+                    }
+
+                    @Override
+                    public V setValue(final V value) {
+                        return put(entry.getKey(), value);
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        final K key = getKey();
+                        final V value = getValue();
+                        return (key == null ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+                    }
+
+                    @Override
+                    public boolean equals(final Object obj) {
+                        if (!(obj instanceof Map.Entry<?, ?>)) {
+                            return false;
+                        }
+                        final Map.Entry<?, ?> e2 = (Map.Entry<?, ?>)obj;
+                        final K key = getKey();
+                        final V value = getValue();
+                        return (key == null ? e2.getKey() == null : key.equals(e2.getKey()))
+                            && (value == null ? e2.getValue() == null : value.equals(e2.getValue()));
+                    }
+                };
+            }
+
+            @Override
+            public void remove() {
+                synchronized (storeLock) {
+                    iter.remove();
+                    synchronized (CachingPersistenceStrategy.this) {
+                        // a pending write would create the entry again
+                        pending.remove(current);
+                        evict(current);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Writes all pending modifications to the wrapped strategy.
+     *
+     * @throws RuntimeException if writing a modification fails or if a previous write in the background has failed
+     * @since upcoming
+     */
+    public void flush() {
+        final RuntimeException previous;
+        synchronized (this) {
+            previous = failure;
+            failure = null;
+        }
+        try {
+            write();
+        } catch (final RuntimeException e) {
+            if (previous != null && previous != e) {
+                e.addSuppressed(previous);
+            }
+            throw e;
+        }
+        if (previous != null) {
+            throw previous;
+        }
+    }
+
+    private void write() {
+        synchronized (storeLock) {
+            final List<Map.Entry<K, Object>> modifications;
+            synchronized (this) {
+                flushScheduled = false;
+                if (pending.isEmpty()) {
+                    return;
+                }
+                modifications = new ArrayList<>(pending.entrySet().size());
+                for (final Map.Entry<K, Object> entry : pending.entrySet()) {
+                    modifications.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue()));
+                }
+            }
+            for (final Map.Entry<K, Object> entry : modifications) {
+                final K key = entry.getKey();
+                final Object value = entry.getValue();
+                if (value == REMOVED) {
+                    persistenceStrategy.remove(key);
+                } else {
+                    @SuppressWarnings("unchecked")
+                    final V v = (V)value;
+                    persistenceStrategy.put(key, v);
+                }
+                synchronized (this) {
+                    // keep a newer modification
+                    if (pending.get(key) == value) {
+                        pending.remove(key);
+                        if (value != REMOVED) {
+                            @SuppressWarnings("unchecked")
+                            final V v = (V)value;
+                            cacheValue(key, v);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes all pending modifications and drops the cached values.
+     */
+    @Override
+    public void flushCache() {
+        flush();
+        synchronized (this) {
+            cache.clear();
+            weight = 0;
+        }
+    }
+
+    /**
+     * Writes all pending modifications and drops the cached values. Any later modification is written synchronously.
+     *
+     * @since upcoming
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            executor = null;
+        }
+        flushCache();
+    }
+
+    /**
+     * Records a modification.
+     *
+     * @return {@link #SYNCHRONOUS} if the caller has to write the modification, otherwise the previous value if it has
+     *         been cached or pending
+     */
+    private Object modify(final K key, final Object value) {
+        final Executor executor;
+        Object oldValue;
+        synchronized (this) {
+            oldValue = pending.containsKey(key) ? pending.get(key) : cache.get(key);
+            if (oldValue == REMOVED) {
+                oldValue = null;
+            }
+            evict(key);
+            executor = this.executor;
+            if (executor == null) {
+                return SYNCHRONOUS;
+            }
+            pending.put(key, value);
+            if (flushScheduled) {
+                return oldValue;
+            }
+            flushScheduled = true;
+        }
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        write();
+                    } catch (final RuntimeException e) {
+                        synchronized (CachingPersistenceStrategy.this) {
+                            if (failure == null) {
+                                failure = e;
+                            } else if (failure != e) {
+                                failure.addSuppressed(e);
+                            }
+                        }
+                    }
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            // resets the scheduled flush
+            write();
+        }
+        return oldValue;
+    }
+
+    private void cacheValue(final K key, final V value) {
+        final int w = weigher.weigh(key, value);
+        if (w > maxWeight) {
+            evict(key);
+            return;
+        }
+        final V old = cache.put(key, value);
+        if (old != null) {
+            weight -= weigher.weigh(key, old);
+        }
+        weight += w;
+        if (weight > maxWeight) {
+            for (final Iterator<Map.Entry<Object, V>> iter = cache.entrySet().iterator(); weight > maxWeight
+                && iter.hasNext();) {
+                final Map.Entry<Object, V> entry = iter.next();
+                @SuppressWarnings("unchecked")
+                final K k = (K)entry.getKey();
+                weight -= weigher.weigh(k, entry.getValue());
+                iter.remove();
+            }
+        }
+    }
+
+    private void evict(final Object key) {
+        final V old = cache.remove(key);
+        if (old != null) {
+            @SuppressWarnings("unchecked")
+            final K k = (K)key;
+            weight -= weigher.weigh(k, old);
+        }
+    }
+
+    /**
+     * Calculates the weight of a cached value.
+     *
+     * @since upcoming
+     */
+    public interface Weigher<K, V> {
+        /**
+         * Weigh a cached value.
+         *
+         * @param key the key of the value
+         * @param value the value
+         * @return the weight, never negative
+         * @since upcoming
+         */
+        int weigh(K key, V value);
+    }
+}
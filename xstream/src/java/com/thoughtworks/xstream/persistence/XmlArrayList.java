@@ -16,6 +16,10 @@ import java.util.AbstractList;
 
 /**
  * A persistent list implementation backed on a XmlMap.
+ * <p>
+ * The elements are stored with their position as key, i.e. inserting or removing an element will rewrite all
+ * following elements. Use a {@link XmlIndexedList} if elements are frequently inserted or removed.
+ * </p>
  * 
  * @author Guilherme Silveira
  */
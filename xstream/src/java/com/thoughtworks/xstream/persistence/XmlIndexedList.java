@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.persistence;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+
+/**
+ * A persistent list implementation that keeps the order of its elements in a separate index.
+ * <p>
+ * In contrast to the {@link XmlArrayList} the elements are not stored with their logical position as key, but with a
+ * stable identifier that is assigned once when the element is added to the list. The order of these identifiers is
+ * kept in a separate index that is persisted as a single entry of its own. Inserting or removing an element will
+ * therefore only rewrite the index and the affected element itself, but never move any other persisted element.
+ * </p>
+ * <p>
+ * Both persistence strategies must not be shared with other collections. The element strategy may contain stale
+ * entries after an abnormal termination, they are simply ignored since they are not referenced by the index.
+ * </p>
+ *
+ * @since upcoming
+ */
+public class XmlIndexedList<V> extends AbstractList<V> implements RandomAccess {
+
+    private static final String INDEX_KEY = "index";
+
+    private final PersistenceStrategy<Long, V> elementStrategy;
+    private final PersistenceStrategy<String, long[]> indexStrategy;
+    private long[] ids;
+    private int size;
+    private long nextId;
+
+    /**
+     * Constructs a XmlIndexedList.
+     *
+     * @param elementStrategy the strategy to persist the elements
+     * @param indexStrategy the strategy to persist the order index
+     * @since upcoming
+     */
+    public XmlIndexedList(
+            final PersistenceStrategy<Long, V> elementStrategy,
+            final PersistenceStrategy<String, long[]> indexStrategy) {
+        this.elementStrategy = elementStrategy;
+        this.indexStrategy = indexStrategy;
+        final long[] persisted = indexStrategy.get(INDEX_KEY);
+        ids = persisted != null ? persisted.clone() : new long[10];
+        size = persisted != null ? persisted.length : 0;
+        for (int i = 0; i < size; ++i) {
+            if (ids[i] >= nextId) {
+                nextId = ids[i] + 1;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public V get(final int index) {
+        rangeCheck(index);
+        return elementStrategy.get(Long.valueOf(ids[index]));
+    }
+
+    @Override
+    public V set(final int index, final V element) {
+        rangeCheck(index);
+        return elementStrategy.put(Long.valueOf(ids[index]), element);
+    }
+
+    @Override
+    public void add(final int index, final V element) {
+        rangeCheckForAdd(index);
+        final long id = nextId++;
+        elementStrategy.put(Long.valueOf(id), element);
+        ensureCapacity(size + 1);
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        ids[index] = id;
+        ++size;
+        ++modCount;
+        writeIndex();
+    }
+
+    @Override
+    public V remove(final int index) {
+        rangeCheck(index);
+        final long id = ids[index];
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        --size;
+        ++modCount;
+        writeIndex();
+        return elementStrategy.remove(Long.valueOf(id));
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends V> c) {
+        return addAll(size, c);
+    }
+
+    @Override
+    public boolean addAll(final int index, final Collection<? extends V> c) {
+        rangeCheckForAdd(index);
+        final int count = c.size();
+        if (count == 0) {
+            return false;
+        }
+        final long[] added = new long[count];
+        int i = 0;
+        for (final V element : c) {
+            final long id = nextId++;
+            elementStrategy.put(Long.valueOf(id), element);
+            added[i++] = id;
+        }
+        ensureCapacity(size + count);
+        System.arraycopy(ids, index, ids, index + count, size - index);
+        System.arraycopy(added, 0, ids, index, count);
+        size += count;
+        ++modCount;
+        writeIndex();
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            removeRange(0, size);
+        }
+    }
+
+    /**
+     * Removes the elements in the given range. The index is written once and the elements are dropped from the
+     * element strategy without being read again.
+     */
+    @Override
+    protected void removeRange(final int fromIndex, final int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+        }
+        final int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+        final Set<Long> removed = new HashSet<>();
+        for (int i = fromIndex; i < toIndex; ++i) {
+            removed.add(Long.valueOf(ids[i]));
+        }
+        System.arraycopy(ids, toIndex, ids, fromIndex, size - toIndex);
+        size -= count;
+        ++modCount;
+        writeIndex();
+        for (final Iterator<Map.Entry<Long, V>> iter = elementStrategy.iterator(); iter.hasNext()
+            && !removed.isEmpty();) {
+            // keys are available without deserializing the value
+            if (removed.remove(iter.next().getKey())) {
+                iter.remove();
+            }
+        }
+    }
+
+    private void writeIndex() {
+        indexStrategy.put(INDEX_KEY, Arrays.copyOf(ids, size));
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(capacity, ids.length + (ids.length >> 1) + 1));
+        }
+    }
+
+    private void rangeCheck(final int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void rangeCheckForAdd(final int index) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
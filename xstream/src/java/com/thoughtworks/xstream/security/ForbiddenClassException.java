@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2014, 2018 XStream Committers.
+ * Copyright (C) 2014, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * Created on 08. January 2014 by Joerg Schaible
@@ -18,6 +18,8 @@ public class ForbiddenClassException extends XStreamException {
 
     private static final long serialVersionUID = 10407L;
 
+    private final String typeName;
+
     /**
      * Construct a ForbiddenClassException.
      * @param type the forbidden class
@@ -25,5 +27,16 @@ public class ForbiddenClassException extends XStreamException {
      */
     public ForbiddenClassException(Class<?> type) {
         super(type == null ? "null" : type.getName());
+        typeName = type == null ? "null" : type.getName();
+    }
+
+    /**
+     * Retrieve the name of the forbidden class.
+     * 
+     * @return the name or "null" for the null type
+     * @since upcoming
+     */
+    public String getTypeName() {
+        return typeName;
     }
 }
@@ -1,11 +1,14 @@
 /*
- * Copyright (C) 2014 XStream Committers.
+ * Copyright (C) 2014, 2026 XStream Committers.
  * All rights reserved.
  *
  * Created on 23. January 2014 by Joerg Schaible
  */
 package com.thoughtworks.xstream.security;
 
+import com.thoughtworks.xstream.core.util.Types;
+
+
 /**
  * Permission for a type hierarchy with a name matching one in the provided list.
  * 
@@ -15,6 +18,7 @@ package com.thoughtworks.xstream.security;
 public class TypeHierarchyPermission implements TypePermission {
 
     private Class<?> type;
+    private String typeName;
 
     /**
      * @since 1.4.7
@@ -23,10 +27,28 @@ public class TypeHierarchyPermission implements TypePermission {
         this.type = type;
     }
 
+    private TypeHierarchyPermission(String typeName) {
+        this.typeName = typeName;
+    }
+
+    /**
+     * Creates a TypeHierarchyPermission for the name of the base type. The type itself is not loaded, the permission
+     * compares the names of the super types.
+     *
+     * @param typeName the name of the base type
+     * @return the permission
+     * @since upcoming
+     */
+    public static TypeHierarchyPermission forName(String typeName) {
+        return new TypeHierarchyPermission(typeName);
+    }
+
     @Override
     public boolean allows(Class<?> type) {
         if (type == null)
             return false;
+        if (this.type == null)
+            return Types.isAssignableTo(type, typeName);
         return this.type.isAssignableFrom(type);
     }
 
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005, 2006 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2009, 2018, 2019, 2020 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2018, 2019, 2020, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -23,6 +23,12 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.Inflater;
@@ -40,6 +46,7 @@ import com.thoughtworks.xstream.core.ReferenceByIdUnmarshaller;
 import com.thoughtworks.xstream.core.util.DefaultDriver;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+import com.thoughtworks.xstream.io.ReaderWrapper;
 import com.thoughtworks.xstream.io.xml.PrettyPrintWriter;
 import com.thoughtworks.xstream.mapper.Mapper;
 import com.thoughtworks.xstream.testutil.CallLog;
@@ -156,6 +163,59 @@ public class MultipleObjectsInOneStreamTest extends AbstractAcceptanceTest {
         ois.close();
     }
 
+    public void testDrivenThroughStream() throws IOException {
+        final Writer writer = new StringWriter();
+        xstream.alias("software", Software.class);
+
+        final ObjectOutputStream oos = xstream.createObjectOutputStream(writer);
+        oos.writeInt(123);
+        oos.writeObject("hello");
+        oos.writeObject(new Software("tw", "xs"));
+        oos.writeObject(null);
+        oos.close();
+
+        try (final Stream<Object> stream = xstream.createObjectStream(new StringReader(writer.toString()))) {
+            final Iterator<Object> iter = stream.iterator();
+            assertEquals(Integer.valueOf(123), iter.next());
+            assertEquals("hello", iter.next());
+            assertEquals(new Software("tw", "xs"), iter.next());
+            assertNull(iter.next());
+            assertFalse(iter.hasNext());
+            try {
+                iter.next();
+                fail("Thrown " + NoSuchElementException.class.getName() + " expected");
+            } catch (final NoSuchElementException e) {
+                // good
+            }
+        }
+    }
+
+    public void testStreamReadsObjectsLazily() throws IOException {
+        final Writer writer = new StringWriter();
+        xstream.alias("software", Software.class);
+
+        final ObjectOutputStream oos = xstream.createObjectOutputStream(writer);
+        for (int i = 0; i < 100; ++i) {
+            oos.writeObject(new Software("tw", "xs" + i));
+        }
+        oos.close();
+
+        final int[] count = new int[1];
+        final HierarchicalStreamReader reader = new ReaderWrapper(DefaultDriver.create().createReader(new StringReader(
+            writer.toString()))) {
+            @Override
+            public void moveDown() {
+                ++count[0];
+                super.moveDown();
+            }
+        };
+        try (final Stream<Software> stream = xstream.createObjectStream(reader, null)) {
+            final List<String> names = stream.skip(10).limit(3).map(s -> s.name).collect(Collectors.toList());
+            assertEquals(Arrays.asList("xs10", "xs11", "xs12"), names);
+        }
+        assertEquals(13 * 3, count[0]);
+    }
+
     public void testDrivenThroughCompressedObjectStream() throws IOException, ClassNotFoundException {
         final ByteArrayOutputStream baos = new ByteArrayOutputStream();
         final Writer writer = new OutputStreamWriter(new DeflaterOutputStream(baos, new Deflater(
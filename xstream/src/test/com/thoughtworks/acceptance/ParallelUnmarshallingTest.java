@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.acceptance;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.thoughtworks.acceptance.objects.Hardware;
+import com.thoughtworks.acceptance.objects.Software;
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.XStreamException;
+import com.thoughtworks.xstream.converters.ConversionException;
+import com.thoughtworks.xstream.converters.collections.TreeSetConverter;
+import com.thoughtworks.xstream.converters.reflection.ReflectionConverter;
+import com.thoughtworks.xstream.mapper.CannotResolveClassException;
+
+import junit.framework.TestCase;
+
+
+public class ParallelUnmarshallingTest extends TestCase {
+
+    private XStream xstream;
+    private ExecutorService executor;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        xstream = new XStream();
+        xstream.allowTypesByWildcard(new String[]{"com.thoughtworks.acceptance.objects.*"});
+        xstream.alias("software", Software.class);
+        xstream.setMode(XStream.NO_REFERENCES);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        executor.shutdownNow();
+        super.tearDown();
+    }
+
+    private List<Object> createList(final int size) {
+        final List<Object> list = new ArrayList<>();
+        for (int i = 0; i < size; ++i) {
+            switch (i % 4) {
+            case 0:
+                list.add(new Software("walnes", "xstream " + i));
+                break;
+            case 1:
+                list.add(new Hardware("x86", "pc " + i));
+                break;
+            case 2:
+                list.add(null);
+                break;
+            default:
+                list.add(Integer.valueOf(i));
+            }
+        }
+        return list;
+    }
+
+    public void testReadsSameCollectionAsSequentialUnmarshalling() {
+        final List<Object> list = createList(1000);
+        final String xml = xstream.toXML(list);
+        final List<Object> result = xstream.fromXMLParallel(new StringReader(xml), executor, 16, 8);
+        assertEquals(list, result);
+    }
+
+    public void testReadsSetsInOriginalOrder() {
+        final Set<Object> set = new LinkedHashSet<>(createList(500));
+        final String xml = xstream.toXML(set);
+        final Set<Object> result = xstream.fromXMLParallel(new StringReader(xml), executor, 16, 8);
+        assertEquals(LinkedHashSet.class, result.getClass());
+        assertEquals(new ArrayList<>(set), new ArrayList<>(result));
+    }
+
+    public void testReadsNestedCollections() {
+        final List<Object> list = new ArrayList<>();
+        for (int i = 0; i < 200; ++i) {
+            list.add(createList(20));
+        }
+        final String xml = xstream.toXML(list);
+        assertEquals(list, xstream.fromXMLParallel(new StringReader(xml)));
+    }
+
+    public void testReadsEmptyCollection() {
+        assertEquals(new ArrayList<>(), xstream.fromXMLParallel(new StringReader("<list/>")));
+        assertEquals(new ArrayList<>(), xstream.fromXMLParallel(new StringReader("<list>\n</list>")));
+    }
+
+    public void testKeepsNamespacesOfRootElement() {
+        final String xml = "<list xmlns:x='urn:x'><string x:a='1'>a</string><string>b</string></list>";
+        final List<Object> result = xstream.fromXMLParallel(new StringReader(xml), executor, 1, 2);
+        assertEquals(2, result.size());
+        assertEquals("b", result.get(1));
+    }
+
+    public void testPropagatesFailureOfItem() {
+        final String xml = "<list><string>a</string><unknown/><string>b</string></list>";
+        try {
+            xstream.fromXMLParallel(new StringReader(xml), executor, 1, 2);
+            fail("Thrown " + CannotResolveClassException.class.getName() + " expected");
+        } catch (final CannotResolveClassException e) {
+            assertEquals("unknown", e.getMessage());
+        }
+    }
+
+    public void testRequiresCollectionAsRoot() {
+        try {
+            xstream.fromXMLParallel(new StringReader("<string>a</string>"));
+            fail("Thrown " + ConversionException.class.getName() + " expected");
+        } catch (final ConversionException e) {
+            assertEquals("java.lang.String", e.get("root-type"));
+        }
+    }
+
+    public void testRejectsTreeSetWithComparator() {
+        final TreeSet<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        set.addAll(Arrays.asList("b", "A", "c"));
+        final String xml = xstream.toXML(set);
+        try {
+            xstream.fromXMLParallel(new StringReader(xml), executor, 1, 2);
+            fail("Thrown " + ConversionException.class.getName() + " expected");
+        } catch (final ConversionException e) {
+            assertEquals(TreeSet.class.getName(), e.get("root-type"));
+            assertEquals(TreeSetConverter.class.getName(), e.get("converter"));
+        }
+        xstream.allowTypes(String.CASE_INSENSITIVE_ORDER.getClass());
+        assertEquals(set, xstream.fromXML(xml));
+    }
+
+    public void testRejectsUnmodifiableList() {
+        final List<Object> list = Collections.unmodifiableList(createList(4));
+        final String xml = xstream.toXML(list);
+        try {
+            xstream.fromXMLParallel(new StringReader(xml), executor, 1, 2);
+            fail("Thrown " + ConversionException.class.getName() + " expected");
+        } catch (final ConversionException e) {
+            assertEquals(ReflectionConverter.class.getName(), e.get("converter"));
+        }
+    }
+
+    public void testRejectsListBackedByArray() {
+        final String xml = xstream.toXML(Arrays.asList("a", "b"));
+        try {
+            xstream.fromXMLParallel(new StringReader(xml), executor, 1, 2);
+            fail("Thrown " + ConversionException.class.getName() + " expected");
+        } catch (final ConversionException e) {
+            assertNotNull(e.get("converter"));
+        }
+    }
+
+    public void testRequiresModeWithoutReferences() {
+        xstream.setMode(XStream.ID_REFERENCES);
+        try {
+            xstream.fromXMLParallel(new StringReader("<list/>"));
+            fail("Thrown " + XStreamException.class.getName() + " expected");
+        } catch (final XStreamException e) {
+            // OK
+        }
+    }
+}
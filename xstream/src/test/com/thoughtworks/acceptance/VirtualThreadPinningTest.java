@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.acceptance;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.core.JVM;
+import com.thoughtworks.xstream.core.util.Pool;
+import com.thoughtworks.xstream.io.HierarchicalStreamDriver;
+import com.thoughtworks.xstream.io.xml.DomDriver;
+import com.thoughtworks.xstream.io.xml.XppDomDriver;
+import com.thoughtworks.xstream.io.xml.XppDriver;
+
+import junit.framework.TestCase;
+
+
+/**
+ * Test harness that runs marshalling and unmarshalling in virtual threads and fails if a carrier thread is pinned.
+ * <p>
+ * The test is only active for a JVM with virtual threads. It starts a separate JVM with
+ * <code>-Djdk.tracePinnedThreads=full</code>, since the property is evaluated only once at startup. The scheduler of
+ * that JVM has a single carrier thread and may not compensate a pinned one. Therefore a virtual thread that waits for
+ * a monitor blocks all the others and the harness does not terminate, while a virtual thread that parks within a
+ * monitor is reported with its stack.
+ * </p>
+ */
+public class VirtualThreadPinningTest extends TestCase {
+
+    public static class Data {
+        String name;
+        Date date;
+        List<Integer> numbers = new ArrayList<>();
+    }
+
+    public void testMarshallingAndUnmarshallingDoesNotPinCarrierThreads() throws Exception {
+        if (!JVM.isVersion(21)) {
+            return;
+        }
+        final String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        final List<String> command = new ArrayList<>(Arrays.asList(java, "-Djdk.tracePinnedThreads=full",
+            "-Djdk.virtualThreadScheduler.parallelism=1", "-Djdk.virtualThreadScheduler.maxPoolSize=1"));
+        for (final String pkg : new String[]{
+            "java.base/java.lang", "java.base/java.lang.reflect", "java.base/java.text", "java.base/java.util",
+            "java.desktop/java.awt.font"}) {
+            command.add("--add-opens");
+            command.add(pkg + "=ALL-UNNAMED");
+        }
+        command.addAll(Arrays.asList("-cp", System.getProperty("java.class.path"), Harness.class.getName()));
+        final File output = File.createTempFile("pinning", ".log");
+        try {
+            final Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(output)
+                .start();
+            if (!process.waitFor(2, TimeUnit.MINUTES)) {
+                process.destroyForcibly();
+                fail("Virtual threads blocked by a pinned carrier thread");
+            }
+            final String trace = new String(Files.readAllBytes(output.toPath()), Charset.defaultCharset());
+            assertEquals(trace, 0, process.exitValue());
+            assertFalse(trace, trace.matches("(?s).*\\s+com\\.thoughtworks\\.xstream\\..*"));
+        } finally {
+            output.delete();
+        }
+    }
+
+    /**
+     * A pool of a single item that can be returned by the virtual threads.
+     */
+    public static class SingleItemPool extends Pool<Object> {
+        public SingleItemPool() {
+            super(1, 1, new Pool.Factory<Object>() {
+                @Override
+                public Object newInstance() {
+                    return new Object();
+                }
+            });
+        }
+
+        public void release(final Object item) {
+            putInPool(item);
+        }
+    }
+
+    /**
+     * The harness running in the separate JVM.
+     */
+    public static class Harness {
+
+        public static void main(final String[] args) throws Exception {
+            final Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            final Method start = Class.forName("java.lang.Thread$Builder").getMethod("start", Runnable.class);
+            final List<Throwable> failures = new ArrayList<>();
+            final List<Thread> threads = new ArrayList<>();
+
+            // threads waiting for the busy item of a pool must release the single carrier for the owner
+            final SingleItemPool pool = new SingleItemPool();
+            for (int i = 0; i < 4; ++i) {
+                threads.add((Thread)start.invoke(ofVirtual.invoke(null), new Runnable() {
+                    @Override
+                    public void run() {
+                        for (int j = 0; j < 5; ++j) {
+                            final Object item = pool.fetchFromPool();
+                            try {
+                                Thread.sleep(5);
+                            } catch (final InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            } finally {
+                                pool.release(item);
+                            }
+                        }
+                    }
+                }));
+            }
+            join(threads);
+
+            for (final HierarchicalStreamDriver driver : new HierarchicalStreamDriver[]{
+                new XppDriver(), new XppDomDriver(), new DomDriver()}) {
+                final XStream xstream = new XStream(driver);
+                xstream.allowTypes(Data.class);
+                for (int i = 0; i < 100; ++i) {
+                    final int id = i;
+                    threads.add((Thread)start.invoke(ofVirtual.invoke(null), new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                for (int j = 0; j < 20; ++j) {
+                                    final Data data = new Data();
+                                    data.name = "Data " + id;
+                                    data.date = new Date(id * 1000L + j);
+                                    data.numbers.add(Integer.valueOf(j));
+                                    final Data copy = xstream.fromXML(xstream.toXML(data));
+                                    if (!data.date.equals(copy.date) || !data.numbers.equals(copy.numbers)) {
+                                        throw new IllegalStateException("Different data for " + data.name);
+                                    }
+                                }
+                            } catch (final Throwable e) {
+                                synchronized (failures) {
+                                    failures.add(e);
+                                }
+                            }
+                        }
+                    }));
+                }
+            }
+            join(threads);
+            if (!failures.isEmpty()) {
+                failures.get(0).printStackTrace();
+                System.exit(1);
+            }
+        }
+
+        private static void join(final List<Thread> threads) throws InterruptedException {
+            for (final Thread thread : threads) {
+                thread.join();
+            }
+            threads.clear();
+        }
+    }
+}
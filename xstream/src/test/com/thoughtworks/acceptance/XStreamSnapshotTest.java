@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.acceptance;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.thoughtworks.acceptance.objects.OpenSourceSoftware;
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.XStreamSnapshot;
+import com.thoughtworks.xstream.io.StreamException;
+import com.thoughtworks.xstream.mapper.CachingMapper;
+
+
+public class XStreamSnapshotTest extends AbstractAcceptanceTest {
+
+    private XStreamSnapshot warmedSnapshot() throws IOException {
+        xstream.alias("software", OpenSourceSoftware.class);
+        final List<OpenSourceSoftware> list = new ArrayList<>();
+        list.add(new OpenSourceSoftware("Codehaus", "XStream", "BSD"));
+        xstream.fromXML(xstream.toXML(list));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XStreamSnapshot.capture(xstream).write(out);
+        return XStreamSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    public void testRecordsTypesAndElementNames() throws IOException {
+        final XStreamSnapshot snapshot = warmedSnapshot();
+        assertTrue(snapshot.getTypeNames().contains(OpenSourceSoftware.class.getName()));
+        assertTrue(snapshot.getTypeNames().contains(ArrayList.class.getName()));
+        assertTrue(snapshot.getElementNames().contains("software"));
+    }
+
+    public void testWarmsCachesOfNewInstance() throws IOException {
+        final XStreamSnapshot snapshot = warmedSnapshot();
+        final XStream warmed = createXStream();
+        warmed.alias("software", OpenSourceSoftware.class);
+        snapshot.apply(warmed);
+        final CachingMapper mapper = warmed.getMapper().lookupMapperOfType(CachingMapper.class);
+        assertTrue(mapper.getCachedTypes().contains(OpenSourceSoftware.class));
+        assertTrue(mapper.getCachedElementNames().contains("software"));
+        assertTrue(mapper.getCachedMemberNames(OpenSourceSoftware.class).contains("vendor"));
+
+        final OpenSourceSoftware software = new OpenSourceSoftware("Codehaus", "XStream", "BSD");
+        assertEquals(xstream.toXML(software), warmed.toXML(software));
+    }
+
+    public void testWritesClassList() throws IOException {
+        final StringWriter writer = new StringWriter();
+        warmedSnapshot().writeClassList(writer);
+        assertTrue(writer.toString().contains("com/thoughtworks/acceptance/objects/OpenSourceSoftware\n"));
+    }
+
+    public void testRejectsInvalidData() throws IOException {
+        try {
+            XStreamSnapshot.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4}));
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            assertTrue(e.getMessage().contains("snapshot"));
+        }
+    }
+
+    public void testRejectsNegativeCount() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(0x58535331);
+        data.writeInt(-1);
+        try {
+            XStreamSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            assertTrue(e.getMessage().contains("negative count"));
+        }
+    }
+
+    public void testRejectsTruncatedData() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(0x58535331);
+        data.writeInt(Integer.MAX_VALUE);
+        data.writeUTF("software");
+        try {
+            XStreamSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            assertTrue(e.getMessage().contains("snapshot"));
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.converters.collections;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import com.thoughtworks.acceptance.AbstractAcceptanceTest;
+import com.thoughtworks.acceptance.objects.Hardware;
+import com.thoughtworks.acceptance.objects.Software;
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.core.TreeMarshaller;
+import com.thoughtworks.xstream.io.json.JsonHierarchicalStreamDriver;
+
+
+public class ParallelCollectionConverterTest extends AbstractAcceptanceTest {
+
+    private ForkJoinPool pool;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        pool = new ForkJoinPool(4);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        pool.shutdownNow();
+        super.tearDown();
+    }
+
+    private void registerParallelConverter(final XStream xstream) {
+        xstream.registerConverter(new ParallelCollectionConverter(xstream.getMapper(), xstream.getConverterLookup(),
+            null, pool, 10));
+    }
+
+    private List<Object> createList(final int size) {
+        final List<Object> list = new ArrayList<>();
+        for (int i = 0; i < size; ++i) {
+            switch (i % 4) {
+            case 0:
+                list.add(new Software("walnes", "xstream " + i));
+                break;
+            case 1:
+                list.add(new Hardware("x86", "pc " + i));
+                break;
+            case 2:
+                list.add(null);
+                break;
+            default:
+                list.add(Integer.valueOf(i));
+            }
+        }
+        return list;
+    }
+
+    public void testWritesSameOutputAsSequentialMarshalling() {
+        xstream.alias("software", Software.class);
+        xstream.setMode(XStream.NO_REFERENCES);
+        final List<Object> list = createList(1000);
+        final String expected = xstream.toXML(list);
+
+        registerParallelConverter(xstream);
+        assertEquals(expected, xstream.toXML(list));
+        assertEquals(list, xstream.fromXML(expected));
+    }
+
+    public void testWritesSameOutputForCollectionsExceedingTheChunksInProcess() {
+        xstream.setMode(XStream.NO_REFERENCES);
+        final List<Object> list = createList(5000);
+        final String expected = xstream.toXML(list);
+
+        registerParallelConverter(xstream);
+        assertEquals(expected, xstream.toXML(list));
+    }
+
+    public void testWritesSameOutputForSets() {
+        xstream.setMode(XStream.NO_REFERENCES);
+        final Set<Object> set = new LinkedHashSet<>(createList(500));
+        final String expected = xstream.toXML(set);
+
+        registerParallelConverter(xstream);
+        assertEquals(expected, xstream.toXML(set));
+    }
+
+    public void testWritesSameOutputWithTypeInformationForJson() {
+        xstream = new XStream(new JsonHierarchicalStreamDriver());
+        xstream.setMode(XStream.NO_REFERENCES);
+        final List<Object> list = new ArrayList<>();
+        for (int i = 0; i < 200; ++i) {
+            list.add(new int[]{i, i + 1});
+            list.add(createList(4));
+        }
+        final String expected = xstream.toXML(list);
+
+        registerParallelConverter(xstream);
+        assertEquals(expected, xstream.toXML(list));
+    }
+
+    public void testMarshalsSequentiallyWithReferences() {
+        xstream.setMode(XStream.ID_REFERENCES);
+        final List<Object> list = new ArrayList<>();
+        final Software software = new Software("walnes", "xstream");
+        for (int i = 0; i < 100; ++i) {
+            list.add(software);
+        }
+        final String expected = xstream.toXML(list);
+
+        registerParallelConverter(xstream);
+        assertEquals(expected, xstream.toXML(list));
+    }
+
+    public void testDetectsCircularReferenceToCollection() {
+        xstream.setMode(XStream.NO_REFERENCES);
+        registerParallelConverter(xstream);
+        final List<Object> list = createList(100);
+        list.add(list);
+        try {
+            xstream.toXML(list);
+            fail("Thrown " + TreeMarshaller.CircularReferenceException.class.getName() + " expected");
+        } catch (final TreeMarshaller.CircularReferenceException e) {
+            // OK
+        }
+    }
+
+    public void testReadsSameCollectionAsSequentialUnmarshalling() {
+        xstream.alias("software", Software.class);
+        xstream.setMode(XStream.NO_REFERENCES);
+        final List<Object> list = createList(1000);
+        final String xml = xstream.toXML(list);
+
+        registerParallelConverter(xstream);
+        assertEquals(list, xstream.fromXML(xml));
+    }
+
+    public void testReadsSetsInOriginalOrder() {
+        xstream.setMode(XStream.NO_REFERENCES);
+        final Set<Object> set = new LinkedHashSet<>(createList(500));
+        final String xml = xstream.toXML(set);
+
+        registerParallelConverter(xstream);
+        final Set<Object> result = xstream.fromXML(xml);
+        assertEquals(new ArrayList<>(set), new ArrayList<>(result));
+    }
+
+    public void testReadsNestedCollections() {
+        xstream.setMode(XStream.NO_REFERENCES);
+        final List<Object> list = new ArrayList<>();
+        for (int i = 0; i < 200; ++i) {
+            list.add(createList(20));
+        }
+        final String xml = xstream.toXML(list);
+
+        registerParallelConverter(xstream);
+        assertEquals(list, xstream.fromXML(xml));
+    }
+
+    public void testUnmarshalsSequentiallyWithReferences() {
+        xstream.setMode(XStream.ID_REFERENCES);
+        final List<Object> list = new ArrayList<>();
+        final Software software = new Software("walnes", "xstream");
+        for (int i = 0; i < 100; ++i) {
+            list.add(software);
+        }
+        final String xml = xstream.toXML(list);
+
+        registerParallelConverter(xstream);
+        final List<Object> result = xstream.fromXML(xml);
+        assertEquals(list, result);
+        assertSame(result.get(0), result.get(99));
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2013, 2018 XStream Committers.
+ * Copyright (C) 2006, 2007, 2013, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -14,6 +14,7 @@ package com.thoughtworks.xstream.converters.enums;
 import java.util.EnumSet;
 
 import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.ConversionException;
 
 import junit.framework.TestCase;
 
@@ -72,4 +73,45 @@ public class EnumSetConverterTest extends TestCase {
         assertEquals(set, xstream.fromXML(expectedXml));
     }
 
+    public void testPutsEnumsInOrdinalBitmask() {
+        xstream.registerConverter(new EnumSetConverter(xstream.getMapper(), true));
+        xstream.alias("simple", SimpleEnum.class);
+        final EnumSet<SimpleEnum> set = EnumSet.of(SimpleEnum.GREEN, SimpleEnum.BLUE);
+
+        final String expectedXml = "<enum-set enum-type=\"simple\">0x6</enum-set>";
+
+        assertEquals(expectedXml, xstream.toXML(set));
+        assertEquals(set, xstream.fromXML(expectedXml));
+        assertEquals(EnumSet.noneOf(SimpleEnum.class), xstream.fromXML(xstream.toXML(EnumSet.noneOf(
+            SimpleEnum.class))));
+    }
+
+    public void testSupportsJumboEnumSetsInOrdinalBitmask() {
+        xstream.registerConverter(new EnumSetConverter(xstream.getMapper(), true));
+        xstream.alias("big", BigEnum.class);
+        final EnumSet<BigEnum> jumboSet = EnumSet.allOf(BigEnum.class);
+        jumboSet.remove(BigEnum.A1);
+
+        final String expectedXml = "<enum-set enum-type=\"big\">0x3ffffffffffffffffffe</enum-set>";
+
+        assertEquals(expectedXml, xstream.toXML(jumboSet));
+        assertEquals(jumboSet, xstream.fromXML(expectedXml));
+    }
+
+    public void testReadsOrdinalBitmaskInDefaultMode() {
+        xstream.alias("simple", SimpleEnum.class);
+        final EnumSet<SimpleEnum> set = EnumSet.of(SimpleEnum.GREEN, SimpleEnum.BLUE);
+
+        assertEquals(set, xstream.fromXML("<enum-set enum-type=\"simple\">0x6</enum-set>"));
+    }
+
+    public void testRejectsInvalidOrdinalInBitmask() {
+        xstream.alias("simple", SimpleEnum.class);
+        try {
+            xstream.fromXML("<enum-set enum-type=\"simple\">0x10</enum-set>");
+            fail("Thrown " + ConversionException.class.getName() + " expected");
+        } catch (final ConversionException e) {
+            assertEquals("4", e.get("ordinal"));
+        }
+    }
 }
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2005 Joe Walnes.
- * Copyright (C) 2006, 2007, 2008, 2010, 2011, 2013, 2014, 2015, 2016, 2018 XStream Committers.
+ * Copyright (C) 2006, 2007, 2008, 2010, 2011, 2013, 2014, 2015, 2016, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -32,6 +32,14 @@ public class JavaBeanConverterTest extends TestCase {
 
     }
 
+    protected JavaBeanProvider createBeanProvider() {
+        return new BeanProvider();
+    }
+
+    protected JavaBeanProvider createBeanProvider(final Comparator<String> propertyNameComparator) {
+        return new BeanProvider(propertyNameComparator);
+    }
+
     public static class World extends StandardObject {
 
         private static final long serialVersionUID = 200504L;
@@ -177,8 +185,8 @@ public class JavaBeanConverterTest extends TestCase {
         final World world = new World();
 
         final XStream xstream = new XStream();
-        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), new BeanProvider(new StringComparator())),
-            XStream.PRIORITY_LOW);
+        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), createBeanProvider(
+            new StringComparator())), XStream.PRIORITY_LOW);
         xstream.alias("world", World.class);
 
         final String expected = ""
@@ -210,8 +218,8 @@ public class JavaBeanConverterTest extends TestCase {
         world.setAString(null);
 
         final XStream xstream = new XStream();
-        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), new BeanProvider(new StringComparator())),
-            XStream.PRIORITY_LOW);
+        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), createBeanProvider(
+            new StringComparator())), XStream.PRIORITY_LOW);
         xstream.alias("world", World.class);
         xstream.allowTypes(World.class);
 
@@ -295,8 +303,8 @@ public class JavaBeanConverterTest extends TestCase {
             + "</types>";
 
         final XStream xstream = new XStream();
-        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), new BeanProvider(new StringComparator())),
-            -20);
+        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), createBeanProvider(
+            new StringComparator())), -20);
         xstream.alias("types", TypesOfFields.class);
 
         final String xml = xstream.toXML(fields);
@@ -333,7 +341,8 @@ public class JavaBeanConverterTest extends TestCase {
             + "</bean>";
 
         final XStream xstream = new XStream();
-        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper()), XStream.PRIORITY_LOW);
+        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), createBeanProvider()),
+            XStream.PRIORITY_LOW);
         xstream.alias("bean", SimpleBean.class);
 
         final String xml = xstream.toXML(bean);
@@ -345,7 +354,8 @@ public class JavaBeanConverterTest extends TestCase {
         final String expected = "<types/>";
 
         final XStream xstream = new XStream();
-        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper()), XStream.PRIORITY_LOW);
+        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), createBeanProvider()),
+            XStream.PRIORITY_LOW);
         xstream.alias("types", TypesOfFields.class);
         xstream.omitField(TypesOfFields.class, "trans");
         xstream.omitField(TypesOfFields.class, "foo");
@@ -365,8 +375,9 @@ public class JavaBeanConverterTest extends TestCase {
 
         final XStream xstream = new XStream();
         xstream.allowTypesByWildcard(AbstractAcceptanceTest.class.getPackage().getName() + ".*objects.**");
-        xstream.allowTypesByWildcard(this.getClass().getName() + "$*");
-        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper()), XStream.PRIORITY_LOW);
+        xstream.allowTypesByWildcard(JavaBeanConverterTest.class.getName() + "$*");
+        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), createBeanProvider()),
+            XStream.PRIORITY_LOW);
         xstream.alias("types", TypesOfFields.class);
         xstream.omitField(TypesOfFields.class, "foo");
         xstream.omitField(TypesOfFields.class, "normal");
@@ -386,8 +397,9 @@ public class JavaBeanConverterTest extends TestCase {
 
         final XStream xstream = new XStream();
         xstream.allowTypesByWildcard(AbstractAcceptanceTest.class.getPackage().getName() + ".*objects.**");
-        xstream.allowTypesByWildcard(this.getClass().getName() + "$*");
-        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper()), XStream.PRIORITY_LOW);
+        xstream.allowTypesByWildcard(JavaBeanConverterTest.class.getName() + "$*");
+        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), createBeanProvider()),
+            XStream.PRIORITY_LOW);
         xstream.alias("types", TypesOfFields.class);
         xstream.ignoreUnknownElements("fo.*");
 
@@ -410,7 +422,8 @@ public class JavaBeanConverterTest extends TestCase {
         final String expected = "<unsafeBean/>";
 
         final XStream xstream = new XStream();
-        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper()), XStream.PRIORITY_LOW);
+        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), createBeanProvider()),
+            XStream.PRIORITY_LOW);
         xstream.alias("unsafeBean", UnsafeBean.class);
         xstream.omitField(UnsafeBean.class, "unsafe");
 
@@ -463,7 +476,8 @@ public class JavaBeanConverterTest extends TestCase {
 
     public void testDoesNotSerializeOmittedInheritedFields() {
         final XStream xstream = new XStream();
-        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper()), XStream.PRIORITY_LOW);
+        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), createBeanProvider()),
+            XStream.PRIORITY_LOW);
         xstream.omitField(Person.class, "lastName");
         xstream.alias("man", Man.class);
 
@@ -478,8 +492,8 @@ public class JavaBeanConverterTest extends TestCase {
 
     public void testUseAliasInheritedFields() {
         final XStream xstream = new XStream();
-        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), new BeanProvider(new StringComparator())),
-            XStream.PRIORITY_LOW);
+        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), createBeanProvider(
+            new StringComparator())), XStream.PRIORITY_LOW);
         xstream.aliasField("first-name", Person.class, "firstName");
         xstream.aliasField("last-name", Person.class, "lastName");
         xstream.alias("man", Man.class);
@@ -497,8 +511,9 @@ public class JavaBeanConverterTest extends TestCase {
     public void testFailsFastIfPropertyIsDefinedTwice() {
         final XStream xstream = new XStream();
         xstream.allowTypesByWildcard(AbstractAcceptanceTest.class.getPackage().getName() + ".*objects.**");
-        xstream.allowTypesByWildcard(this.getClass().getName() + "$*");
-        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper()), XStream.PRIORITY_LOW);
+        xstream.allowTypesByWildcard(JavaBeanConverterTest.class.getName() + "$*");
+        xstream.registerConverter(new JavaBeanConverter(xstream.getMapper(), createBeanProvider()),
+            XStream.PRIORITY_LOW);
         final String input = "" //
             + "<types>\n"
             + "  <normal>foo</normal>\n"
@@ -517,7 +532,7 @@ public class JavaBeanConverterTest extends TestCase {
     }
 
     public void testCanConvertDoesNotThrowException() {
-        final JavaBeanConverter converter = new JavaBeanConverter(null);
+        final JavaBeanConverter converter = new JavaBeanConverter(null, createBeanProvider());
         assertTrue(converter.canConvert(SimpleBean.class));
         assertFalse(converter.canConvert(null));
         assertFalse(converter.canConvert(long.class));
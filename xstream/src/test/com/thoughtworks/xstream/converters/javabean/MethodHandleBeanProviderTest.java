@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.converters.javabean;
+
+import java.util.Comparator;
+
+import com.thoughtworks.xstream.converters.ConversionException;
+import com.thoughtworks.xstream.converters.reflection.MissingFieldException;
+
+
+/**
+ * Runs the tests of the {@link JavaBeanConverter} with the {@link MethodHandleBeanProvider}.
+ */
+public class MethodHandleBeanProviderTest extends JavaBeanConverterTest {
+
+    @Override
+    protected JavaBeanProvider createBeanProvider() {
+        return new MethodHandleBeanProvider();
+    }
+
+    @Override
+    protected JavaBeanProvider createBeanProvider(final Comparator<String> propertyNameComparator) {
+        return new MethodHandleBeanProvider(propertyNameComparator);
+    }
+
+    public static class FailingBean {
+        public String getName() {
+            throw new IllegalStateException("get");
+        }
+
+        public void setName(final String name) {
+            throw new IllegalStateException("set");
+        }
+    }
+
+    public void testAccessesProperties() {
+        final JavaBeanProvider provider = createBeanProvider();
+        final SimpleBean bean = (SimpleBean)provider.newInstance(SimpleBean.class);
+        provider.writeProperty(bean, "member", "joe");
+        assertEquals(Object.class, provider.getPropertyType(bean, "member"));
+        final StringBuilder visited = new StringBuilder();
+        provider.visitSerializableProperties(bean, new JavaBeanProvider.Visitor() {
+            @Override
+            public boolean shouldVisit(final String name, final Class<?> definedIn) {
+                return name.equals("member");
+            }
+
+            @Override
+            public void visit(final String name, final Class<?> type, final Class<?> definedIn, final Object value) {
+                visited.append(name).append('=').append(value);
+            }
+        });
+        assertEquals("member=joe", visited.toString());
+    }
+
+    public void testReportsMissingProperty() {
+        final JavaBeanProvider provider = createBeanProvider();
+        try {
+            provider.writeProperty(new SimpleBean(), "unknown", "joe");
+            fail("Thrown " + MissingFieldException.class.getName() + " expected");
+        } catch (final MissingFieldException e) {
+            assertEquals("unknown", e.getFieldName());
+        }
+    }
+
+    public void testWrapsExceptionOfAccessor() {
+        final JavaBeanProvider provider = createBeanProvider();
+        try {
+            provider.writeProperty(new FailingBean(), "name", "joe");
+            fail("Thrown " + ConversionException.class.getName() + " expected");
+        } catch (final ConversionException e) {
+            assertEquals("set", e.getCause().getMessage());
+            assertTrue(e.get("property").endsWith("FailingBean.name"));
+        }
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2006 Joe Walnes.
- * Copyright (C) 2006, 2007 XStream Committers.
+ * Copyright (C) 2006, 2007, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -11,6 +11,7 @@
  */
 package com.thoughtworks.xstream.core;
 
+import java.time.ZoneOffset;
 import java.util.BitSet;
 
 import junit.framework.TestCase;
@@ -20,6 +21,7 @@ import com.thoughtworks.xstream.converters.Converter;
 import com.thoughtworks.xstream.converters.SingleValueConverterWrapper;
 import com.thoughtworks.xstream.converters.basic.StringConverter;
 import com.thoughtworks.xstream.converters.collections.BitSetConverter;
+import com.thoughtworks.xstream.core.util.LazyConverter;
 
 /**
  * @author Guilherme Silveira
@@ -41,4 +43,25 @@ public class DefaultConverterLookupTest extends TestCase {
 		assertEquals(lookup.lookupConverterForType(String.class), newConverter);
 	}
 
+	public void testReplacesLazyConverterWithRealOne() {
+		final DefaultConverterLookup lookup = new DefaultConverterLookup();
+		final ClassLoaderReference classLoaderReference = new ClassLoaderReference(getClass().getClassLoader());
+		lookup.registerConverter(new LazyConverter(BitSetConverter.class.getName(), null, null,
+			classLoaderReference, "java.util.BitSet", false), XStream.PRIORITY_NORMAL);
+		lookup.registerConverter(new LazyConverter("com.thoughtworks.xstream.converters.time.ZoneIdConverter", null,
+			null, classLoaderReference, "java.time.ZoneId", true), XStream.PRIORITY_NORMAL);
+		assertTrue(lookup.lookupConverterForType(BitSet.class) instanceof BitSetConverter);
+		final Converter converter = lookup.lookupConverterForType(ZoneOffset.class);
+		assertTrue(converter instanceof SingleValueConverterWrapper);
+		assertEquals("Z", ((SingleValueConverterWrapper)converter).toString(ZoneOffset.UTC));
+	}
+
+	public void testVerifiesMatchOfLazyConverter() {
+		final DefaultConverterLookup lookup = new DefaultConverterLookup();
+		final Converter stringConverter = new SingleValueConverterWrapper(new StringConverter());
+		lookup.registerConverter(stringConverter, XStream.PRIORITY_NORMAL);
+		lookup.registerConverter(new LazyConverter(BitSetConverter.class.getName(), null, null,
+			new ClassLoaderReference(getClass().getClassLoader()), "java.lang.Object", true), XStream.PRIORITY_VERY_HIGH);
+		assertSame(stringConverter, lookup.lookupConverterForType(String.class));
+	}
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.reflection.ReflectionConverter;
+import com.thoughtworks.xstream.io.InstrumentedDriver;
+import com.thoughtworks.xstream.io.xml.XppDriver;
+import com.thoughtworks.xstream.security.ForbiddenClassException;
+
+import junit.framework.TestCase;
+
+
+public class InstrumentationStatisticsTest extends TestCase {
+
+    static class Thing {
+        String one;
+        String two;
+
+        Thing(final String one, final String two) {
+            this.one = one;
+            this.two = two;
+        }
+    }
+
+    private XStream xstream;
+    private InstrumentationStatistics statistics;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        xstream = new XStream(new InstrumentedDriver(new XppDriver()));
+        xstream.allowTypes(Thing.class);
+        xstream.alias("thing", Thing.class);
+        statistics = new InstrumentationStatistics();
+        Instrumentations.install(statistics);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        Instrumentations.install(null);
+        super.tearDown();
+    }
+
+    public void testCollectsStatisticsOfMarshalledDocument() {
+        final String xml = xstream.toXML(new Thing("1", "2"));
+        assertEquals("<thing>\n  <one>1</one>\n  <two>2</two>\n</thing>", xml);
+
+        assertEquals(1, statistics.getMarshalledDocuments().getCount());
+        assertEquals(0, statistics.getUnmarshalledDocuments().getCount());
+        assertEquals(3, statistics.getNodesWritten());
+        assertEquals(xml.length(), statistics.getBytesWritten());
+        assertTrue(statistics.getWriting().getTotalNanos() > 0);
+        assertTrue(statistics.getWriting().getTotalNanos() <= statistics.getMarshalledDocuments().getTotalNanos());
+        assertEquals(0, statistics.getParsing().getCount());
+        assertEquals(1, statistics.getTypeTimings().get(Thing.class).getCount());
+        assertEquals(1, statistics.getConverterTimings().get(ReflectionConverter.class).getCount());
+        final InstrumentationStatistics.CacheRate lookup = statistics.getCacheRates().get(
+            InstrumentationStatistics.CONVERTER_LOOKUP);
+        assertTrue(lookup.getHits() + lookup.getMisses() > 0);
+        assertNotNull(statistics.getCacheRates().get("serializedClass"));
+    }
+
+    public void testCollectsStatisticsOfUnmarshalledDocument() {
+        final String xml = "<thing>\n  <one>1</one>\n  <two>2</two>\n</thing>";
+        final Thing thing = xstream.fromXML(xml);
+        assertEquals("2", thing.two);
+
+        assertEquals(0, statistics.getMarshalledDocuments().getCount());
+        assertEquals(1, statistics.getUnmarshalledDocuments().getCount());
+        assertEquals(3, statistics.getNodesRead());
+        assertEquals(xml.length(), statistics.getBytesRead());
+        assertTrue(statistics.getParsing().getTotalNanos() > 0);
+        assertEquals(0, statistics.getWriting().getCount());
+        assertEquals(1, statistics.getTypeTimings().get(Thing.class).getCount());
+        assertEquals(2, statistics.getTypeTimings().get(String.class).getCount());
+        assertTrue(statistics.getCacheRates().get("realClass").getMisses() > 0);
+    }
+
+    public void testCountsBytesOfStreams() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        xstream.toXML(new Thing("1", "2"), out);
+        assertEquals(out.size(), statistics.getBytesWritten());
+
+        xstream.fromXML(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(out.size(), statistics.getBytesRead());
+        assertEquals(statistics.getNodesWritten(), statistics.getNodesRead());
+    }
+
+    public void testReportsHitRates() {
+        xstream.toXML(new Thing("1", "2"));
+        statistics.reset();
+        xstream.toXML(new Thing("1", "2"));
+        final InstrumentationStatistics.CacheRate lookup = statistics.getCacheRates().get(
+            InstrumentationStatistics.CONVERTER_LOOKUP);
+        assertEquals(0, lookup.getMisses());
+        assertEquals(1.0, lookup.getHitRate(), 0.0);
+        assertEquals(0, statistics.getCacheRates().get("serializedClass").getMisses());
+    }
+
+    public void testCountsCollectedFields() {
+        xstream.toXML(new Thing("1", "2"));
+        assertTrue(statistics.getCollectedFields().getCount() > 0);
+        statistics.reset();
+        xstream.toXML(new Thing("1", "2"));
+        assertEquals(0, statistics.getCollectedFields().getCount());
+    }
+
+    public void testCountsDeniedTypes() {
+        for (int i = 0; i < 2; ++i) {
+            try {
+                xstream.fromXML("<java.lang.Thread/>");
+                fail("Thrown " + ForbiddenClassException.class.getName() + " expected");
+            } catch (final ForbiddenClassException e) {
+                assertEquals(i + 1, statistics.getDeniedTypes());
+            }
+        }
+    }
+
+    public void testCollectsNothingWithoutInstalledInstrumentation() {
+        Instrumentations.install(null);
+        xstream.fromXML(xstream.toXML(new Thing("1", "2")));
+        assertEquals(0, statistics.getMarshalledDocuments().getCount());
+        assertEquals(0, statistics.getUnmarshalledDocuments().getCount());
+        assertEquals(0, statistics.getNodesWritten());
+        assertTrue(statistics.getTypeTimings().isEmpty());
+        assertTrue(statistics.getCacheRates().isEmpty());
+    }
+}
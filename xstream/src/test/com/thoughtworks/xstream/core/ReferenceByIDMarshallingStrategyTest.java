@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2006, 2007, 2009, 2018 XStream Committers.
+ * Copyright (C) 2006, 2007, 2009, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -10,11 +10,14 @@
  */
 package com.thoughtworks.xstream.core;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 
 import com.thoughtworks.acceptance.AbstractAcceptanceTest;
 import com.thoughtworks.acceptance.someobjects.WithNamedList;
 import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.ConversionException;
 
 
 public class ReferenceByIDMarshallingStrategyTest extends AbstractAcceptanceTest {
@@ -42,6 +45,55 @@ public class ReferenceByIDMarshallingStrategyTest extends AbstractAcceptanceTest
         assertBothWays(wl, expected);
     }
 
+    public void testRecycledContextsDoNotKeepState() {
+        xstream.alias("list", ArrayList.class);
+        final ArrayList<Object> list = new ArrayList<>();
+        final Object object = new Object();
+        list.add(object);
+        list.add(object);
+
+        final String expected = "" //
+            + "<list id=\"1\">\n"
+            + "  <object id=\"2\"/>\n"
+            + "  <object reference=\"2\"/>\n"
+            + "</list>";
+
+        assertEquals(expected, xstream.toXML(list));
+        assertEquals(expected, xstream.toXML(list));
+
+        final ArrayList<?> first = xstream.fromXML(expected);
+        final ArrayList<?> second = xstream.fromXML(expected);
+        assertSame(first.get(0), first.get(1));
+        assertSame(second.get(0), second.get(1));
+        assertNotSame(first.get(0), second.get(0));
+
+        try {
+            xstream.fromXML("<list id=\"1\"><object reference=\"2\"/></list>");
+            fail("Thrown " + ConversionException.class.getName() + " expected");
+        } catch (final ConversionException e) {
+            assertEquals("Invalid reference", e.getShortMessage());
+        }
+        assertEquals(expected, xstream.toXML(xstream.fromXML(expected)));
+    }
+
+    public void testRecycledContextsDoNotKeepXStreamAlive() throws InterruptedException {
+        XStream xstream = new XStream();
+        xstream.setMode(XStream.ID_REFERENCES);
+        xstream.alias("list", ArrayList.class);
+        assertEquals(new ArrayList<>(), xstream.fromXML(xstream.toXML(new ArrayList<>())));
+
+        final ReferenceQueue<XStream> refQueue = new ReferenceQueue<>();
+        final WeakReference<XStream> ref = new WeakReference<>(xstream, refQueue);
+        xstream = null;
+        int i = 0;
+        while (refQueue.poll() == null) {
+            assertTrue("XStream still alive even after " + i + " forced garbage collections", i++ < 5);
+            Thread.sleep(10);
+            System.gc();
+        }
+        assertNull(ref.get());
+    }
+
     static class List {
         public Object o;
         public ArrayList<Object> list = new ArrayList<Object>();
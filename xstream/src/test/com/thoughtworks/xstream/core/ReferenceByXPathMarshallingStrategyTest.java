@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004 Joe Walnes.
- * Copyright (C) 2006, 2007, 2015, 2018 XStream Committers.
+ * Copyright (C) 2006, 2007, 2015, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -102,6 +102,69 @@ public class ReferenceByXPathMarshallingStrategyTest extends AbstractAcceptanceT
         assertBothWays(list, expected);
     }
 
+    public void testRecycledContextsDoNotKeepState() {
+        xstream.setMode(XStream.XPATH_ABSOLUTE_REFERENCES);
+
+        final Thing thing = new Thing("a");
+        final List<Thing> list = new ArrayList<Thing>();
+        list.add(thing);
+        list.add(thing);
+
+        final String expected = ""
+            + "<list>\n"
+            + "  <thing>\n"
+            + "    <name>a</name>\n"
+            + "  </thing>\n"
+            + "  <thing reference=\"/list/thing\"/>\n"
+            + "</list>";
+
+        assertEquals(expected, xstream.toXML(list));
+        assertEquals(expected, xstream.toXML(list));
+
+        final List<?> first = xstream.fromXML(expected);
+        final List<?> second = xstream.fromXML(expected);
+        assertSame(first.get(0), first.get(1));
+        assertSame(second.get(0), second.get(1));
+        assertNotSame(first.get(0), second.get(0));
+    }
+
+    public void testRecycledContextsReleaseBuffersOfBigDocument() {
+        xstream.setMode(XStream.XPATH_ABSOLUTE_REFERENCES);
+
+        final List<Object> big = new ArrayList<>();
+        List<Object> nested = big;
+        for (int i = 0; i < 300; ++i) {
+            final List<Object> inner = new ArrayList<>();
+            nested.add(inner);
+            nested = inner;
+        }
+        for (int i = 0; i < 2000; ++i) {
+            final Thing thing = new Thing("t" + i);
+            big.add(thing);
+            big.add(thing);
+        }
+        final List<?> copy = xstream.fromXML(xstream.toXML(big));
+        assertEquals(big, copy);
+        assertSame(copy.get(1), copy.get(2));
+
+        final Thing thing = new Thing("a");
+        final List<Thing> list = new ArrayList<Thing>();
+        list.add(thing);
+        list.add(thing);
+
+        final String expected = ""
+            + "<list>\n"
+            + "  <thing>\n"
+            + "    <name>a</name>\n"
+            + "  </thing>\n"
+            + "  <thing reference=\"/list/thing\"/>\n"
+            + "</list>";
+
+        assertEquals(expected, xstream.toXML(list));
+        final List<?> result = xstream.fromXML(expected);
+        assertSame(result.get(0), result.get(1));
+    }
+
     public class CountingXPathStrategy extends ReferenceByXPathMarshallingStrategy {
 
         public CountingXPathStrategy() {
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.core.jfr;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.core.Instrumentations;
+import com.thoughtworks.xstream.io.InstrumentedDriver;
+import com.thoughtworks.xstream.io.xml.XppDriver;
+import com.thoughtworks.xstream.security.ForbiddenClassException;
+
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import junit.framework.TestCase;
+
+
+public class JfrInstrumentationTest extends TestCase {
+
+    static class Thing {
+        String one;
+
+        Thing(final String one) {
+            this.one = one;
+        }
+    }
+
+    private XStream xstream;
+    private Recording recording;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        xstream = new XStream(new InstrumentedDriver(new XppDriver()));
+        xstream.allowTypes(Thing.class);
+        xstream.alias("thing", Thing.class);
+        Instrumentations.install(Instrumentations.jfr());
+        recording = new Recording();
+        recording.enable(DocumentEvent.class).withoutThreshold();
+        recording.enable(ConverterLookupMissEvent.class);
+        recording.enable(MapperCacheMissEvent.class);
+        recording.enable(FieldDictionaryEvent.class);
+        recording.enable(SecurityDenialEvent.class);
+        recording.start();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        Instrumentations.install(null);
+        recording.close();
+        super.tearDown();
+    }
+
+    public void testIsAvailable() {
+        assertTrue(Instrumentations.get() instanceof JfrInstrumentation);
+    }
+
+    public void testEmitsEventsForDocuments() throws IOException {
+        final String xml = xstream.toXML(new Thing("1"));
+        xstream.fromXML(xml);
+
+        final List<RecordedEvent> documents = events("com.thoughtworks.xstream.Document");
+        assertEquals(2, documents.size());
+        for (final RecordedEvent event : documents) {
+            assertEquals(Thing.class.getName(), event.getClass("rootType").getName());
+            assertEquals(XppDriver.class.getName(), event.getString("driver"));
+            assertEquals(2, event.getLong("nodes"));
+            assertEquals(xml.length(), event.getLong("size"));
+            assertTrue(event.getDuration("streamTime").toNanos() > 0);
+        }
+        assertTrue(documents.get(0).getBoolean("marshalling"));
+        assertFalse(documents.get(1).getBoolean("marshalling"));
+    }
+
+    public void testEmitsEventsForCacheMisses() throws IOException {
+        xstream.toXML(new Thing("1"));
+        xstream.toXML(new Thing("2"));
+
+        int things = 0;
+        for (final RecordedEvent event : events("com.thoughtworks.xstream.ConverterLookupMiss")) {
+            if (event.getClass("type").getName().equals(Thing.class.getName())) {
+                assertNotNull(event.getClass("converter"));
+                ++things;
+            }
+        }
+        assertEquals(1, things);
+
+        things = 0;
+        for (final RecordedEvent event : events("com.thoughtworks.xstream.MapperCacheMiss")) {
+            if (event.getString("query").equals("serializedClass")
+                && event.getClass("type").getName().equals(Thing.class.getName())) {
+                ++things;
+            }
+        }
+        assertEquals(1, things);
+
+        things = 0;
+        for (final RecordedEvent event : events("com.thoughtworks.xstream.FieldDictionary")) {
+            if (event.getClass("type").getName().equals(Thing.class.getName())) {
+                assertEquals(1, event.getInt("fields"));
+                ++things;
+            }
+        }
+        assertEquals(1, things);
+    }
+
+    public void testEmitsEventsForDeniedTypes() throws IOException {
+        for (int i = 0; i < 2; ++i) {
+            try {
+                xstream.fromXML("<java.lang.Thread/>");
+                fail("Thrown " + ForbiddenClassException.class.getName() + " expected");
+            } catch (final ForbiddenClassException e) {
+                // OK
+            }
+        }
+
+        final List<RecordedEvent> denials = events("com.thoughtworks.xstream.SecurityDenial");
+        assertEquals(2, denials.size());
+        for (final RecordedEvent event : denials) {
+            assertEquals("java.lang.Thread", event.getString("elementName"));
+            assertEquals("java.lang.Thread", event.getString("typeName"));
+        }
+    }
+
+    public void testReportsTypeOfCachedDenialForAlias() throws IOException {
+        xstream.alias("thread", Thread.class);
+        for (int i = 0; i < 2; ++i) {
+            try {
+                xstream.fromXML("<thread/>");
+                fail("Thrown " + ForbiddenClassException.class.getName() + " expected");
+            } catch (final ForbiddenClassException e) {
+                // OK
+            }
+        }
+
+        final List<RecordedEvent> denials = events("com.thoughtworks.xstream.SecurityDenial");
+        assertEquals(2, denials.size());
+        for (final RecordedEvent event : denials) {
+            assertEquals("thread", event.getString("elementName"));
+            assertEquals("java.lang.Thread", event.getString("typeName"));
+        }
+    }
+
+    private List<RecordedEvent> events(final String name) throws IOException {
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        final File file = File.createTempFile("xstream", ".jfr");
+        try {
+            recording.dump(file.toPath());
+            final List<RecordedEvent> events = new ArrayList<>();
+            for (final RecordedEvent event : RecordingFile.readAllEvents(file.toPath())) {
+                if (event.getEventType().getName().equals(name)) {
+                    events.add(event);
+                }
+            }
+            events.sort((e1, e2) -> e1.getStartTime().compareTo(e2.getStartTime()));
+            return events;
+        } finally {
+            file.delete();
+        }
+    }
+}
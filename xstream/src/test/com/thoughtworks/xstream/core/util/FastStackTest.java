@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004 Joe Walnes.
- * Copyright (C) 2006, 2007, 2018 XStream Committers.
+ * Copyright (C) 2006, 2007, 2018, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -32,4 +32,21 @@ public class FastStackTest extends TestCase {
         assertEquals("a", stack.peek());
         assertEquals("a", stack.pop());
     }
+
+    public void testClearReleasesGrownStack() {
+        final FastStack<String> stack = new FastStack<String>(2);
+        for (int i = 0; i < 1000; ++i) {
+            stack.push("e" + i);
+        }
+        stack.clear();
+        assertEquals(0, stack.size());
+        assertNull(stack.peek());
+
+        stack.push("a");
+        stack.push("b");
+        stack.push("c");
+        assertEquals("c", stack.pop());
+        assertEquals("b", stack.pop());
+        assertEquals("a", stack.pop());
+    }
 }
@@ -31,4 +31,15 @@ public class QuickWriterTest extends TestCase {
             assertEquals(stringWriter.toString(), "Joe Walnes");
         }
     }
+
+    public void testWritesPartsOfStrings() {
+        final StringWriter stringWriter = new StringWriter();
+        try (QuickWriter writer = new QuickWriter(stringWriter, 8)) {
+            writer.write("Joe Walnes", 0, 3);
+            writer.write(' ');
+            writer.write("Mr. Walnes", 4, 6);
+            writer.write("0123456789abcdef", 2, 12);
+        }
+        assertEquals("Joe Walnes23456789abcd", stringWriter.toString());
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+
+public class StringCacheTest extends TestCase {
+
+    public void testIsAMap() {
+        final Map<String, String> map = new StringCache(16);
+        assertEquals(0, map.size());
+        assertNull(map.put("key", "value"));
+        assertEquals(1, map.size());
+        assertEquals("value", map.get("key"));
+        assertEquals("value", map.put("key", "other"));
+        assertEquals("other", map.get("key"));
+        assertTrue(map.containsKey("key"));
+        assertEquals(1, map.entrySet().size());
+        assertEquals("other", map.remove("key"));
+        assertNull(map.get("key"));
+        assertEquals(0, map.size());
+    }
+
+    public void testLooksUpAnyCharSequence() {
+        final StringCache cache = new StringCache(16);
+        cache.put("key", "value");
+        assertEquals("value", cache.lookup(new StringBuilder("key")));
+        assertEquals("value", cache.get(new StringBuilder().append('k').append("ey")));
+        assertNull(cache.lookup(new StringBuilder("kex")));
+        assertNull(cache.get(Integer.valueOf(42)));
+    }
+
+    public void testIsBounded() {
+        final StringCache cache = new StringCache(10);
+        for (int i = 0; i < 1000; ++i) {
+            final String s = String.valueOf(i);
+            cache.put(s, s);
+            assertEquals(s, cache.get(s));
+        }
+        assertTrue(cache.size() <= 16);
+        for (final Map.Entry<String, String> entry : cache.entrySet()) {
+            assertEquals(entry.getKey(), entry.getValue());
+        }
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    public void testConcurrentAccess() throws InterruptedException {
+        final StringCache cache = new StringCache(64);
+        final List<Throwable> failures = new ArrayList<>();
+        final Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; ++t) {
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (int i = 0; i < 10000; ++i) {
+                            final String key = "key" + i % 200;
+                            final String value = cache.get(key);
+                            if (value == null) {
+                                cache.put(key, key.toUpperCase());
+                            } else {
+                                assertEquals(key.toUpperCase(), value);
+                            }
+                        }
+                    } catch (final Throwable e) {
+                        synchronized (failures) {
+                            failures.add(e);
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(failures.toString(), 0, failures.size());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.core.util;
+
+import java.io.StringReader;
+
+import com.thoughtworks.xstream.io.StreamException;
+
+import junit.framework.TestCase;
+
+
+public class XmlFragmentSplitterTest extends TestCase {
+
+    public void testSplitsChildrenOfRootElement() {
+        final XmlFragmentSplitter splitter = new XmlFragmentSplitter(new StringReader(
+            "<?xml version=\"1.0\"?>\n<!-- list -->\n<list class=\"linked-list\">\n  <string>a</string>\n"
+                + "  <null/>\n  <list><int>1</int><list/></list>\n</list>\n"));
+        assertEquals("<list class=\"linked-list\">", splitter.readRoot());
+        assertEquals("list", splitter.getRootName());
+        assertEquals("<string>a</string>", splitter.nextFragment());
+        assertEquals("<null/>", splitter.nextFragment());
+        assertEquals("<list><int>1</int><list/></list>", splitter.nextFragment());
+        assertNull(splitter.nextFragment());
+        assertNull(splitter.nextFragment());
+    }
+
+    public void testKeepsMarkupInQuotesCommentsAndCData() {
+        final String item = "<item a=\"&gt;/>\" b='<x>'><!-- </item> --><![CDATA[</item>]]]]><?pi </item>?>"
+            + "text &amp; more</item>";
+        final XmlFragmentSplitter splitter = new XmlFragmentSplitter(new StringReader("<root>"
+            + item
+            + "<!-- between --><?pi?><item/></root>"));
+        assertEquals(item, splitter.nextFragment());
+        assertEquals("<item/>", splitter.nextFragment());
+        assertNull(splitter.nextFragment());
+    }
+
+    public void testSkipsDocumentTypeDeclaration() {
+        final XmlFragmentSplitter splitter = new XmlFragmentSplitter(new StringReader(
+            "<!DOCTYPE root [<!ELEMENT root ANY><!ATTLIST root a CDATA \">\">]><root:x xmlns:root='urn:x'/>"));
+        assertEquals("<root:x xmlns:root='urn:x'/>", splitter.readRoot());
+        assertEquals("root:x", splitter.getRootName());
+        assertNull(splitter.nextFragment());
+    }
+
+    public void testSplitsFragmentsAcrossBufferBoundaries() {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 10000; ++i) {
+            text.append((char)('a' + i % 26));
+        }
+        final String item = "<string>" + text + "</string>";
+        final XmlFragmentSplitter splitter = new XmlFragmentSplitter(new StringReader("<list>"
+            + item
+            + item
+            + "</list>"));
+        assertEquals(item, splitter.nextFragment());
+        assertEquals(item, splitter.nextFragment());
+        assertNull(splitter.nextFragment());
+    }
+
+    public void testFailsForTruncatedDocument() {
+        final XmlFragmentSplitter splitter = new XmlFragmentSplitter(new StringReader("<list><string>a</str"));
+        try {
+            splitter.nextFragment();
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            // OK
+        }
+    }
+
+    public void testFailsForTextInRootElement() {
+        final XmlFragmentSplitter splitter = new XmlFragmentSplitter(new StringReader("<list>text</list>"));
+        try {
+            splitter.nextFragment();
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            // OK
+        }
+    }
+}
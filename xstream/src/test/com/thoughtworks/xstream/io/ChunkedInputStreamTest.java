@@ -0,0 +1,281 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.XStreamException;
+
+import junit.framework.TestCase;
+
+
+public class ChunkedInputStreamTest extends TestCase {
+
+    private ExecutorService executor;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        executor.shutdownNow();
+        super.tearDown();
+    }
+
+    public void testReadsFedChunks() throws IOException {
+        final ChunkedInputStream in = new ChunkedInputStream();
+        assertTrue(in.feed(ByteBuffer.wrap("012".getBytes(StandardCharsets.US_ASCII))));
+        assertTrue(in.feed(ByteBuffer.wrap("3456".getBytes(StandardCharsets.US_ASCII))));
+        in.complete();
+        assertEquals(7, in.available());
+        final byte[] buffer = new byte[8];
+        assertEquals(3, in.read(buffer));
+        assertEquals('3', in.read());
+        assertEquals(3, in.read(buffer, 1, 7));
+        assertEquals('6', buffer[3]);
+        assertEquals(-1, in.read());
+    }
+
+    public void testTakesNoMoreDataThanCapacity() throws IOException {
+        final ChunkedInputStream in = new ChunkedInputStream(4);
+        final AtomicInteger notifications = new AtomicInteger();
+        in.setWritableListener(new Runnable() {
+            @Override
+            public void run() {
+                notifications.incrementAndGet();
+            }
+        });
+        final ByteBuffer chunk = ByteBuffer.wrap("012345".getBytes(StandardCharsets.US_ASCII));
+        assertFalse(in.feed(chunk));
+        assertEquals(2, chunk.remaining());
+        assertEquals(4, in.getQueuedBytes());
+        assertFalse(in.feed(chunk));
+        assertEquals(2, chunk.remaining());
+        assertEquals(0, notifications.get());
+        assertEquals('0', in.read());
+        assertEquals(1, notifications.get());
+        assertTrue(in.feed(chunk));
+        in.complete();
+        final byte[] buffer = new byte[8];
+        assertEquals(3, in.read(buffer));
+        assertEquals(2, in.read(buffer, 3, 5));
+        assertEquals("12345", new String(buffer, 0, 5, StandardCharsets.US_ASCII));
+        assertEquals(-1, in.read());
+        assertEquals(1, notifications.get());
+    }
+
+    public void testRunsActionWhenReady() {
+        final AtomicInteger runs = new AtomicInteger();
+        final Runnable action = new Runnable() {
+            @Override
+            public void run() {
+                runs.incrementAndGet();
+            }
+        };
+        ChunkedInputStream in = new ChunkedInputStream(4);
+        in.onReady(action);
+        assertTrue(in.feed(ByteBuffer.wrap("012".getBytes(StandardCharsets.US_ASCII))));
+        assertEquals(0, runs.get());
+        assertTrue(in.feed(ByteBuffer.wrap("3".getBytes(StandardCharsets.US_ASCII))));
+        assertEquals(1, runs.get());
+        in.complete();
+        assertEquals(1, runs.get());
+
+        in = new ChunkedInputStream(4);
+        in.onReady(action);
+        in.complete();
+        assertEquals(2, runs.get());
+        try {
+            in.onReady(action);
+            fail("Thrown " + IllegalStateException.class.getName() + " expected");
+        } catch (final IllegalStateException e) {
+            assertEquals(2, runs.get());
+        }
+
+        in = new ChunkedInputStream(4);
+        in.abort(new IllegalStateException("Connection lost"));
+        in.onReady(action);
+        assertEquals(3, runs.get());
+    }
+
+    public void testRejectsDataAfterClose() {
+        final ChunkedInputStream in = new ChunkedInputStream(1);
+        final AtomicInteger notifications = new AtomicInteger();
+        in.setWritableListener(new Runnable() {
+            @Override
+            public void run() {
+                notifications.incrementAndGet();
+            }
+        });
+        final ByteBuffer chunk = ByteBuffer.wrap("01".getBytes(StandardCharsets.US_ASCII));
+        assertFalse(in.feed(chunk));
+        in.close();
+        assertEquals(1, notifications.get());
+        try {
+            in.feed(chunk);
+            fail("Thrown " + IllegalStateException.class.getName() + " expected");
+        } catch (final IllegalStateException e) {
+            assertEquals("Stream closed", e.getMessage());
+        }
+    }
+
+    public void testFailsToFinishWithUnreadData() throws IOException {
+        ChunkedInputStream in = new ChunkedInputStream();
+        in.feed(ByteBuffer.wrap("<a/> \r\n\t".getBytes(StandardCharsets.US_ASCII)));
+        in.feed(ByteBuffer.wrap(" ".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(4, in.read(new byte[4]));
+        in.finish();
+        assertEquals(0, in.available());
+
+        in = new ChunkedInputStream();
+        in.feed(ByteBuffer.wrap("<a/> ".getBytes(StandardCharsets.US_ASCII)));
+        in.feed(ByteBuffer.wrap("<b/>".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(4, in.read(new byte[4]));
+        try {
+            in.finish();
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            assertEquals(0, in.available());
+        }
+        try {
+            in.feed(ByteBuffer.wrap("<c/>".getBytes(StandardCharsets.US_ASCII)));
+            fail("Thrown " + IllegalStateException.class.getName() + " expected");
+        } catch (final IllegalStateException e) {
+            assertEquals("Stream closed", e.getMessage());
+        }
+    }
+
+    public void testUnmarshalsFedData() throws Exception {
+        final XStream xstream = new XStream();
+        xstream.allowTypes(ArrayList.class, String.class);
+        final List<String> list = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            list.add("item " + i);
+        }
+        final byte[] xml = xstream.toXML(list).getBytes(StandardCharsets.UTF_8);
+
+        final ChunkedInputStream in = new ChunkedInputStream();
+        final CompletableFuture<List<String>> future = xstream.fromXMLAsync(in, executor);
+        for (int i = 0; i < xml.length; i += 7) {
+            assertFalse(future.isDone());
+            assertTrue(in.feed(ByteBuffer.wrap(xml, i, Math.min(7, xml.length - i))));
+        }
+        in.complete();
+        assertEquals(list, future.get(10, TimeUnit.SECONDS));
+        try {
+            in.feed(ByteBuffer.wrap(xml));
+            fail("Thrown " + IllegalStateException.class.getName() + " expected");
+        } catch (final IllegalStateException e) {
+            // OK
+        }
+    }
+
+    public void testStartsUnmarshallingWhenStreamIsReady() throws Exception {
+        final XStream xstream = new XStream();
+        xstream.allowTypes(ArrayList.class, String.class);
+        final byte[] xml = xstream.toXML(new ArrayList<>(Arrays.asList("one", "two"))).getBytes(StandardCharsets.UTF_8);
+        final List<Runnable> tasks = new ArrayList<>();
+        final Executor recorder = new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+                tasks.add(command);
+            }
+        };
+
+        final ChunkedInputStream in = new ChunkedInputStream();
+        final CompletableFuture<List<String>> future = xstream.fromXMLAsync(in, recorder);
+        assertTrue(in.feed(ByteBuffer.wrap(xml)));
+        assertEquals(0, tasks.size());
+        in.complete();
+        assertEquals(1, tasks.size());
+        tasks.get(0).run();
+        assertEquals(Arrays.asList("one", "two"), future.getNow(null));
+    }
+
+    public void testUnmarshalsDocumentExceedingCapacity() throws Exception {
+        final XStream xstream = new XStream();
+        xstream.allowTypes(ArrayList.class, String.class);
+        final List<String> list = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            list.add("item " + i);
+        }
+        final ByteBuffer xml = ByteBuffer.wrap(xstream.toXML(list).getBytes(StandardCharsets.UTF_8));
+
+        final ChunkedInputStream in = new ChunkedInputStream(64);
+        final Semaphore writable = new Semaphore(0);
+        in.setWritableListener(new Runnable() {
+            @Override
+            public void run() {
+                writable.release();
+            }
+        });
+        final CompletableFuture<List<String>> future = xstream.fromXMLAsync(in, executor);
+        while (!in.feed(xml)) {
+            assertTrue(in.getQueuedBytes() <= 64);
+            assertTrue(writable.tryAcquire(10, TimeUnit.SECONDS));
+        }
+        in.complete();
+        assertEquals(list, future.get(10, TimeUnit.SECONDS));
+    }
+
+    public void testRejectsDataAfterEndOfDocument() throws Exception {
+        final XStream xstream = new XStream();
+        final ChunkedInputStream in = new ChunkedInputStream(8);
+        final CompletableFuture<Object> future = xstream.fromXMLAsync(in, executor);
+        in.feed(ByteBuffer.wrap("<null/>\n".getBytes(StandardCharsets.US_ASCII)));
+        while (in.getQueuedBytes() > 0) {
+            Thread.sleep(10);
+        }
+        try {
+            // either the task has already finished the stream or it will fail
+            in.feed(ByteBuffer.wrap("<null/>".getBytes(StandardCharsets.US_ASCII)));
+            in.complete();
+            future.get(10, TimeUnit.SECONDS);
+            fail("Thrown " + ExecutionException.class.getName() + " expected");
+        } catch (final IllegalStateException e) {
+            assertEquals("Stream closed", e.getMessage());
+            assertNull(future.get(10, TimeUnit.SECONDS));
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof StreamException);
+        }
+    }
+
+    public void testFailsWithAbortedStream() throws Exception {
+        final XStream xstream = new XStream();
+        final ChunkedInputStream in = new ChunkedInputStream();
+        final CompletableFuture<Object> future = xstream.fromXMLAsync(in, executor);
+        in.feed(ByteBuffer.wrap("<list>".getBytes(StandardCharsets.US_ASCII)));
+        in.abort(new IllegalStateException("Connection lost"));
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("Thrown " + ExecutionException.class.getName() + " expected");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof XStreamException);
+        }
+    }
+}
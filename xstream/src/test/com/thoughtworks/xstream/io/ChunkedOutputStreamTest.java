@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.thoughtworks.xstream.XStream;
+
+import junit.framework.TestCase;
+
+
+public class ChunkedOutputStreamTest extends TestCase {
+
+    public void testPassesDataInChunks() throws Exception {
+        final ChunkedOutputStream out = new ChunkedOutputStream(4, 4, 8);
+        out.write("0123456789".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(8, out.getQueuedBytes());
+        assertEquals("0123", toString(out.take()));
+        out.close();
+        assertEquals("4567", toString(out.take()));
+        assertEquals("89", toString(out.take()));
+        assertNull(out.take());
+        assertTrue(out.isDone());
+    }
+
+    public void testThrottlesProducer() throws Exception {
+        final XStream xstream = new XStream();
+        final List<String> list = new ArrayList<>();
+        for (int i = 0; i < 5000; ++i) {
+            list.add("item " + i);
+        }
+        final ChunkedOutputStream out = new ChunkedOutputStream(256, 1024, 4096);
+        final Thread producer = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    xstream.toXML(list, out);
+                    out.close();
+                } catch (final RuntimeException | IOException e) {
+                    out.abort(e);
+                }
+            }
+        };
+        producer.start();
+
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        for (ByteBuffer chunk = out.take(); chunk != null; chunk = out.take()) {
+            assertTrue(out.getQueuedBytes() <= 4096);
+            result.write(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+            Thread.yield();
+        }
+        producer.join();
+        assertEquals(xstream.toXML(list), new String(result.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    public void testPassesFailureOfProducer() throws Exception {
+        final ChunkedOutputStream out = new ChunkedOutputStream(4, 4, 8);
+        out.write(42);
+        out.abort(new IllegalStateException("Test"));
+        try {
+            out.poll(1, TimeUnit.SECONDS);
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            assertEquals("Test", e.getCause().getMessage());
+        }
+    }
+
+    public void testCancelStopsProducer() throws Exception {
+        final ChunkedOutputStream out = new ChunkedOutputStream(4, 4, 8);
+        out.write(new byte[8]);
+        out.cancel();
+        try {
+            out.write(new byte[4]);
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            // OK
+        }
+    }
+
+    public void testPollTimesOut() throws Exception {
+        final ChunkedOutputStream out = new ChunkedOutputStream(4, 4, 8);
+        assertNull(out.poll(10, TimeUnit.MILLISECONDS));
+        assertFalse(out.isDone());
+    }
+
+    public void testPushesChunksOnDemand() throws Exception {
+        final ChunkedOutputStream out = new ChunkedOutputStream(4, 4, 8);
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        out.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        out.write("0123456789".getBytes(StandardCharsets.US_ASCII));
+        assertEquals("[0123]", subscriber.events.toString());
+        assertEquals(4, out.getQueuedBytes());
+        subscriber.subscription.request(5);
+        assertEquals("[0123, 4567]", subscriber.events.toString());
+        out.close();
+        assertEquals("[0123, 4567, 89, complete]", subscriber.events.toString());
+        assertTrue(out.isDone());
+    }
+
+    public void testPushesFailureOfProducer() throws Exception {
+        final ChunkedOutputStream out = new ChunkedOutputStream(4, 4, 8);
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        out.subscribe(subscriber);
+        out.write(new byte[4]);
+        out.abort(new IllegalStateException("Test"));
+        assertEquals("[error: Test]", subscriber.events.toString());
+    }
+
+    public void testRejectsNonPositiveRequest() throws Exception {
+        final ChunkedOutputStream out = new ChunkedOutputStream(4, 4, 8);
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        out.subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertEquals("[error: Non-positive request 0]", subscriber.events.toString());
+        try {
+            out.write(new byte[4]);
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            // OK
+        }
+    }
+
+    public void testCancelledSubscriptionStopsProducer() throws Exception {
+        final ChunkedOutputStream out = new ChunkedOutputStream(4, 4, 8);
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        out.subscribe(subscriber);
+        subscriber.subscription.cancel();
+        try {
+            out.write(new byte[4]);
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            // OK
+        }
+        assertTrue(subscriber.events.isEmpty());
+    }
+
+    public void testPushesMarshalledDocument() throws Exception {
+        final XStream xstream = new XStream();
+        final List<String> list = new ArrayList<>();
+        for (int i = 0; i < 5000; ++i) {
+            list.add("item " + i);
+        }
+        final ChunkedOutputStream out = new ChunkedOutputStream(256, 1024, 4096);
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        final CountDownLatch done = new CountDownLatch(1);
+        out.subscribe(new ChunkedOutputStream.Subscriber() {
+            private ChunkedOutputStream.Subscription subscription;
+
+            @Override
+            public void onSubscribe(final ChunkedOutputStream.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(2);
+            }
+
+            @Override
+            public void onNext(final ByteBuffer chunk) {
+                result.write(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(final Throwable failure) {
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+        xstream.toXML(list, out);
+        out.close();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(xstream.toXML(list), new String(result.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    public void testDoesNotAllowPullWithSubscriber() throws Exception {
+        final ChunkedOutputStream out = new ChunkedOutputStream(4, 4, 8);
+        out.subscribe(new RecordingSubscriber());
+        try {
+            out.take();
+            fail("Thrown " + IllegalStateException.class.getName() + " expected");
+        } catch (final IllegalStateException e) {
+            // OK
+        }
+    }
+
+    private static class RecordingSubscriber implements ChunkedOutputStream.Subscriber {
+        private final List<String> events = new ArrayList<>();
+        private ChunkedOutputStream.Subscription subscription;
+
+        @Override
+        public void onSubscribe(final ChunkedOutputStream.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final ByteBuffer chunk) {
+            events.add(ChunkedOutputStreamTest.toString(chunk));
+        }
+
+        @Override
+        public void onError(final Throwable failure) {
+            events.add("error: " + failure.getMessage());
+        }
+
+        @Override
+        public void onComplete() {
+            events.add("complete");
+        }
+    }
+
+    private static String toString(final ByteBuffer buffer) {
+        return new String(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(),
+            StandardCharsets.US_ASCII);
+    }
+}
@@ -415,6 +415,17 @@ public class JsonHierarchicalStreamDriverTest extends TestCase {
         assertEquals(expected, xstream.toXML("\u0000\u0001\u001f\u0020\uffee"));
     }
 
+    public void testDoesEscapeLongValues() {
+        final StringBuilder text = new StringBuilder();
+        final StringBuilder escaped = new StringBuilder();
+        for (int i = 0; i < 500; ++i) {
+            text.append("text \"").append(i).append("\"\n");
+            escaped.append("text \\\"").append(i).append("\\\"\\n");
+        }
+        final String expected = normalizeExpectation("{'string': '" + escaped + "'}");
+        assertEquals(expected, xstream.toXML(text.toString()));
+    }
+
     public void testSimpleInteger() {
         final String expected = normalizeExpectation("{'int': 123}");
         assertEquals(expected, xstream.toXML(new Integer(123)));
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.io.xml;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+
+public class XmlFriendlyNameCoderTest extends TestCase {
+
+    public void testEncodesAndDecodesNames() {
+        final XmlFriendlyNameCoder coder = new XmlFriendlyNameCoder();
+        assertEquals("a_-b__c", coder.encodeNode("a$b_c"));
+        assertEquals("a$b_c", coder.decodeNode("a_-b__c"));
+        assertEquals("_.0001x", coder.encodeAttribute("\u0001x"));
+        assertEquals("\u0001x", coder.decodeAttribute("_.0001x"));
+        assertSame("plain", coder.encodeNode("plain"));
+    }
+
+    public void testCloneSharesThreadSafeCaches() {
+        final XmlFriendlyNameCoder coder = new XmlFriendlyNameCoder();
+        final String encoded = coder.encodeNode("Outer$Inner");
+        final String decoded = coder.decodeNode("Outer_-Other");
+        final XmlFriendlyNameCoder clone = (XmlFriendlyNameCoder)coder.clone();
+        assertSame(encoded, clone.encodeNode("Outer$Inner"));
+        assertSame(decoded, clone.decodeNode("Outer_-Other"));
+    }
+
+    public void testCloneDoesNotShareCustomCaches() {
+        final XmlFriendlyNameCoder coder = new XmlFriendlyNameCoder() {
+            @Override
+            protected Map<String, String> createCacheMap() {
+                return new HashMap<>();
+            }
+        };
+        final String encoded = coder.encodeNode("Outer$Inner");
+        final XmlFriendlyNameCoder clone = (XmlFriendlyNameCoder)coder.clone();
+        final String encodedByClone = clone.encodeNode("Outer$Inner");
+        assertEquals(encoded, encodedByClone);
+        assertNotSame(encoded, encodedByClone);
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * Copyright (C) 2004 Joe Walnes.
- * Copyright (C) 2006, 2007, 2015, 2016, 2018, 2019 XStream Committers.
+ * Copyright (C) 2006, 2007, 2015, 2016, 2018, 2019, 2026 XStream Committers.
  * All rights reserved.
  *
  * The software in this package is published under the terms of the BSD
@@ -12,10 +12,16 @@
 package com.thoughtworks.xstream.io.xml;
 
 import java.io.StringReader;
+import java.util.Arrays;
 
 import org.xmlpull.mxp1.MXParser;
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
 
+import com.thoughtworks.xstream.XStream;
 import com.thoughtworks.xstream.XStreamException;
+import com.thoughtworks.xstream.converters.ConversionException;
+import com.thoughtworks.xstream.converters.ErrorWriter;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 
 
@@ -46,5 +52,72 @@ public class XppReaderTest extends AbstractXMLReaderTest {
         }
     }
 
+    public void testRecyclesParserOfClosedReader() throws Exception {
+        final XppDriver driver = new XppDriver();
+        driver.setParserPoolSize(2);
+        final XppReader first = (XppReader)driver.createReader(new StringReader("<a>one</a>"));
+        assertEquals("one", first.getValue());
+        first.close();
+        final XppReader second = (XppReader)driver.createReader(new StringReader("<b attr='x'><c/></b>"));
+        assertSame(first.getParser(), second.getParser());
+        assertEquals("b", second.getNodeName());
+        assertEquals("x", second.getAttribute("attr"));
+        second.moveDown();
+        assertEquals("c", second.getNodeName());
+        second.close();
+        second.close();
+        final XppReader third = (XppReader)driver.createReader(new StringReader("<a/>"));
+        final XppReader fourth = (XppReader)driver.createReader(new StringReader("<a/>"));
+        assertSame(first.getParser(), third.getParser());
+        assertNotSame(third.getParser(), fourth.getParser());
+    }
+
+    public void testRecyclesParserAtEndOfDocument() throws Exception {
+        final XppDriver driver = new XppDriver();
+        driver.setParserPoolSize(1);
+        final XppReader first = (XppReader)driver.createReader(new StringReader("<a>\n<b/>\n</a>"));
+        first.moveDown();
+        first.moveUp();
+        assertFalse(first.hasMoreChildren());
+        final XppReader second = (XppReader)driver.createReader(new StringReader("<c attr='x'/>"));
+        assertSame(first.getParser(), second.getParser());
+        assertFalse(first.hasMoreChildren());
+        assertNull(first.getAttribute("attr"));
+        assertEquals(0, first.getAttributeCount());
+        final ErrorWriter errorWriter = new ConversionException("JUnit");
+        first.appendErrors(errorWriter);
+        assertEquals("3", errorWriter.get("line number"));
+        first.close();
+        assertEquals("x", second.getAttribute("attr"));
+    }
+
+    public void testRecyclesParserForUnclosedReadersOfXStream() {
+        final int[] parsers = new int[1];
+        final XppDriver driver = new XppDriver() {
+            @Override
+            protected XmlPullParser createParser() throws XmlPullParserException {
+                ++parsers[0];
+                return super.createParser();
+            }
+        };
+        driver.setParserPoolSize(1);
+        final XStream xstream = new XStream(driver);
+        xstream.allowTypes(String.class);
+        for (int i = 0; i < 3; ++i) {
+            assertEquals("text " + i, xstream.fromXML("<string>text " + i + "</string>"));
+        }
+        assertEquals(Arrays.asList("one", "two"), xstream.fromXML(new StringReader(
+            "<list><string>one</string><string>two</string></list>")));
+        assertEquals(1, parsers[0]);
+    }
+
+    public void testDoesNotRecycleParserPerDefault() throws Exception {
+        final XppDriver driver = new XppDriver();
+        final XppReader first = (XppReader)driver.createReader(new StringReader("<a/>"));
+        first.close();
+        final XppReader second = (XppReader)driver.createReader(new StringReader("<a/>"));
+        assertNotSame(first.getParser(), second.getParser());
+    }
+
     // inherits tests from superclass
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.mapper;
+
+import com.thoughtworks.acceptance.AbstractAcceptanceTest;
+import com.thoughtworks.acceptance.objects.Software;
+
+
+public class CachingMapperTest extends AbstractAcceptanceTest {
+
+    static class CountingMapper extends MapperWrapper {
+        int serializedMemberCalls;
+        int shouldSerializeMemberCalls;
+
+        CountingMapper(final Mapper wrapped) {
+            super(wrapped);
+        }
+
+        @Override
+        public String serializedMember(final Class<?> type, final String memberName) {
+            ++serializedMemberCalls;
+            return super.serializedMember(type, memberName);
+        }
+
+        @Override
+        public boolean shouldSerializeMember(final Class<?> definedIn, final String fieldName) {
+            ++shouldSerializeMemberCalls;
+            return super.shouldSerializeMember(definedIn, fieldName);
+        }
+    }
+
+    public void testCachesMemberQueries() {
+        final CountingMapper counting = new CountingMapper(xstream.getMapper());
+        final CachingMapper caching = new CachingMapper(counting);
+        for (int i = 0; i < 3; ++i) {
+            assertEquals("vendor", caching.serializedMember(Software.class, "vendor"));
+            assertTrue(caching.shouldSerializeMember(Software.class, "vendor"));
+        }
+        assertEquals(1, counting.serializedMemberCalls);
+        assertEquals(1, counting.shouldSerializeMemberCalls);
+
+        caching.flushCache();
+        assertEquals("vendor", caching.serializedMember(Software.class, "vendor"));
+        assertEquals(2, counting.serializedMemberCalls);
+    }
+
+    public void testCompiledTypesDoNotQueryWrappedMappers() {
+        final CountingMapper counting = new CountingMapper(xstream.getMapper());
+        final CachingMapper caching = new CachingMapper(counting);
+        caching.compile(Software.class);
+        final int serializedMemberCalls = counting.serializedMemberCalls;
+        final int shouldSerializeMemberCalls = counting.shouldSerializeMemberCalls;
+        assertTrue(serializedMemberCalls > 0);
+
+        assertEquals("vendor", caching.serializedMember(Software.class, "vendor"));
+        assertEquals("name", caching.realMember(Software.class, "name"));
+        assertTrue(caching.shouldSerializeMember(Software.class, "name"));
+        assertEquals(serializedMemberCalls, counting.serializedMemberCalls);
+        assertEquals(shouldSerializeMemberCalls, counting.shouldSerializeMemberCalls);
+    }
+
+    public void testCompiledMappingsRespectConfiguration() {
+        xstream.alias("program", Software.class);
+        xstream.aliasField("producer", Software.class, "vendor");
+        xstream.compileMappings(Software.class);
+        final Software in = new Software("ms", "word");
+        final String xml = ""
+            + "<program>\n"
+            + "  <producer>ms</producer>\n"
+            + "  <name>word</name>\n"
+            + "</program>";
+        assertBothWays(in, xml);
+    }
+
+    public void testConfigurationChangesFlushCache() {
+        final Software in = new Software("ms", "word");
+        xstream.alias("software", Software.class);
+        assertEquals(""
+            + "<software>\n"
+            + "  <vendor>ms</vendor>\n"
+            + "  <name>word</name>\n"
+            + "</software>", xstream.toXML(in));
+
+        xstream.aliasField("producer", Software.class, "vendor");
+        xstream.omitField(Software.class, "name");
+        xstream.alias("program", Software.class);
+        assertEquals(""
+            + "<program>\n"
+            + "  <producer>ms</producer>\n"
+            + "</program>", xstream.toXML(in));
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.persistence;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.thoughtworks.xstream.io.StreamException;
+
+import junit.framework.TestCase;
+
+
+public class CachingPersistenceStrategyTest extends TestCase {
+    private MockedStrategy strategy;
+    private List<Runnable> tasks;
+    private Executor executor;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        strategy = new MockedStrategy();
+        tasks = new ArrayList<>();
+        executor = new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+                tasks.add(command);
+            }
+        };
+    }
+
+    public void testCachesReadValues() {
+        strategy.map.put("guilherme", "silveira");
+        final CachingPersistenceStrategy<String, String> caching = new CachingPersistenceStrategy<>(strategy, 10);
+        assertEquals("silveira", caching.get("guilherme"));
+        assertEquals("silveira", caching.get("guilherme"));
+        assertEquals(1, strategy.reads);
+    }
+
+    public void testWritesSynchronouslyWithoutExecutor() {
+        final CachingPersistenceStrategy<String, String> caching = new CachingPersistenceStrategy<>(strategy, 10);
+        assertNull(caching.put("guilherme", "silveira"));
+        assertEquals("silveira", strategy.map.get("guilherme"));
+        assertEquals("silveira", caching.get("guilherme"));
+        assertEquals(0, strategy.reads);
+        assertEquals("silveira", caching.put("guilherme", "de azevedo"));
+        assertEquals("de azevedo", caching.remove("guilherme"));
+        assertEquals(0, strategy.reads);
+    }
+
+    public void testEvictsLeastRecentlyUsedValues() {
+        strategy.map.put("a", "1");
+        strategy.map.put("b", "2");
+        strategy.map.put("c", "3");
+        final CachingPersistenceStrategy<String, String> caching = new CachingPersistenceStrategy<>(strategy, 2);
+        caching.get("a");
+        caching.get("b");
+        caching.get("a");
+        caching.get("c");
+        strategy.reads = 0;
+        caching.get("a");
+        caching.get("c");
+        assertEquals(0, strategy.reads);
+        caching.get("b");
+        assertEquals(1, strategy.reads);
+    }
+
+    public void testEvictsByWeight() {
+        strategy.map.put("a", "12345");
+        strategy.map.put("b", "123");
+        final CachingPersistenceStrategy<String, String> caching = new CachingPersistenceStrategy<>(strategy, 6,
+            new CachingPersistenceStrategy.Weigher<String, String>() {
+                @Override
+                public int weigh(final String key, final String value) {
+                    return value.length();
+                }
+            }, null);
+        caching.get("a");
+        caching.get("b");
+        strategy.reads = 0;
+        caching.get("b");
+        assertEquals(0, strategy.reads);
+        caching.get("a");
+        assertEquals(1, strategy.reads);
+    }
+
+    public void testCoalescesWritesInBackground() {
+        final CachingPersistenceStrategy<String, String> caching = new CachingPersistenceStrategy<>(strategy, 10,
+            executor);
+        caching.put("guilherme", "silveira");
+        caching.put("guilherme", "de azevedo");
+        caching.put("joe", "walnes");
+        caching.remove("joe");
+        assertEquals(0, strategy.writes);
+        assertEquals(1, tasks.size());
+        assertEquals("de azevedo", caching.get("guilherme"));
+        assertNull(caching.get("joe"));
+        tasks.get(0).run();
+        assertEquals(1, strategy.writes);
+        assertEquals("de azevedo", strategy.map.get("guilherme"));
+        assertFalse(strategy.map.containsKey("joe"));
+    }
+
+    public void testDoesNotReadUncachedValueOnModificationInBackground() {
+        strategy.map.put("guilherme", "silveira");
+        strategy.map.put("joe", "walnes");
+        final CachingPersistenceStrategy<String, String> caching = new CachingPersistenceStrategy<>(strategy, 10,
+            executor);
+        assertNull(caching.put("guilherme", "de azevedo"));
+        assertNull(caching.remove("joe"));
+        assertEquals(0, strategy.reads);
+        assertEquals("de azevedo", caching.put("guilherme", "silveira"));
+        assertEquals("silveira", caching.remove("guilherme"));
+        assertEquals(0, strategy.reads);
+        tasks.get(0).run();
+        assertNull(caching.get("guilherme"));
+        assertTrue(strategy.map.isEmpty());
+    }
+
+    public void testWritesSynchronouslyIfExecutorRejectsTask() {
+        final boolean[] reject = {true};
+        final CachingPersistenceStrategy<String, String> caching = new CachingPersistenceStrategy<>(strategy, 10,
+            new Executor() {
+                @Override
+                public void execute(final Runnable command) {
+                    if (reject[0]) {
+                        throw new RejectedExecutionException("shut down");
+                    }
+                    tasks.add(command);
+                }
+            });
+        caching.put("guilherme", "silveira");
+        assertEquals("silveira", strategy.map.get("guilherme"));
+        reject[0] = false;
+        caching.put("joe", "walnes");
+        assertEquals(1, tasks.size());
+        assertFalse(strategy.map.containsKey("joe"));
+        tasks.get(0).run();
+        assertEquals("walnes", strategy.map.get("joe"));
+    }
+
+    public void testFlushesPendingModificationsExplicitly() {
+        final CachingPersistenceStrategy<String, String> caching = new CachingPersistenceStrategy<>(strategy, 10,
+            executor);
+        caching.put("guilherme", "silveira");
+        caching.flush();
+        assertEquals("silveira", strategy.map.get("guilherme"));
+        caching.put("joe", "walnes");
+        assertEquals(2, tasks.size());
+    }
+
+    public void testFlushesPendingModificationsOnClose() {
+        final CachingPersistenceStrategy<String, String> caching = new CachingPersistenceStrategy<>(strategy, 10,
+            executor);
+        caching.put("guilherme", "silveira");
+        caching.close();
+        assertEquals("silveira", strategy.map.get("guilherme"));
+        caching.put("joe", "walnes");
+        assertEquals("walnes", strategy.map.get("joe"));
+        assertEquals(1, tasks.size());
+    }
+
+    public void testSizeAndIterationIncludePendingModifications() {
+        strategy.map.put("joe", "walnes");
+        final CachingPersistenceStrategy<String, String> caching = new CachingPersistenceStrategy<>(strategy, 10,
+            executor);
+        caching.put("guilherme", "silveira");
+        caching.remove("joe");
+        assertEquals(1, caching.size());
+        final Iterator<Map.Entry<String, String>> iter = caching.iterator();
+        final Map.Entry<String, String> entry = iter.next();
+        assertEquals("guilherme", entry.getKey());
+        assertEquals("silveira", entry.getValue());
+        iter.remove();
+        assertFalse(iter.hasNext());
+        assertNull(caching.get("guilherme"));
+    }
+
+    public void testIteratorRemoveDropsPendingModification() {
+        strategy.map.put("guilherme", "silveira");
+        final CachingPersistenceStrategy<String, String> caching = new CachingPersistenceStrategy<>(strategy, 10,
+            executor);
+        final Iterator<Map.Entry<String, String>> iter = caching.iterator();
+        assertEquals("guilherme", iter.next().getKey());
+        caching.put("guilherme", "de azevedo");
+        iter.remove();
+        assertNull(caching.get("guilherme"));
+        tasks.get(0).run();
+        assertFalse(strategy.map.containsKey("guilherme"));
+    }
+
+    public void testRethrowsFailureOfBackgroundWriteOnFlush() {
+        final CachingPersistenceStrategy<String, String> caching = new CachingPersistenceStrategy<>(strategy, 10,
+            executor);
+        caching.put("guilherme", "silveira");
+        strategy.failure = new StreamException("disk full");
+        tasks.get(0).run();
+        strategy.failure = null;
+        try {
+            caching.flush();
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            assertEquals("disk full", e.getMessage());
+        }
+        assertEquals("silveira", strategy.map.get("guilherme"));
+        caching.flush();
+    }
+
+    public void testRethrowsFailureOfBackgroundWriteOnClose() {
+        final CachingPersistenceStrategy<String, String> caching = new CachingPersistenceStrategy<>(strategy, 10,
+            executor);
+        caching.put("guilherme", "silveira");
+        strategy.failure = new StreamException("disk full");
+        tasks.get(0).run();
+        strategy.failure = null;
+        try {
+            caching.close();
+            fail("Thrown " + StreamException.class.getName() + " expected");
+        } catch (final StreamException e) {
+            assertEquals("disk full", e.getMessage());
+        }
+    }
+
+    public void testDoesNotCacheValueReplacedByConcurrentPut() throws InterruptedException {
+        strategy.map.put("guilherme", "silveira");
+        final CachingPersistenceStrategy<String, String> caching = new CachingPersistenceStrategy<>(strategy, 10);
+        final CountDownLatch reading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        strategy.reading = reading;
+        strategy.release = release;
+        final Thread reader = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                caching.get("guilherme");
+            }
+        });
+        reader.start();
+        reading.await();
+        strategy.reading = null;
+        strategy.release = null;
+        final Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                caching.put("guilherme", "de azevedo");
+            }
+        });
+        writer.start();
+        writer.join(100);
+        release.countDown();
+        reader.join();
+        writer.join();
+        assertEquals("de azevedo", strategy.map.get("guilherme"));
+        assertEquals("de azevedo", caching.get("guilherme"));
+    }
+
+    private static class MockedStrategy implements PersistenceStrategy<String, String> {
+
+        private final Map<String, String> map = new HashMap<>();
+        private int reads;
+        private int writes;
+        private volatile RuntimeException failure;
+        private volatile CountDownLatch reading;
+        private volatile CountDownLatch release;
+
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+            return map.entrySet().iterator();
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public String get(final Object key) {
+            ++reads;
+            final String value = map.get(key);
+            final CountDownLatch reading = this.reading;
+            final CountDownLatch release = this.release;
+            if (reading != null) {
+                reading.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public String put(final String key, final String value) {
+            if (failure != null) {
+                throw failure;
+            }
+            ++writes;
+            return map.put(key, value);
+        }
+
+        @Override
+        public String remove(final Object key) {
+            return map.remove(key);
+        }
+
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2026 XStream Committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ *
+ * Created on 19. October 2026 by XStream Committers
+ */
+package com.thoughtworks.xstream.persistence;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+
+public class XmlIndexedListTest extends TestCase {
+    private MockedStrategy<Long, String> elements;
+    private MockedStrategy<String, long[]> index;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        elements = new MockedStrategy<>();
+        index = new MockedStrategy<>();
+    }
+
+    public void testWritesASingleObject() {
+        final XmlIndexedList<String> xmlList = new XmlIndexedList<>(elements, index);
+        xmlList.add("guilherme");
+        assertTrue(elements.map.containsValue("guilherme"));
+        assertEquals(1, xmlList.size());
+        assertEquals("guilherme", xmlList.get(0));
+    }
+
+    public void testWritesASingleObjectInANegativePosition() {
+        final XmlIndexedList<String> xmlList = new XmlIndexedList<>(elements, index);
+        try {
+            xmlList.add(-1, "guilherme");
+            fail();
+        } catch (final IndexOutOfBoundsException ex) {
+            // ok
+        }
+    }
+
+    public void testWritesASecondObjectInAPositionHigherThanTheListsSize() {
+        final XmlIndexedList<String> xmlList = new XmlIndexedList<>(elements, index);
+        try {
+            xmlList.add("silveira");
+            xmlList.add(3, "guilherme");
+            fail();
+        } catch (final IndexOutOfBoundsException ex) {
+            // ok
+        }
+    }
+
+    public void testInsertsAtHeadWithoutRewritingOtherElements() {
+        final XmlIndexedList<String> xmlList = new XmlIndexedList<>(elements, index);
+        xmlList.add("guilherme");
+        xmlList.add("silveira");
+        elements.writes = 0;
+        xmlList.add(0, "de azevedo");
+        assertEquals(1, elements.writes);
+        assertEquals(Arrays.asList("de azevedo", "guilherme", "silveira"), xmlList);
+    }
+
+    public void testRemovesFromHeadWithoutRewritingOtherElements() {
+        final XmlIndexedList<String> xmlList = new XmlIndexedList<>(elements, index);
+        xmlList.addAll(Arrays.asList("guilherme", "de azevedo", "silveira"));
+        elements.writes = 0;
+        assertEquals("guilherme", xmlList.remove(0));
+        assertEquals(0, elements.writes);
+        assertEquals(2, elements.map.size());
+        assertEquals(Arrays.asList("de azevedo", "silveira"), xmlList);
+    }
+
+    public void testAddsAllInTheMiddleOfTheList() {
+        final XmlIndexedList<String> xmlList = new XmlIndexedList<>(elements, index);
+        xmlList.add("guilherme");
+        xmlList.add("silveira");
+        index.writes = 0;
+        xmlList.addAll(1, Arrays.asList("de", "azevedo"));
+        assertEquals(1, index.writes);
+        assertEquals(Arrays.asList("guilherme", "de", "azevedo", "silveira"), xmlList);
+    }
+
+    public void testRemovesRangeWithoutReadingElements() {
+        final XmlIndexedList<String> xmlList = new XmlIndexedList<>(elements, index);
+        xmlList.addAll(Arrays.asList("a", "b", "c", "d", "e"));
+        elements.reads = 0;
+        xmlList.subList(1, 4).clear();
+        assertEquals(0, elements.reads);
+        assertEquals(2, elements.map.size());
+        assertEquals(Arrays.asList("a", "e"), xmlList);
+    }
+
+    public void testClearsItsObjects() {
+        final XmlIndexedList<String> xmlList = new XmlIndexedList<>(elements, index);
+        xmlList.add("guilherme");
+        xmlList.add("silveira");
+        xmlList.clear();
+        assertEquals(0, xmlList.size());
+        assertTrue(elements.map.isEmpty());
+        assertEquals(0, index.map.get("index").length);
+    }
+
+    public void testReplacesAnObject() {
+        final XmlIndexedList<String> xmlList = new XmlIndexedList<>(elements, index);
+        xmlList.add("guilherme");
+        assertEquals("guilherme", xmlList.set(0, "silveira"));
+        assertEquals("silveira", xmlList.get(0));
+        assertEquals(1, elements.map.size());
+    }
+
+    public void testRemovesAnItemThroughIteration() {
+        final XmlIndexedList<String> xmlList = new XmlIndexedList<>(elements, index);
+        xmlList.add("guilherme");
+        xmlList.add("silveira");
+        for (final Iterator<String> iter = xmlList.iterator(); iter.hasNext();) {
+            final Object entry = iter.next();
+            if (entry.equals("guilherme")) {
+                iter.remove();
+            }
+        }
+        assertEquals(Arrays.asList("silveira"), xmlList);
+    }
+
+    public void testRestoresOrderWithAnotherInstance() {
+        final XmlIndexedList<String> xmlList = new XmlIndexedList<>(elements, index);
+        xmlList.add("silveira");
+        xmlList.add(0, "guilherme");
+        xmlList.remove(1);
+        xmlList.add("de azevedo");
+        final XmlIndexedList<String> built = new XmlIndexedList<>(elements, index);
+        assertEquals(Arrays.asList("guilherme", "de azevedo"), built);
+        built.add(1, "silveira");
+        assertEquals(3, elements.map.size());
+        assertEquals(Arrays.asList("guilherme", "silveira", "de azevedo"), built);
+    }
+
+    private static class MockedStrategy<K, V> implements PersistenceStrategy<K, V> {
+
+        private final Map<K, V> map = new HashMap<>();
+        private int reads;
+        private int writes;
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return map.entrySet().iterator();
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public V get(final Object key) {
+            ++reads;
+            return map.get(key);
+        }
+
+        @Override
+        public V put(final K key, final V value) {
+            ++writes;
+            return map.put(key, value);
+        }
+
+        @Override
+        public V remove(final Object key) {
+            return map.remove(key);
+        }
+
+    }
+
+}